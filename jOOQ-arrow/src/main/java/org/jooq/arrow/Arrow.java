@@ -0,0 +1,296 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.arrow;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.Converter;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Fields;
+import org.jooq.Loader;
+import org.jooq.Record;
+import org.jooq.exception.IOException;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utilities to exchange jOOQ results with the
+ * <a href="https://arrow.apache.org">Apache Arrow</a> columnar format.
+ * <p>
+ * {@link #write(Cursor, OutputStream)} streams a {@link Cursor} into an Arrow
+ * IPC stream one record batch at a time, so at most one batch of records is
+ * held in memory. {@link #records(DSLContext, ArrowReader)} reads an Arrow IPC
+ * stream back as a {@link Stream} of {@link Record}, e.g. to be loaded using
+ * the {@link Loader} API:
+ * <p>
+ * <pre><code>
+ * try (Stream&lt;Record&gt; stream = Arrow.records(ctx, inputStream)) {
+ *     ctx.loadInto(BOOK)
+ *        .loadRecords(stream)
+ *        .fieldsCorresponding()
+ *        .execute();
+ * }
+ * </code></pre>
+ * <p>
+ * Columns are mapped by their database type, after applying any
+ * {@link Converter}. Numeric, boolean, binary and temporal types map to their
+ * Arrow counterparts. Decimals without a known precision and scale, and all
+ * other types, are written as UTF-8 strings.
+ */
+public final class Arrow {
+
+    /**
+     * The default number of rows per Arrow record batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    /**
+     * Get the Arrow {@link Schema} corresponding to a set of jOOQ fields.
+     */
+    @NotNull
+    public static final Schema schema(Fields fields) {
+        return ArrowTypes.schema(fields);
+    }
+
+    /**
+     * Get the jOOQ fields corresponding to an Arrow {@link Schema}.
+     */
+    @NotNull
+    public static final Field<?>[] fields(Schema schema) {
+        return ArrowTypes.fields(schema);
+    }
+
+    /**
+     * Write the remaining records of a {@link Cursor} to an Arrow IPC stream,
+     * using {@link #DEFAULT_BATCH_SIZE}.
+     * <p>
+     * Neither the cursor nor the output stream are closed by this method.
+     */
+    @Blocking
+    public static final void write(Cursor<? extends Record> cursor, OutputStream out) {
+        write(cursor, out, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Write the remaining records of a {@link Cursor} to an Arrow IPC stream,
+     * in record batches of up to <code>batchSize</code> rows.
+     * <p>
+     * Neither the cursor nor the output stream are closed by this method.
+     */
+    @Blocking
+    public static final void write(Cursor<? extends Record> cursor, OutputStream out, int batchSize) {
+        try (BufferAllocator allocator = new RootAllocator()) {
+            write(cursor, out, allocator, batchSize);
+        }
+    }
+
+    /**
+     * Write the remaining records of a {@link Cursor} to an Arrow IPC stream,
+     * in record batches of up to <code>batchSize</code> rows, allocating
+     * vectors from a user provided {@link BufferAllocator}.
+     * <p>
+     * Neither the cursor nor the output stream are closed by this method.
+     */
+    @Blocking
+    @SuppressWarnings("unchecked")
+    public static final void write(Cursor<? extends Record> cursor, OutputStream out, BufferAllocator allocator, int batchSize) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+
+        Field<?>[] fields = cursor.fields();
+        Converter<Object, Object>[] converters = new Converter[fields.length];
+
+        for (int i = 0; i < fields.length; i++)
+            converters[i] = (Converter<Object, Object>) fields[i].getDataType().getConverter();
+
+        try (
+            VectorSchemaRoot root = VectorSchemaRoot.create(schema(cursor), allocator);
+            ArrowStreamWriter writer = new ArrowStreamWriter(root, null, out)
+        ) {
+            ArrowTypes.ColumnWriter[] writers = new ArrowTypes.ColumnWriter[fields.length];
+            for (int i = 0; i < fields.length; i++)
+                writers[i] = ArrowTypes.writer(root.getVector(i));
+
+            writer.start();
+
+            Iterator<? extends Record> it = cursor.iterator();
+            while (it.hasNext()) {
+                root.allocateNew();
+                int rows = 0;
+
+                for (; rows < batchSize && it.hasNext(); rows++) {
+                    Record record = it.next();
+
+                    for (int i = 0; i < fields.length; i++) {
+                        Object value = converters[i].to(record.get(i));
+
+                        if (value == null)
+                            root.getVector(i).setNull(rows);
+                        else
+                            writers[i].write(rows, value);
+                    }
+                }
+
+                root.setRowCount(rows);
+                writer.writeBatch();
+            }
+
+            writer.end();
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Error while writing Arrow stream", e);
+        }
+    }
+
+    /**
+     * Read an Arrow IPC stream as a {@link Stream} of {@link Record}.
+     * <p>
+     * The resulting stream must be closed in order to release the Arrow
+     * buffers. Closing it does not close the input stream.
+     */
+    @NotNull
+    public static final Stream<Record> records(DSLContext ctx, InputStream in) {
+        BufferAllocator allocator = new RootAllocator();
+        ArrowStreamReader reader = new ArrowStreamReader(in, allocator);
+
+        return records(ctx, reader).onClose(() -> {
+            try {
+                reader.close(false);
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Error while closing Arrow stream", e);
+            }
+            finally {
+                allocator.close();
+            }
+        });
+    }
+
+    /**
+     * Read the batches of an {@link ArrowReader} as a {@link Stream} of
+     * {@link Record}.
+     * <p>
+     * Records are produced lazily, one batch at a time. Closing the resulting
+     * stream does not close the reader.
+     */
+    @NotNull
+    public static final Stream<Record> records(DSLContext ctx, ArrowReader reader) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new RecordIterator(ctx, reader), 0), false);
+    }
+
+    /**
+     * A lazy iterator over the rows of all batches of an {@link ArrowReader}.
+     */
+    private static final class RecordIterator implements Iterator<Record> {
+
+        private final DSLContext                ctx;
+        private final ArrowReader               reader;
+        private Field<?>[]                      fields;
+        private ArrowTypes.ColumnReader[]       readers;
+        private int                             rows;
+        private int                             row;
+
+        RecordIterator(DSLContext ctx, ArrowReader reader) {
+            this.ctx = ctx;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (row >= rows) {
+                    if (!reader.loadNextBatch())
+                        return false;
+
+                    VectorSchemaRoot root = reader.getVectorSchemaRoot();
+
+                    // The vectors of an ArrowReader are reused across batches
+                    if (readers == null) {
+                        fields = fields(root.getSchema());
+                        readers = new ArrowTypes.ColumnReader[fields.length];
+
+                        for (int i = 0; i < fields.length; i++)
+                            readers[i] = ArrowTypes.reader(root.getVector(i));
+                    }
+
+                    rows = root.getRowCount();
+                    row = 0;
+                }
+
+                return true;
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Error while reading Arrow stream", e);
+            }
+        }
+
+        @Override
+        public Record next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            Object[] values = new Object[readers.length];
+            for (int i = 0; i < values.length; i++)
+                values[i] = readers[i].read(row);
+
+            row++;
+            Record result = ctx.newRecord(fields);
+            result.fromArray(values);
+            result.changed(false);
+            return result;
+        }
+    }
+
+    private Arrow() {}
+}
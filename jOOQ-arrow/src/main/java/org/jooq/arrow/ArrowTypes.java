@@ -0,0 +1,354 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.arrow;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Converter;
+import org.jooq.DataType;
+import org.jooq.Fields;
+import org.jooq.impl.SQLDataType;
+import org.jooq.tools.Convert;
+import org.jooq.types.UByte;
+import org.jooq.types.UInteger;
+import org.jooq.types.ULong;
+import org.jooq.types.UShort;
+
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DateMilliVector;
+import org.apache.arrow.vector.Decimal256Vector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.LargeVarBinaryVector;
+import org.apache.arrow.vector.LargeVarCharVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeMilliVector;
+import org.apache.arrow.vector.TimeNanoVector;
+import org.apache.arrow.vector.TimeSecVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.UInt1Vector;
+import org.apache.arrow.vector.UInt2Vector;
+import org.apache.arrow.vector.UInt4Vector;
+import org.apache.arrow.vector.UInt8Vector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * The mapping between jOOQ {@link DataType} and Arrow {@link ArrowType}, and
+ * the per column value accessors used by {@link Arrow}.
+ * <p>
+ * Types are mapped by their database representation, i.e. by
+ * {@link DataType#getFromType()}, after applying any {@link Converter}. Types
+ * that have no native Arrow representation are written as their
+ * {@link String} representation.
+ */
+final class ArrowTypes {
+
+    private static final ArrowType UTF8                    = ArrowType.Utf8.INSTANCE;
+    private static final ArrowType TIMESTAMP               = new ArrowType.Timestamp(TimeUnit.MICROSECOND, null);
+    private static final ArrowType TIMESTAMP_WITH_TIMEZONE = new ArrowType.Timestamp(TimeUnit.MICROSECOND, "UTC");
+
+    /**
+     * The maximum precision of a 128 bit Arrow decimal.
+     */
+    private static final int       MAX_DECIMAL_PRECISION   = 38;
+
+    // -------------------------------------------------------------------------
+    // Schema mapping
+    // -------------------------------------------------------------------------
+
+    static final Schema schema(Fields fields) {
+        List<Field> result = new ArrayList<>(fields.fields().length);
+
+        for (org.jooq.Field<?> field : fields.fields())
+            result.add(new Field(field.getName(), FieldType.nullable(arrowType(field.getDataType())), null));
+
+        return new Schema(result);
+    }
+
+    static final ArrowType arrowType(DataType<?> type) {
+        Class<?> t = type.getFromType();
+
+        if (t == Boolean.class)
+            return ArrowType.Bool.INSTANCE;
+        else if (t == Byte.class)
+            return new ArrowType.Int(8, true);
+        else if (t == Short.class || t == UByte.class)
+            return new ArrowType.Int(16, true);
+        else if (t == Integer.class || t == UShort.class)
+            return new ArrowType.Int(32, true);
+        else if (t == Long.class || t == UInteger.class)
+            return new ArrowType.Int(64, true);
+        else if (t == ULong.class)
+            return new ArrowType.Decimal(20, 0, 128);
+        else if (t == BigInteger.class)
+            return new ArrowType.Decimal(MAX_DECIMAL_PRECISION, 0, 128);
+        else if (t == Float.class)
+            return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+        else if (t == Double.class)
+            return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+
+        // Decimals without a known precision and scale can't be represented
+        // losslessly by a fixed scale Arrow decimal
+        else if (t == BigDecimal.class)
+            return type.precisionDefined() && type.scaleDefined() && type.precision() <= MAX_DECIMAL_PRECISION
+                 ? new ArrowType.Decimal(type.precision(), type.scale(), 128)
+                 : UTF8;
+        else if (t == byte[].class)
+            return ArrowType.Binary.INSTANCE;
+        else if (t == LocalDate.class || t == java.sql.Date.class)
+            return new ArrowType.Date(DateUnit.DAY);
+        else if (t == LocalTime.class || t == java.sql.Time.class)
+            return new ArrowType.Time(TimeUnit.MICROSECOND, 64);
+        else if (t == LocalDateTime.class || t == java.sql.Timestamp.class)
+            return TIMESTAMP;
+        else if (t == OffsetDateTime.class || t == Instant.class)
+            return TIMESTAMP_WITH_TIMEZONE;
+        else
+            return UTF8;
+    }
+
+    static final org.jooq.Field<?>[] fields(Schema schema) {
+        List<Field> fields = schema.getFields();
+        org.jooq.Field<?>[] result = new org.jooq.Field[fields.size()];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = field(name(fields.get(i).getName()), dataType(fields.get(i).getType()));
+
+        return result;
+    }
+
+    static final DataType<?> dataType(ArrowType type) {
+        if (type instanceof ArrowType.Bool)
+            return SQLDataType.BOOLEAN;
+
+        if (type instanceof ArrowType.Int t) {
+            switch (t.getBitWidth()) {
+                case 8:  return t.getIsSigned() ? SQLDataType.TINYINT : SQLDataType.SMALLINT;
+                case 16: return t.getIsSigned() ? SQLDataType.SMALLINT : SQLDataType.INTEGER;
+                case 32: return t.getIsSigned() ? SQLDataType.INTEGER : SQLDataType.BIGINT;
+                default: return t.getIsSigned() ? SQLDataType.BIGINT : SQLDataType.DECIMAL_INTEGER;
+            }
+        }
+
+        if (type instanceof ArrowType.FloatingPoint t)
+            return t.getPrecision() == FloatingPointPrecision.DOUBLE ? SQLDataType.DOUBLE : SQLDataType.REAL;
+        else if (type instanceof ArrowType.Decimal t)
+            return SQLDataType.DECIMAL(t.getPrecision(), t.getScale());
+        else if (type instanceof ArrowType.Utf8 || type instanceof ArrowType.LargeUtf8)
+            return SQLDataType.VARCHAR;
+        else if (type instanceof ArrowType.Binary || type instanceof ArrowType.LargeBinary || type instanceof ArrowType.FixedSizeBinary)
+            return SQLDataType.VARBINARY;
+        else if (type instanceof ArrowType.Date)
+            return SQLDataType.LOCALDATE;
+        else if (type instanceof ArrowType.Time)
+            return SQLDataType.LOCALTIME;
+        else if (type instanceof ArrowType.Timestamp t)
+            return t.getTimezone() == null ? SQLDataType.LOCALDATETIME : SQLDataType.OFFSETDATETIME;
+        else
+            return SQLDataType.OTHER;
+    }
+
+    // -------------------------------------------------------------------------
+    // Writing values
+    // -------------------------------------------------------------------------
+
+    @FunctionalInterface
+    interface ColumnWriter {
+
+        /**
+         * Write a non-<code>null</code> value to a row of the vector.
+         */
+        void write(int row, Object value);
+    }
+
+    static final ColumnWriter writer(FieldVector vector) {
+        if (vector instanceof BitVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, Boolean.class) ? 1 : 0);
+        else if (vector instanceof TinyIntVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, Byte.class));
+        else if (vector instanceof SmallIntVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, Short.class));
+        else if (vector instanceof IntVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, Integer.class));
+        else if (vector instanceof BigIntVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, Long.class));
+        else if (vector instanceof Float4Vector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, Float.class));
+        else if (vector instanceof Float8Vector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, Double.class));
+        else if (vector instanceof DecimalVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, BigDecimal.class).setScale(v.getScale(), RoundingMode.HALF_EVEN));
+        else if (vector instanceof VarBinaryVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, byte[].class));
+        else if (vector instanceof DateDayVector v)
+            return (i, o) -> v.setSafe(i, Math.toIntExact(Convert.convert(o, LocalDate.class).toEpochDay()));
+        else if (vector instanceof TimeMicroVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, LocalTime.class).toNanoOfDay() / 1000L);
+        else if (vector instanceof TimeStampVector v)
+            return ((ArrowType.Timestamp) v.getField().getType()).getTimezone() == null
+                ? (i, o) -> v.setSafe(i, micros(Convert.convert(o, LocalDateTime.class).toInstant(ZoneOffset.UTC)))
+                : (i, o) -> v.setSafe(i, micros(o instanceof Instant x ? x : Convert.convert(o, OffsetDateTime.class).toInstant()));
+        else if (vector instanceof VarCharVector v)
+            return (i, o) -> v.setSafe(i, Convert.convert(o, String.class).getBytes(UTF_8));
+        else
+            throw new UnsupportedOperationException("Unsupported vector type: " + vector.getClass());
+    }
+
+    private static final long micros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000L);
+    }
+
+    // -------------------------------------------------------------------------
+    // Reading values
+    // -------------------------------------------------------------------------
+
+    @FunctionalInterface
+    interface ColumnReader {
+
+        /**
+         * Read the value of a row of the vector, or <code>null</code>.
+         */
+        Object read(int row);
+    }
+
+    static final ColumnReader reader(FieldVector vector) {
+        if (vector instanceof BitVector v)
+            return i -> v.isNull(i) ? null : v.get(i) != 0;
+        else if (vector instanceof TinyIntVector v)
+            return i -> v.isNull(i) ? null : v.get(i);
+        else if (vector instanceof SmallIntVector v)
+            return i -> v.isNull(i) ? null : v.get(i);
+        else if (vector instanceof IntVector v)
+            return i -> v.isNull(i) ? null : v.get(i);
+        else if (vector instanceof BigIntVector v)
+            return i -> v.isNull(i) ? null : v.get(i);
+        else if (vector instanceof UInt1Vector v)
+            return i -> v.isNull(i) ? null : v.getObjectNoOverflow(i);
+        else if (vector instanceof UInt2Vector v)
+            return i -> v.isNull(i) ? null : (int) v.get(i);
+        else if (vector instanceof UInt4Vector v)
+            return i -> v.isNull(i) ? null : v.getObjectNoOverflow(i);
+        else if (vector instanceof UInt8Vector v)
+            return i -> v.isNull(i) ? null : new BigDecimal(v.getObjectNoOverflow(i));
+        else if (vector instanceof Float4Vector v)
+            return i -> v.isNull(i) ? null : v.get(i);
+        else if (vector instanceof Float8Vector v)
+            return i -> v.isNull(i) ? null : v.get(i);
+        else if (vector instanceof DecimalVector v)
+            return v::getObject;
+        else if (vector instanceof Decimal256Vector v)
+            return v::getObject;
+        else if (vector instanceof VarCharVector v)
+            return i -> v.isNull(i) ? null : new String(v.get(i), UTF_8);
+        else if (vector instanceof LargeVarCharVector v)
+            return i -> v.isNull(i) ? null : new String(v.get(i), UTF_8);
+        else if (vector instanceof VarBinaryVector v)
+            return v::getObject;
+        else if (vector instanceof LargeVarBinaryVector v)
+            return v::getObject;
+        else if (vector instanceof FixedSizeBinaryVector v)
+            return v::getObject;
+        else if (vector instanceof DateDayVector v)
+            return i -> v.isNull(i) ? null : LocalDate.ofEpochDay(v.get(i));
+        else if (vector instanceof DateMilliVector v)
+            return i -> v.isNull(i) ? null : LocalDate.ofEpochDay(Math.floorDiv(v.get(i), 86_400_000L));
+        else if (vector instanceof TimeSecVector v)
+            return i -> v.isNull(i) ? null : LocalTime.ofSecondOfDay(v.get(i));
+        else if (vector instanceof TimeMilliVector v)
+            return i -> v.isNull(i) ? null : LocalTime.ofNanoOfDay(v.get(i) * 1_000_000L);
+        else if (vector instanceof TimeMicroVector v)
+            return i -> v.isNull(i) ? null : LocalTime.ofNanoOfDay(v.get(i) * 1000L);
+        else if (vector instanceof TimeNanoVector v)
+            return i -> v.isNull(i) ? null : LocalTime.ofNanoOfDay(v.get(i));
+        else if (vector instanceof TimeStampVector v) {
+            ArrowType.Timestamp type = (ArrowType.Timestamp) v.getField().getType();
+            TimeUnit unit = type.getUnit();
+
+            return type.getTimezone() == null
+                ? i -> v.isNull(i) ? null : LocalDateTime.ofInstant(instant(v.get(i), unit), ZoneOffset.UTC)
+                : i -> v.isNull(i) ? null : instant(v.get(i), unit).atOffset(ZoneOffset.UTC);
+        }
+        else
+            return vector::getObject;
+    }
+
+    private static final Instant instant(long value, TimeUnit unit) {
+        switch (unit) {
+            case SECOND:
+                return Instant.ofEpochSecond(value);
+            case MILLISECOND:
+                return Instant.ofEpochSecond(Math.floorDiv(value, 1_000L), Math.floorMod(value, 1_000L) * 1_000_000L);
+            case MICROSECOND:
+                return Instant.ofEpochSecond(Math.floorDiv(value, 1_000_000L), Math.floorMod(value, 1_000_000L) * 1_000L);
+            default:
+                return Instant.ofEpochSecond(Math.floorDiv(value, 1_000_000_000L), Math.floorMod(value, 1_000_000_000L));
+        }
+    }
+
+    private ArrowTypes() {}
+}
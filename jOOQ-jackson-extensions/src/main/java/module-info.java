@@ -14,4 +14,7 @@ module org.jooq.jackson.extensions {
     requires static org.jetbrains.annotations;
 
     exports org.jooq.jackson.extensions.converters;
+
+    // A custom ObjectMapper for all converters
+    uses org.jooq.jackson.extensions.converters.ObjectMapperProvider;
 }
@@ -37,34 +37,53 @@
  */
 package org.jooq.jackson.extensions.converters;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
 import org.jooq.JSON;
 import org.jooq.JSONB;
 import org.jooq.exception.DataTypeException;
 import org.jooq.impl.AbstractConverter;
+import org.jooq.tools.JooqLogger;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.kotlin.KotlinModule;
 
 /**
  * A base class for {@link JSON} or {@link JSONB} to Jackson POJO conversion.
+ * <p>
+ * Unless an explicit {@link ObjectMapper} is passed, all converters share the
+ * mapper of the {@link ObjectMapperProvider}. The {@link ObjectReader} and
+ * {@link ObjectWriter} for the user type are created on first use, and reused
+ * for all subsequent conversions.
  *
  * @author Lukas Eder
  */
 abstract class AbstractToJacksonConverter<J, U> extends AbstractConverter<J, U> {
 
-    final ObjectMapper mapper;
+    private static final JooqLogger log = JooqLogger.getLogger(AbstractToJacksonConverter.class);
+
+    final ObjectMapper             mapper;
+    private transient ObjectReader reader;
+    private transient ObjectWriter writer;
 
     public AbstractToJacksonConverter(Class<J> fromType, Class<U> toType) {
+        this(fromType, toType, SharedMapper.MAPPER);
+    }
+
+    public AbstractToJacksonConverter(Class<J> fromType, Class<U> toType, ObjectMapper mapper) {
         super(fromType, toType);
 
-        mapper = JsonMapper
-            .builder()
-            .addModule(new JavaTimeModule())
-            .addModule(new KotlinModule.Builder().build())
-            .build();
+        this.mapper = mapper;
     }
 
     abstract String data(J json);
@@ -76,7 +95,7 @@ abstract class AbstractToJacksonConverter<J, U> extends AbstractConverter<J, U>
             return null;
 
         try {
-            return mapper.readValue(data(databaseObject), toType());
+            return reader().readValue(data(databaseObject));
         }
         catch (JsonProcessingException e) {
             throw new DataTypeException("Error when converting JSON to " + toType(), e);
@@ -89,10 +108,130 @@ abstract class AbstractToJacksonConverter<J, U> extends AbstractConverter<J, U>
             return null;
 
         try {
-            return json(mapper.writeValueAsString(userObject));
+            return json(writer().writeValueAsString(userObject));
+        }
+        catch (JsonProcessingException e) {
+            throw new DataTypeException("Error when converting object of type " + toType() + " to JSON", e);
+        }
+    }
+
+    /**
+     * Convert UTF-8 encoded JSON content to a user object, without
+     * decoding it to a {@link String} first.
+     * <p>
+     * This is useful with drivers that expose JSON or JSONB data as bytes.
+     */
+    public U fromBytes(byte[] bytes) {
+        if (bytes == null)
+            return null;
+
+        try {
+            return reader().readValue(bytes);
+        }
+        catch (IOException e) {
+            throw new DataTypeException("Error when converting JSON to " + toType(), e);
+        }
+    }
+
+    /**
+     * Convert JSON content from a stream to a user object, without reading it
+     * into a {@link String} first.
+     * <p>
+     * The stream is not closed.
+     */
+    public U fromStream(InputStream stream) {
+        if (stream == null)
+            return null;
+
+        try {
+            return reader().readValue(stream);
+        }
+        catch (IOException e) {
+            throw new DataTypeException("Error when converting JSON to " + toType(), e);
+        }
+    }
+
+    /**
+     * Convert a user object to UTF-8 encoded JSON content, without encoding a
+     * {@link String} first.
+     */
+    public byte[] toBytes(U userObject) {
+        if (userObject == null)
+            return null;
+
+        try {
+            return writer().writeValueAsBytes(userObject);
         }
         catch (JsonProcessingException e) {
             throw new DataTypeException("Error when converting object of type " + toType() + " to JSON", e);
         }
     }
+
+    // ObjectReader and ObjectWriter are immutable, so racing lazy initialisations are harmless
+    private final ObjectReader reader() {
+        ObjectReader r = reader;
+
+        // Streams passed to fromStream() are owned by the caller
+        if (r == null)
+            reader = r = mapper.readerFor(toType()).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+        return r;
+    }
+
+    private final ObjectWriter writer() {
+        ObjectWriter w = writer;
+
+        // Values of non-final types may be subtypes, whose own properties have to be serialised, too
+        if (w == null)
+            writer = w = Modifier.isFinal(toType().getModifiers()) ? mapper.writerFor(toType()) : mapper.writer();
+
+        return w;
+    }
+
+    /**
+     * The default {@link ObjectMapper}, when no {@link ObjectMapperProvider} is
+     * registered.
+     */
+    static final ObjectMapper defaultMapper() {
+        return JsonMapper
+            .builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new KotlinModule.Builder().build())
+            .build();
+    }
+
+    /**
+     * The first {@link ObjectMapperProvider}'s mapper, or the
+     * {@link #defaultMapper()} if there is no provider.
+     * <p>
+     * This runs in a static initialiser, where an exception would make the
+     * converters unusable for the lifetime of the class loader. If the
+     * provider can't be loaded, or fails to provide a mapper, the
+     * {@link #defaultMapper()} is used instead, and the problem is logged.
+     */
+    static final ObjectMapper load(Iterable<ObjectMapperProvider> providers) {
+        try {
+            for (ObjectMapperProvider provider : providers) {
+                ObjectMapper result = provider.provide();
+
+                if (result != null)
+                    return result;
+
+                log.warn("ObjectMapperProvider", provider.getClass().getName() + " provided no ObjectMapper. Using the default mapper instead.");
+                return defaultMapper();
+            }
+        }
+        catch (RuntimeException | ServiceConfigurationError e) {
+            log.warn("ObjectMapperProvider", "Cannot provide ObjectMapper. Using the default mapper instead.", e);
+        }
+
+        return defaultMapper();
+    }
+
+    /**
+     * The lazily initialised, shared {@link ObjectMapper}.
+     */
+    static final class SharedMapper {
+        static final ObjectMapper MAPPER = load(ServiceLoader.load(ObjectMapperProvider.class));
+    }
 }
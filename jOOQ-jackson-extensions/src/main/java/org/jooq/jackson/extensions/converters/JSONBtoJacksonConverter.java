@@ -39,6 +39,7 @@ package org.jooq.jackson.extensions.converters;
 
 import org.jooq.JSONB;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * A base class for {@link JSONB} to Jackson POJO conversion.
@@ -51,6 +52,10 @@ public class JSONBtoJacksonConverter<U> extends AbstractToJacksonConverter<JSONB
         super(JSONB.class, toType);
     }
 
+    public JSONBtoJacksonConverter(Class<U> toType, ObjectMapper mapper) {
+        super(JSONB.class, toType, mapper);
+    }
+
     @Override
     final String data(JSONB json) {
         return json.data();
@@ -39,6 +39,7 @@ package org.jooq.jackson.extensions.converters;
 
 import org.jooq.JSON;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * A base class for {@link JSON} to Jackson POJO conversion.
@@ -51,6 +52,10 @@ public class JSONtoJacksonConverter<U> extends AbstractToJacksonConverter<JSON,
         super(JSON.class, toType);
     }
 
+    public JSONtoJacksonConverter(Class<U> toType, ObjectMapper mapper) {
+        super(JSON.class, toType, mapper);
+    }
+
     @Override
     final String data(JSON json) {
         return json.data();
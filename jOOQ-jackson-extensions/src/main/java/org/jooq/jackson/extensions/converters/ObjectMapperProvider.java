@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jackson.extensions.converters;
+
+import java.util.ServiceLoader;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * A provider for the {@link ObjectMapper} that is shared by all
+ * {@link JSONtoJacksonConverter} and {@link JSONBtoJacksonConverter} instances
+ * which aren't constructed with an explicit {@link ObjectMapper}.
+ * <p>
+ * The first implementation found by the {@link ServiceLoader} is used. If
+ * there is none, the shared mapper registers the {@link JavaTimeModule} and
+ * the Kotlin module. The same default is used, and a warning is logged, if the
+ * implementation can't be loaded or fails to provide a mapper.
+ * <p>
+ * Implementations are registered in
+ * <code>META-INF/services/org.jooq.jackson.extensions.converters.ObjectMapperProvider</code>
+ * on the class path, or with a <code>provides</code> directive on the module
+ * path.
+ */
+@FunctionalInterface
+public interface ObjectMapperProvider {
+
+    /**
+     * Provide the shared {@link ObjectMapper}.
+     * <p>
+     * This is called only once. The resulting mapper is shared between
+     * threads, and must not be reconfigured afterwards.
+     */
+    @NotNull
+    ObjectMapper provide();
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jackson.extensions.converters;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+
+import org.jooq.JSON;
+import org.jooq.JSONB;
+import org.jooq.exception.DataTypeException;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Tests for {@link JSONtoJacksonConverter} and {@link JSONBtoJacksonConverter}.
+ */
+public class JacksonConverterTest {
+
+    @Test
+    public void testSharedMapper() {
+        JSONtoJacksonConverter<Book> json = new JSONtoJacksonConverter<>(Book.class);
+        JSONBtoJacksonConverter<Book> jsonb = new JSONBtoJacksonConverter<>(Book.class);
+
+        assertSame(json.mapper, jsonb.mapper);
+        assertSame(AbstractToJacksonConverter.SharedMapper.MAPPER, json.mapper);
+    }
+
+    @Test
+    public void testServiceLoader() {
+        JSONtoJacksonConverter<Book> converter = new JSONtoJacksonConverter<>(Book.class);
+
+        assertSame(TestObjectMapperProvider.MAPPER, converter.mapper);
+        assertEquals("{\"id\":1,\"first_published\":\"2020-01-01\"}", converter.to(new Book(1, LocalDate.of(2020, 1, 1))).data());
+        assertEquals(new Book(1, LocalDate.of(2020, 1, 1)), converter.from(JSON.json("{\"id\":1,\"first_published\":\"2020-01-01\"}")));
+    }
+
+    @Test
+    public void testExplicitMapper() {
+        ObjectMapper mapper = AbstractToJacksonConverter.defaultMapper();
+        JSONBtoJacksonConverter<Book> converter = new JSONBtoJacksonConverter<>(Book.class, mapper);
+
+        assertSame(mapper, converter.mapper);
+        assertEquals("{\"id\":1,\"firstPublished\":[2020,1,1]}", converter.to(new Book(1, LocalDate.of(2020, 1, 1))).data());
+        assertEquals(new Book(1, LocalDate.of(2020, 1, 1)), converter.from(JSONB.jsonb("{\"id\":1,\"firstPublished\":\"2020-01-01\"}")));
+    }
+
+    @Test
+    public void testLoadDefault() {
+        ObjectMapper mapper = AbstractToJacksonConverter.load(List.of());
+
+        assertNotSame(TestObjectMapperProvider.MAPPER, mapper);
+        assertTrue(mapper.getRegisteredModuleIds().contains("jackson-datatype-jsr310"));
+    }
+
+    @Test
+    public void testLoadFirstProvider() {
+        ObjectMapper first = JsonMapper.builder().build();
+        ObjectMapper second = JsonMapper.builder().build();
+
+        assertSame(first, AbstractToJacksonConverter.load(List.of(() -> first, () -> second)));
+    }
+
+    @Test
+    public void testLoadFailingProvider() {
+        ObjectMapper mapper = AbstractToJacksonConverter.load(List.of(() -> {
+            throw new IllegalStateException("Provider failure");
+        }));
+
+        assertTrue(mapper.getRegisteredModuleIds().contains("jackson-datatype-jsr310"));
+    }
+
+    @Test
+    public void testLoadNullProvider() {
+        ObjectMapper mapper = AbstractToJacksonConverter.load(List.of(() -> null));
+
+        assertTrue(mapper.getRegisteredModuleIds().contains("jackson-datatype-jsr310"));
+    }
+
+    @Test
+    public void testLoadServiceConfigurationError() {
+        ObjectMapper mapper = AbstractToJacksonConverter.load(() -> new Iterator<ObjectMapperProvider>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public ObjectMapperProvider next() {
+                throw new ServiceConfigurationError("Provider not found");
+            }
+        });
+
+        assertTrue(mapper.getRegisteredModuleIds().contains("jackson-datatype-jsr310"));
+    }
+
+    @Test
+    public void testNull() {
+        JSONtoJacksonConverter<Book> converter = new JSONtoJacksonConverter<>(Book.class);
+
+        assertNull(converter.from(null));
+        assertNull(converter.to(null));
+        assertNull(converter.fromBytes(null));
+        assertNull(converter.fromStream(null));
+        assertNull(converter.toBytes(null));
+    }
+
+    @Test
+    public void testBytes() {
+        JSONBtoJacksonConverter<Book> converter = new JSONBtoJacksonConverter<>(Book.class);
+        Book book = new Book(2, LocalDate.of(2021, 2, 3));
+        byte[] bytes = converter.toBytes(book);
+
+        assertEquals("{\"id\":2,\"first_published\":\"2021-02-03\"}", new String(bytes, UTF_8));
+        assertEquals(book, converter.fromBytes(bytes));
+        assertEquals(converter.to(book).data(), new String(bytes, UTF_8));
+    }
+
+    @Test
+    public void testBytesUTF8() {
+        JSONtoJacksonConverter<Title> converter = new JSONtoJacksonConverter<>(Title.class);
+        Title title = new Title("Ärger über Öl");
+
+        assertEquals("{\"title\":\"Ärger über Öl\"}", new String(converter.toBytes(title), UTF_8));
+        assertEquals(title, converter.fromBytes("{\"title\":\"Ärger über Öl\"}".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void testStream() throws IOException {
+        JSONtoJacksonConverter<Book> converter = new JSONtoJacksonConverter<>(Book.class);
+        ClosingInputStream stream = new ClosingInputStream("{\"id\":3,\"first_published\":null}".getBytes(UTF_8));
+
+        assertEquals(new Book(3, null), converter.fromStream(stream));
+        assertEquals(false, stream.closed);
+    }
+
+    @Test(expected = DataTypeException.class)
+    public void testFromInvalid() {
+        new JSONtoJacksonConverter<>(Book.class).from(JSON.json("{\"id\":"));
+    }
+
+    @Test(expected = DataTypeException.class)
+    public void testFromBytesInvalid() {
+        new JSONtoJacksonConverter<>(Book.class).fromBytes("{\"id\":".getBytes(UTF_8));
+    }
+
+    @Test(expected = DataTypeException.class)
+    public void testFromStreamInvalid() {
+        new JSONtoJacksonConverter<>(Book.class).fromStream(new ByteArrayInputStream("[".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void testWriterFinalType() {
+        JSONtoJacksonConverter<Title> converter = new JSONtoJacksonConverter<>(Title.class);
+
+        assertEquals("{\"title\":\"x\"}", converter.to(new Title("x")).data());
+        assertEquals("{\"title\":\"x\"}", new String(converter.toBytes(new Title("x")), UTF_8));
+    }
+
+    @Test
+    public void testWriterNonFinalType() {
+        JSONtoJacksonConverter<Animal> converter = new JSONtoJacksonConverter<>(Animal.class);
+        Dog dog = new Dog();
+        dog.name = "Rex";
+        dog.goodBoy = true;
+
+        // The subtype's properties are written, too
+        assertEquals("{\"name\":\"Rex\",\"good_boy\":true}", converter.to(dog).data());
+        assertEquals("{\"name\":\"Rex\",\"good_boy\":true}", new String(converter.toBytes(dog), UTF_8));
+    }
+
+    public static final class Book {
+        public int       id;
+        public LocalDate firstPublished;
+
+        public Book() {}
+
+        Book(int id, LocalDate firstPublished) {
+            this.id = id;
+            this.firstPublished = firstPublished;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, firstPublished);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Book b && id == b.id && Objects.equals(firstPublished, b.firstPublished);
+        }
+    }
+
+    public static final record Title(String title) {}
+
+    public static class Animal {
+        public String name;
+    }
+
+    public static class Dog extends Animal {
+        public boolean goodBoy;
+    }
+
+    static final class ClosingInputStream extends ByteArrayInputStream {
+        boolean closed;
+
+        ClosingInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
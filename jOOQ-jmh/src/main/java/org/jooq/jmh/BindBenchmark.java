@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Data.AUTHOR_ID;
+import static org.jooq.jmh.Data.BOOK;
+import static org.jooq.jmh.Data.ID;
+import static org.jooq.jmh.Data.PRICE;
+import static org.jooq.jmh.Data.PUBLISHED_IN;
+import static org.jooq.jmh.Data.TITLE;
+import static org.jooq.jmh.Data.unqualified;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for bind value extraction and binding through the
+ * <code>DefaultBindContext</code>.
+ * <p>
+ * Queries are executed against a {@link MockConnection}, so the JDBC driver
+ * doesn't contribute to the measurement. See
+ * {@link RenderedSQLCacheBenchmark} for re-executions that skip rendering, and
+ * mostly measure binding.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BindBenchmark {
+
+    DSLContext                            ctx;
+    Query                                 insert;
+    ResultQuery<Record2<Integer, String>> selectIn;
+
+    @Setup
+    public void setup() {
+        Result<Record2<Integer, String>> data = DSL.using(SQLDialect.H2).newResult(ID, TITLE);
+        data.add(DSL.using(SQLDialect.H2).newRecord(ID, TITLE).values(1, "Title"));
+
+        ctx = DSL.using(
+            new MockConnection(c -> new MockResult[] {
+                c.sql().startsWith("insert") ? new MockResult(1) : new MockResult(data.size(), data)
+            }),
+            SQLDialect.H2
+        );
+
+        insert = ctx.insertInto(BOOK, unqualified(ID), unqualified(TITLE), unqualified(AUTHOR_ID), unqualified(PUBLISHED_IN), unqualified(PRICE))
+                    .values(1, "Title", 1, LocalDate.of(2000, 1, 1), BigDecimal.TEN);
+
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            ids.add(i);
+
+        selectIn = ctx.select(ID, TITLE).from(BOOK).where(ID.in(ids));
+    }
+
+    @Benchmark
+    public List<Object> extractBindValuesInsert() {
+        return ctx.extractBindValues(insert);
+    }
+
+    @Benchmark
+    public List<Object> extractBindValuesSelectIn() {
+        return ctx.extractBindValues(selectIn);
+    }
+
+    @Benchmark
+    public int executeInsert() {
+        return insert.execute();
+    }
+
+    @Benchmark
+    public Result<?> fetchSelectIn() {
+        return selectIn.fetch();
+    }
+}
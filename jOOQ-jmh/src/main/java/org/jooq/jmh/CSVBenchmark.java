@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.tools.csv.BufferedCSVReader;
+import org.jooq.tools.csv.CSVReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for parsing CSV through the {@link CSVReader}, and through the
+ * {@link BufferedCSVReader}, from a {@link String} or from a file.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CSVBenchmark {
+
+    @Param({ "10000" })
+    int    rows;
+
+    String csv;
+    Path   file;
+
+    @Setup
+    public void setup() throws IOException {
+        StringBuilder sb = new StringBuilder("ID,TITLE,AUTHOR_ID,PUBLISHED_IN,PRICE\n");
+
+        for (int i = 0; i < rows; i++)
+            sb.append(i).append(",\"Title ").append(i).append(", \"\"quoted\"\"\",").append(i % 10).append(',').append(1900 + i % 100).append(',').append(i % 100).append(".99\n");
+
+        csv = sb.toString();
+        file = Files.createTempFile("jooq-jmh", ".csv");
+        Files.writeString(file, csv);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void csvReader(Blackhole bh) throws IOException {
+        try (CSVReader reader = new CSVReader(new StringReader(csv), ',', '"', 1)) {
+            String[] row;
+
+            while ((row = reader.readNext()) != null)
+                bh.consume(row);
+        }
+    }
+
+    @Benchmark
+    public void bufferedCSVReader(Blackhole bh) throws IOException {
+        try (BufferedCSVReader reader = new BufferedCSVReader(new StringReader(csv), ',', '"', 1)) {
+            while (reader.hasNext())
+                bh.consume(reader.next());
+        }
+    }
+
+    @Benchmark
+    public void bufferedCSVReaderReuseRows(Blackhole bh) throws IOException {
+        try (BufferedCSVReader reader = new BufferedCSVReader(new StringReader(csv), ',', '"', 1).reuseRows(true)) {
+            while (reader.hasNext())
+                bh.consume(reader.next());
+        }
+    }
+
+    @Benchmark
+    public void csvReaderFile(Blackhole bh) throws IOException {
+        try (CSVReader reader = new CSVReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), ',', '"', 1)) {
+            String[] row;
+
+            while ((row = reader.readNext()) != null)
+                bh.consume(row);
+        }
+    }
+
+    @Benchmark
+    public void bufferedCSVReaderMappedFile(Blackhole bh) throws IOException {
+        try (BufferedCSVReader reader = new BufferedCSVReader(file, StandardCharsets.UTF_8.newDecoder(), ',', '"', 1).reuseRows(true)) {
+            while (reader.hasNext())
+                bh.consume(reader.next());
+        }
+    }
+}
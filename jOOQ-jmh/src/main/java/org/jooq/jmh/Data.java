@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.constraint;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.LOCALDATE;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.NUMERIC;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep5;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * The schema and data shared by all benchmarks.
+ * <p>
+ * The benchmarks only use in-memory databases, so they can be run without any
+ * network access or database installation.
+ */
+public final class Data {
+
+    static final Table<Record>      BOOK         = table(name("book"));
+    static final Field<Integer>     ID           = field(name("book", "id"), INTEGER);
+    static final Field<String>      TITLE        = field(name("book", "title"), VARCHAR(100));
+    static final Field<Integer>     AUTHOR_ID    = field(name("book", "author_id"), INTEGER);
+    static final Field<LocalDate>   PUBLISHED_IN = field(name("book", "published_in"), LOCALDATE);
+    static final Field<BigDecimal>  PRICE        = field(name("book", "price"), NUMERIC(10, 2));
+
+    /**
+     * The in-memory databases that benchmarks can run against.
+     */
+    public enum Database {
+        H2("jdbc:h2:mem:", SQLDialect.H2),
+        SQLITE("jdbc:sqlite::memory:", SQLDialect.SQLITE);
+
+        final String     url;
+        final SQLDialect dialect;
+
+        Database(String url, SQLDialect dialect) {
+            this.url = url;
+            this.dialect = dialect;
+        }
+
+        Connection connect() throws SQLException {
+            return DriverManager.getConnection(url);
+        }
+    }
+
+    /**
+     * Create the <code>book</code> table and fill it with <code>rows</code>
+     * rows.
+     */
+    static void init(DSLContext ctx, int rows) {
+        ctx.createTable(BOOK)
+           .column(ID.getUnqualifiedName(), ID.getDataType().notNull())
+           .column(TITLE.getUnqualifiedName(), TITLE.getDataType())
+           .column(AUTHOR_ID.getUnqualifiedName(), AUTHOR_ID.getDataType())
+           .column(PUBLISHED_IN.getUnqualifiedName(), PUBLISHED_IN.getDataType())
+           .column(PRICE.getUnqualifiedName(), PRICE.getDataType())
+           .constraint(constraint("pk_book").primaryKey(ID.getUnqualifiedName()))
+           .execute();
+
+        InsertValuesStep5<Record, Integer, String, Integer, LocalDate, BigDecimal> insert =
+        ctx.insertInto(BOOK, unqualified(ID), unqualified(TITLE), unqualified(AUTHOR_ID), unqualified(PUBLISHED_IN), unqualified(PRICE));
+
+        for (int i = 1; i <= rows; i++)
+            insert = insert.values(i, "Title " + i, i % 10, LocalDate.of(1900 + i % 100, 1 + i % 12, 1 + i % 28), BigDecimal.valueOf(i, 2));
+
+        insert.execute();
+    }
+
+    static <T> Field<T> unqualified(Field<T> field) {
+        return DSL.field(field.getUnqualifiedName(), field.getDataType());
+    }
+
+    private Data() {}
+}
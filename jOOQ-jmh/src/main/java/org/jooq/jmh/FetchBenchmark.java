@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Data.AUTHOR_ID;
+import static org.jooq.jmh.Data.BOOK;
+import static org.jooq.jmh.Data.ID;
+import static org.jooq.jmh.Data.PRICE;
+import static org.jooq.jmh.Data.PUBLISHED_IN;
+import static org.jooq.jmh.Data.TITLE;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record5;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.impl.DSL;
+import org.jooq.jmh.Data.Database;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for fetching records through <code>CursorImpl</code>, both eagerly
+ * and lazily.
+ * <p>
+ * The <code>fetchMock</code> benchmarks run against a {@link MockConnection},
+ * whose <code>ResultSet</code> is backed by an in-memory {@link Result}, in
+ * order to exclude the JDBC driver from the measurement.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FetchBenchmark {
+
+    @Param({ "H2", "SQLITE" })
+    Database   database;
+
+    @Param({ "10", "1000" })
+    int        rows;
+
+    Connection connection;
+    DSLContext ctx;
+    DSLContext mock;
+
+    ResultQuery<Record5<Integer, String, Integer, LocalDate, BigDecimal>> query;
+    ResultQuery<Record5<Integer, String, Integer, LocalDate, BigDecimal>> mockQuery;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = database.connect();
+        ctx = DSL.using(connection, database.dialect);
+        Data.init(ctx, rows);
+
+        query = ctx.select(ID, TITLE, AUTHOR_ID, PUBLISHED_IN, PRICE).from(BOOK);
+
+        Result<?> data = query.fetch();
+        mock = DSL.using(new MockConnection(c -> new MockResult[] { new MockResult(data.size(), data) }), database.dialect);
+        mockQuery = mock.select(ID, TITLE, AUTHOR_ID, PUBLISHED_IN, PRICE).from(BOOK);
+    }
+
+    @TearDown
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Result<?> fetch() {
+        return query.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazy(Blackhole bh) {
+        try (Cursor<?> cursor = query.fetchLazy()) {
+            for (Record record : cursor)
+                bh.consume(record);
+        }
+    }
+
+    @Benchmark
+    public Result<?> fetchMock() {
+        return mockQuery.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazyMock(Blackhole bh) {
+        try (Cursor<?> cursor = mockQuery.fetchLazy()) {
+            for (Record record : cursor)
+                bh.consume(record);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Data.AUTHOR_ID;
+import static org.jooq.jmh.Data.BOOK;
+import static org.jooq.jmh.Data.ID;
+import static org.jooq.jmh.Data.PRICE;
+import static org.jooq.jmh.Data.PUBLISHED_IN;
+import static org.jooq.jmh.Data.TITLE;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.JSONFormat;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for reading JSON through the <code>JSONReader</code>, and for
+ * writing it through {@link Result#formatJSON()}.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JSONBenchmark {
+
+    @Param({ "1000" })
+    int        rows;
+
+    DSLContext ctx;
+    Result<?>  result;
+    String     jsonWithHeader;
+    String     jsonObjects;
+
+    @Setup
+    public void setup() throws SQLException {
+        ctx = DSL.using(Data.Database.H2.dialect);
+
+        try (Connection connection = Data.Database.H2.connect()) {
+            DSLContext c = DSL.using(connection, Data.Database.H2.dialect);
+            Data.init(c, rows);
+            result = c.select(ID, TITLE, AUTHOR_ID, PUBLISHED_IN, PRICE).from(BOOK).fetch();
+        }
+
+        jsonWithHeader = result.formatJSON();
+        jsonObjects = result.formatJSON(JSONFormat.DEFAULT_FOR_RECORDS.header(false).recordFormat(JSONFormat.RecordFormat.OBJECT));
+    }
+
+    @Benchmark
+    public Result<Record> readWithHeader() {
+        return ctx.fetchFromJSON(jsonWithHeader);
+    }
+
+    @Benchmark
+    public Result<Record> readObjects() {
+        return ctx.fetchFromJSON(jsonObjects);
+    }
+
+    @Benchmark
+    public String write() {
+        return result.formatJSON();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONTokenizer;
+import org.jooq.tools.json.JSONTokenizer.Token;
+import org.jooq.tools.json.ParseException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for parsing JSON through the {@link JSONParser}, and through the
+ * {@link JSONTokenizer}, into a tree, into {@link ContentHandler} events, or
+ * into pulled tokens.
+ * <p>
+ * The setup checks that both produce the same results for the benchmarked
+ * document, as well as for a few documents that exercise the lenient grammar
+ * of {@link JSONParser}.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JSONTokenizerBenchmark {
+
+    static final String[] CONFORMANCE = {
+        "[]",
+        "{}",
+        "null",
+        "\"x\"",
+        "[1, -2, 3.5, -4.25e3, 5E-1, 007, true, false, null]",
+        "[\"\", \"a\\\"b\", \"\\\\ \\/ \\b \\f \\n \\r \\t \\u00e9\", \"\\x \\u12\"]",
+        "{\"a\": {\"b\": [{\"c\": []}, {}]}, \"d\": [[[]]]}",
+        "[1 2 \"a\"\"b\" truefalse]",
+        "{\"a\" 1 \"b\"::2,,}",
+        "[,1,,2,]"
+    };
+
+    @Param({ "1000" })
+    int    rows;
+
+    String json;
+
+    @Setup
+    public void setup() throws ParseException {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < rows; i++)
+            sb.append(i > 0 ? "," : "")
+              .append("{\"v0\":").append(i)
+              .append(",\"v1\":\"Title ").append(i).append(", \\\"quoted\\\"\"")
+              .append(",\"v2\":").append(i % 10)
+              .append(",\"v3\":").append(1900 + i % 100)
+              .append(",\"v4\":").append(i % 100).append(".99")
+              .append(",\"v5\":[").append(i % 2 == 0).append(",null]}");
+
+        json = sb.append("]").toString();
+
+        for (String s : CONFORMANCE)
+            check(s);
+
+        check(json);
+    }
+
+    static void check(String s) throws ParseException {
+        Object expected = new JSONParser().parse(s);
+        Object actual = new JSONTokenizer(s).read(null);
+
+        if (expected == null ? actual != null : !expected.equals(actual))
+            throw new IllegalStateException("JSONTokenizer produced " + actual + " instead of " + expected + " for " + s);
+    }
+
+    @Benchmark
+    public Object jsonParserTree() throws ParseException {
+        return new JSONParser().parse(json);
+    }
+
+    @Benchmark
+    public Object jsonTokenizerTree() throws ParseException {
+        return new JSONTokenizer(json).read(null);
+    }
+
+    @Benchmark
+    public Object jsonTokenizerTreeFromReader() throws ParseException {
+        return new JSONTokenizer(new StringReader(json)).read(null);
+    }
+
+    @Benchmark
+    public void jsonParserEvents(Blackhole bh) throws ParseException {
+        new JSONParser().parse(json, new Handler(bh));
+    }
+
+    @Benchmark
+    public void jsonTokenizerEvents(Blackhole bh) throws ParseException, IOException {
+        new JSONTokenizer(json).parse(new Handler(bh));
+    }
+
+    @Benchmark
+    public void jsonTokenizerPull(Blackhole bh) throws ParseException {
+        JSONTokenizer tokenizer = new JSONTokenizer(json);
+
+        for (Token t; (t = tokenizer.next()) != Token.EOF;) {
+            if (t == Token.NUMBER && tokenizer.integral())
+                bh.consume(tokenizer.longValue());
+            else if (t == Token.NUMBER)
+                bh.consume(tokenizer.doubleValue());
+            else if (t == Token.KEY || t == Token.STRING)
+                bh.consume(tokenizer.string());
+            else
+                bh.consume(t);
+        }
+    }
+
+    static final class Handler implements ContentHandler {
+        final Blackhole bh;
+
+        Handler(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void startJSON() {}
+
+        @Override
+        public void endJSON() {}
+
+        @Override
+        public boolean startObject() {
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            bh.consume(key);
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            bh.consume(value);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing SQL through the <code>ParserImpl</code>, and for
+ * translating SQL between dialects.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    static final String SIMPLE  = "select id, title from book where id = ?";
+    static final String COMPLEX = """
+        select b.author_id, count(*), sum(b.price), row_number() over (order by b.author_id)
+        from book as b
+        join author as a on a.id = b.author_id
+        where b.published_in > date '1950-01-01'
+        and b.title like 'Title%'
+        and b.id in (select id from book where price > 1)
+        group by b.author_id
+        having count(*) > 1
+        order by b.author_id desc
+        offset 5 rows fetch next 10 rows only
+        """;
+    static final String DDL     = """
+        create table book (
+          id int not null,
+          title varchar(100),
+          author_id int references author,
+          published_in date default current_date,
+          price decimal(10, 2) check (price >= 0),
+          constraint pk_book primary key (id)
+        );
+        create index i_book_author_id on book (author_id);
+        """;
+
+    DSLContext          ctx;
+    Parser              parser;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(SQLDialect.H2);
+        parser = ctx.parser();
+    }
+
+    @Benchmark
+    public Query parseSimple() {
+        return parser.parseQuery(SIMPLE);
+    }
+
+    @Benchmark
+    public Query parseComplex() {
+        return parser.parseQuery(COMPLEX);
+    }
+
+    @Benchmark
+    public Queries parseDDL() {
+        return parser.parse(DDL);
+    }
+
+    @Benchmark
+    public String translateComplex() {
+        return ctx.render(parser.parseQuery(COMPLEX));
+    }
+}
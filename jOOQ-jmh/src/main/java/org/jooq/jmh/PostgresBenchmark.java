@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.postgres.extensions.converters.HstoreConverter;
+import org.jooq.postgres.extensions.converters.InetConverter;
+import org.jooq.postgres.extensions.converters.IntegerRangeConverter;
+import org.jooq.postgres.extensions.converters.TimestampRangeConverter;
+import org.jooq.postgres.extensions.types.Hstore;
+import org.jooq.postgres.extensions.types.IntegerRange;
+import org.jooq.util.postgres.PostgresUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing and formatting the text representation of PostgreSQL
+ * range, <code>hstore</code>, <code>inet</code>, and array literals.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PostgresBenchmark {
+
+    static final IntegerRangeConverter   INTEGER_RANGE   = new IntegerRangeConverter();
+    static final TimestampRangeConverter TIMESTAMP_RANGE = new TimestampRangeConverter();
+    static final HstoreConverter         HSTORE          = new HstoreConverter();
+    static final InetConverter           INET            = new InetConverter();
+
+    @Param({ "10" })
+    int                                  size;
+
+    String                               integerRange;
+    String                               timestampRange;
+    IntegerRange                         integerRangeValue;
+    String                               hstore;
+    Hstore                               hstoreValue;
+    String                               inet4;
+    String                               inet6;
+    String                               array;
+    Object[]                             arrayValue;
+
+    @Setup
+    public void setup() {
+        integerRange = "[1,100)";
+        timestampRange = "[\"2020-01-01 10:00:00\",\"2020-02-01 11:00:00\")";
+        integerRangeValue = INTEGER_RANGE.from(integerRange);
+        inet4 = "192.168.0.1/24";
+        inet6 = "2001:db8::/32";
+
+        Map<String, String> map = new LinkedHashMap<>();
+        arrayValue = new Object[size];
+
+        for (int i = 0; i < size; i++) {
+            map.put("key " + i, i % 3 == 0 ? null : "value \"" + i + "\"");
+            arrayValue[i] = i % 3 == 0 ? null : "value \"" + i + "\"";
+        }
+
+        hstoreValue = Hstore.hstore(map);
+        hstore = HSTORE.to(hstoreValue).toString();
+        array = PostgresUtils.toPGArrayString(arrayValue);
+
+        if (!HSTORE.from(hstore).equals(hstoreValue))
+            throw new IllegalStateException("Hstore round trip failed for " + hstore);
+
+        List<String> list = PostgresUtils.toPGArray(array);
+        for (int i = 0; i < size; i++)
+            if (list.get(i) == null ? arrayValue[i] != null : !list.get(i).equals(arrayValue[i]))
+                throw new IllegalStateException("Array round trip failed for " + array);
+    }
+
+    @Benchmark
+    public Object parseIntegerRange() {
+        return INTEGER_RANGE.from(integerRange);
+    }
+
+    @Benchmark
+    public Object parseTimestampRange() {
+        return TIMESTAMP_RANGE.from(timestampRange);
+    }
+
+    @Benchmark
+    public Object formatIntegerRange() {
+        return INTEGER_RANGE.to(integerRangeValue);
+    }
+
+    @Benchmark
+    public Object parseHstore() {
+        return HSTORE.from(hstore);
+    }
+
+    @Benchmark
+    public Object formatHstore() {
+        return HSTORE.to(hstoreValue);
+    }
+
+    @Benchmark
+    public Object parseInet4() {
+        return INET.from(inet4);
+    }
+
+    @Benchmark
+    public Object parseInet6() {
+        return INET.from(inet6);
+    }
+
+    @Benchmark
+    public Object parseArray() {
+        return PostgresUtils.toPGArray(array);
+    }
+
+    @Benchmark
+    public Object formatArray() {
+        return PostgresUtils.toPGArrayString(arrayValue);
+    }
+}
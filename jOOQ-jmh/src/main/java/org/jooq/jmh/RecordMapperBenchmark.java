@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Data.AUTHOR_ID;
+import static org.jooq.jmh.Data.BOOK;
+import static org.jooq.jmh.Data.ID;
+import static org.jooq.jmh.Data.PRICE;
+import static org.jooq.jmh.Data.PUBLISHED_IN;
+import static org.jooq.jmh.Data.TITLE;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Record5;
+import org.jooq.Records;
+import org.jooq.Result;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for mapping records to user types through the
+ * <code>DefaultRecordMapper</code>, compared to explicit
+ * {@link Records#mapping(org.jooq.Function5)} mappers.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordMapperBenchmark {
+
+    @Param({ "1000" })
+    int                                                               rows;
+
+    Result<Record5<Integer, String, Integer, LocalDate, BigDecimal>> result;
+
+    public record BookRecord(Integer id, String title, Integer authorId, LocalDate publishedIn, BigDecimal price) {}
+
+    public static class BookPojo {
+        public Integer    id;
+        public String     title;
+        public Integer    authorId;
+        public LocalDate  publishedIn;
+        public BigDecimal price;
+    }
+
+    public static class BookBean {
+        private Integer    id;
+        private String     title;
+        private Integer    authorId;
+        private LocalDate  publishedIn;
+        private BigDecimal price;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public Integer getAuthorId() {
+            return authorId;
+        }
+
+        public void setAuthorId(Integer authorId) {
+            this.authorId = authorId;
+        }
+
+        public LocalDate getPublishedIn() {
+            return publishedIn;
+        }
+
+        public void setPublishedIn(LocalDate publishedIn) {
+            this.publishedIn = publishedIn;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+    }
+
+    @Setup
+    public void setup() throws SQLException {
+        try (Connection connection = Data.Database.H2.connect()) {
+            DSLContext ctx = DSL.using(connection, Data.Database.H2.dialect);
+            Data.init(ctx, rows);
+            result = ctx.select(ID, TITLE, AUTHOR_ID, PUBLISHED_IN, PRICE).from(BOOK).fetch();
+        }
+    }
+
+    @Benchmark
+    public List<BookRecord> intoRecordClass() {
+        return result.into(BookRecord.class);
+    }
+
+    @Benchmark
+    public List<BookPojo> intoMutablePojo() {
+        return result.into(BookPojo.class);
+    }
+
+    @Benchmark
+    public List<BookBean> intoJavaBean() {
+        return result.into(BookBean.class);
+    }
+
+    @Benchmark
+    public List<BookRecord> mapExplicitly() {
+        return result.map(Records.mapping(BookRecord::new));
+    }
+}
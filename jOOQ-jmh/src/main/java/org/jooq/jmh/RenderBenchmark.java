@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.rowNumber;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.sum;
+import static org.jooq.jmh.Data.AUTHOR_ID;
+import static org.jooq.jmh.Data.BOOK;
+import static org.jooq.jmh.Data.ID;
+import static org.jooq.jmh.Data.PRICE;
+import static org.jooq.jmh.Data.PUBLISHED_IN;
+import static org.jooq.jmh.Data.TITLE;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for SQL rendering through the <code>DefaultRenderContext</code>.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param({ "H2", "MYSQL", "POSTGRES" })
+    SQLDialect dialect;
+
+    DSLContext ctx;
+    Query      simple;
+    Query      complex;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(dialect);
+        simple = simple(ctx);
+        complex = complex(ctx);
+    }
+
+    static Query simple(DSLContext ctx) {
+        return ctx.select(ID, TITLE)
+                  .from(BOOK)
+                  .where(ID.eq(1));
+    }
+
+    static Query complex(DSLContext ctx) {
+        return ctx.select(
+                      AUTHOR_ID,
+                      count(),
+                      sum(PRICE),
+                      rowNumber().over().orderBy(AUTHOR_ID))
+                  .from(BOOK)
+                  .where(PUBLISHED_IN.gt(LocalDate.of(1950, 1, 1)))
+                  .and(TITLE.like("Title%"))
+                  .and(ID.in(select(ID).from(BOOK).where(PRICE.gt(BigDecimal.ONE))))
+                  .groupBy(AUTHOR_ID)
+                  .having(count().gt(inline(1)))
+                  .orderBy(AUTHOR_ID.desc())
+                  .limit(10)
+                  .offset(5);
+    }
+
+    @Benchmark
+    public String renderSimple() {
+        return ctx.render(simple);
+    }
+
+    @Benchmark
+    public String renderComplex() {
+        return ctx.render(complex);
+    }
+
+    @Benchmark
+    public String renderComplexInlined() {
+        return ctx.renderContext().paramType(INLINED).visit(complex).render();
+    }
+
+    @Benchmark
+    public String buildAndRenderSimple() {
+        return ctx.render(simple(ctx));
+    }
+
+    @Benchmark
+    public String buildAndRenderComplex() {
+        return ctx.render(complex(ctx));
+    }
+}
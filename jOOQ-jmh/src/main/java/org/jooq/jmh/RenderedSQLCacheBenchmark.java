@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.rowNumber;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.sum;
+import static org.jooq.jmh.Data.AUTHOR_ID;
+import static org.jooq.jmh.Data.BOOK;
+import static org.jooq.jmh.Data.ID;
+import static org.jooq.jmh.Data.PRICE;
+import static org.jooq.jmh.Data.PUBLISHED_IN;
+import static org.jooq.jmh.Data.TITLE;
+import static org.jooq.jmh.Data.unqualified;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.TemplateSlots;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Settings#isCacheRenderedSQL()} and cached query
+ * templates, which render their SQL only once.
+ * <p>
+ * Queries are executed against a {@link MockConnection}, like in
+ * {@link BindBenchmark}.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Dorg.jooq.no-logo=true", "-Dorg.jooq.no-tips=true" })
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RenderedSQLCacheBenchmark {
+
+    @Param({ "H2", "MYSQL", "POSTGRES" })
+    SQLDialect dialect;
+
+    DSLContext                            cached;
+    Query                                 insert;
+    ResultQuery<Record2<Integer, String>> selectIn;
+
+    @Setup
+    public void setup() {
+        Result<Record2<Integer, String>> data = DSL.using(dialect).newResult(ID, TITLE);
+        data.add(DSL.using(dialect).newRecord(ID, TITLE).values(1, "Title"));
+
+        cached = DSL.using(
+            new MockConnection(c -> new MockResult[] {
+                c.sql().startsWith("insert") ? new MockResult(1) : new MockResult(data.size(), data)
+            }),
+            dialect,
+            new Settings().withCacheRenderedSQL(true)
+        );
+
+        insert = cached.insertInto(BOOK, unqualified(ID), unqualified(TITLE), unqualified(AUTHOR_ID), unqualified(PUBLISHED_IN), unqualified(PRICE))
+                       .values(1, "Title", 1, LocalDate.of(2000, 1, 1), BigDecimal.TEN);
+
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            ids.add(i);
+
+        selectIn = cached.select(ID, TITLE).from(BOOK).where(ID.in(ids));
+    }
+
+    static final Function<TemplateSlots, Query> SIMPLE = s ->
+        DSL.select(ID, TITLE)
+           .from(BOOK)
+           .where(ID.eq(s.slot(ID)));
+
+    static final Function<TemplateSlots, Query> COMPLEX = s ->
+        DSL.select(
+               AUTHOR_ID,
+               count(),
+               sum(PRICE),
+               rowNumber().over().orderBy(AUTHOR_ID))
+           .from(BOOK)
+           .where(PUBLISHED_IN.gt(s.slot(PUBLISHED_IN)))
+           .and(TITLE.like(s.slot(TITLE)))
+           .and(ID.in(select(ID).from(BOOK).where(PRICE.gt(s.slot(PRICE)))))
+           .groupBy(AUTHOR_ID)
+           .having(count().gt(inline(1)))
+           .orderBy(AUTHOR_ID.desc())
+           .limit(10)
+           .offset(5);
+
+    /**
+     * Compare with {@link BindBenchmark#executeInsert()}.
+     */
+    @Benchmark
+    public int executeInsert() {
+        return insert.execute();
+    }
+
+    /**
+     * Compare with {@link BindBenchmark#fetchSelectIn()}.
+     */
+    @Benchmark
+    public Result<?> fetchSelectIn() {
+        return selectIn.fetch();
+    }
+
+    /**
+     * Compare with {@link RenderBenchmark#buildAndRenderSimple()}.
+     */
+    @Benchmark
+    public Query cachedTemplateSimple() {
+        return cached.queryTemplate(SIMPLE).bind(1);
+    }
+
+    /**
+     * Compare with {@link RenderBenchmark#buildAndRenderComplex()}.
+     */
+    @Benchmark
+    public Query cachedTemplateComplex() {
+        return cached.queryTemplate(COMPLEX).bind(LocalDate.of(1950, 1, 1), "Title%", BigDecimal.ONE);
+    }
+}
@@ -2,10 +2,28 @@ package org.jooq.kotlin.coroutines
 
 import kotlin.coroutines.CoroutineContext
 import kotlin.coroutines.EmptyCoroutineContext
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.reactive.asFlow
 import kotlinx.coroutines.reactive.awaitSingle
 import kotlinx.coroutines.reactor.mono
+import kotlinx.coroutines.withContext
+import org.jooq.Batch
 import org.jooq.Configuration
 import org.jooq.DSLContext
+import org.jooq.Query
+import org.jooq.Record
+import org.jooq.Result
+import org.jooq.ResultQuery
+import org.jooq.RowCountQuery
+import org.jooq.impl.DefaultExecutorProvider
+import org.jooq.impl.Internal
 
 // ----------------------------------------------------------------------------
 // Extensions to bridge between the reactive-streams and the coroutine world
@@ -25,4 +43,89 @@ suspend fun <T> DSLContext.transactionCoroutine(context: CoroutineContext, trans
             Wrap(transactional.invoke(c))
         }
     }.awaitSingle().t
-}
\ No newline at end of file
+}
+
+// ----------------------------------------------------------------------------
+// Extensions to fetch and execute queries without blocking the caller
+// ----------------------------------------------------------------------------
+
+// With R2DBC, the query's Publisher is collected directly, and rows are requested as the Flow is
+// collected. With JDBC, rows are read from a lazy Cursor in the blocking context, which defaults to
+// Dispatchers.IO, or to the Configuration's custom ExecutorProvider (e.g. VirtualThreadExecutorProvider),
+// if any. flowOn() would buffer 64 rows by default, so a rendezvous buffer is used instead: emitting
+// suspends until the collector receives the row, so at most one row is read ahead of the collector.
+// The Cursor is closed when the Flow completes, fails, or is cancelled.
+fun <R : Record> ResultQuery<R>.asFlow(context: CoroutineContext = blockingContext(configuration())): Flow<R> =
+    if (Internal.r2dbc(configuration()))
+        (this as org.reactivestreams.Publisher<R>).asFlow()
+    else
+        flow {
+            fetchLazy().use { cursor ->
+                while (true)
+                    emit(cursor.fetchNext() ?: break)
+            }
+        }.flowOn(context).buffer(Channel.RENDEZVOUS)
+
+// Like asFlow(), but emits chunks of up to chunkSize records. With JDBC, each chunk is read from the
+// Cursor in one go, and at most one chunk is read ahead of the collector.
+fun <R : Record> ResultQuery<R>.asChunkedFlow(chunkSize: Int, context: CoroutineContext = blockingContext(configuration())): Flow<List<R>> {
+    require(chunkSize > 0) { "chunkSize must be positive: $chunkSize" }
+
+    return if (Internal.r2dbc(configuration()))
+        flow {
+            var chunk = ArrayList<R>(chunkSize)
+
+            asFlow(context).collect {
+                chunk.add(it)
+
+                if (chunk.size == chunkSize) {
+                    emit(chunk)
+                    chunk = ArrayList(chunkSize)
+                }
+            }
+
+            if (chunk.isNotEmpty())
+                emit(chunk)
+        }
+    else
+        flow {
+            fetchLazy().use { cursor ->
+                while (true) {
+                    val chunk = cursor.fetchNext(chunkSize)
+
+                    if (chunk.isEmpty())
+                        break
+                    else
+                        emit(chunk)
+                }
+            }
+        }.flowOn(context).buffer(Channel.RENDEZVOUS)
+}
+
+@Suppress("UNCHECKED_CAST")
+suspend fun <R : Record> ResultQuery<R>.fetchAwait(context: CoroutineContext = blockingContext(configuration())): Result<R> =
+    if (Internal.r2dbc(configuration()))
+        asFlow(context).toList().let { records ->
+
+            // Plain SQL queries don't know their fields before they're executed
+            (configuration()!!.dsl().newResult(*(records.firstOrNull()?.fields() ?: fields())) as Result<R>).also { it.addAll(records) }
+        }
+    else
+        withContext(context) { fetch() }
+
+suspend fun Query.executeAwait(context: CoroutineContext = blockingContext(configuration())): Int =
+    if (this is RowCountQuery && Internal.r2dbc(configuration()))
+        awaitSingle()
+    else
+        withContext(context) { execute() }
+
+// Batches are executed through their Publisher, which uses R2DBC, if available, or executes the batch
+// chunk by chunk on the Configuration's ExecutorProvider, otherwise.
+suspend fun Batch.executeAwait(): IntArray =
+    asFlow().toList().toIntArray()
+
+private fun blockingContext(configuration: Configuration?): CoroutineContext =
+    when (val provider = configuration?.executorProvider()) {
+        null, is DefaultExecutorProvider -> Dispatchers.IO
+        else -> provider.provide().asCoroutineDispatcher()
+    }
@@ -63,20 +63,61 @@ abstract class AbstractInetConverter<U extends AbstractInet> extends AbstractCon
         if (t == null)
             return null;
 
-        String[] s = t.toString().split("/");
+        String s = t.toString();
+        int slash = s.indexOf('/');
+        int end = slash < 0 ? s.length() : slash;
+
         try {
-            InetAddress a = InetAddress.getByName(s[0]);
+            byte[] ipv4 = ipv4(s, end);
+            InetAddress a = ipv4 != null
+                ? InetAddress.getByAddress(ipv4)
+                : InetAddress.getByName(s.substring(0, end));
 
-            if (s.length == 1)
+            if (slash < 0)
                 return construct(a, null);
             else
-                return construct(a, Integer.valueOf(s[1]));
+                return construct(a, Integer.valueOf(Integer.parseInt(s, slash + 1, s.length(), 10)));
         }
         catch (UnknownHostException e) {
             throw new DataTypeException("Cannot parse InetAddress", e);
         }
     }
 
+    /**
+     * Parse a dotted decimal IPv4 address, or return <code>null</code> if the
+     * address is something else, e.g. an IPv6 address.
+     */
+    static final byte[] ipv4(String s, int end) {
+        byte[] result = new byte[4];
+        int octet = 0;
+        int value = 0;
+        int digits = 0;
+
+        for (int i = 0; i < end; i++) {
+            char c = s.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+
+                if (++digits > 3 || value > 255)
+                    return null;
+            }
+            else if (c == '.' && digits > 0 && octet < 3) {
+                result[octet++] = (byte) value;
+                value = 0;
+                digits = 0;
+            }
+            else
+                return null;
+        }
+
+        if (digits == 0 || octet < 3)
+            return null;
+
+        result[3] = (byte) value;
+        return result;
+    }
+
     @Override
     public Object to(AbstractInet u) {
         return u == null
@@ -65,28 +65,72 @@ abstract class AbstractRangeConverter<X, U extends Range<X>> extends AbstractCon
         if ("empty".equals(s))
             return empty();
 
-        String[] a = s.split(",");
-        String s0 = a[0];
-        String s1 = a[1];
-
-        String lower = s0.substring(1);
-        if (lower.startsWith("\""))
-            lower = lower.substring(1, lower.length() - 1);
-        boolean lowerIncluding = s0.charAt(0) == '[';
-        int l = s1.length() - 1;
-        String upper = s1.substring(0, l);
-        if (upper.startsWith("\""))
-            upper = upper.substring(1, upper.length() - 1);
-        boolean upperIncluding = s1.charAt(l) == ']';
+        // The bounds are separated by the first comma outside of quotes
+        int comma = boundEnd(s, 1);
+        int l = s.length() - 1;
 
         return construct(
-            isBlank(lower) ? null : lower,
-            lowerIncluding,
-            isBlank(upper) ? null : upper,
-            upperIncluding
+            bound(s, 1, comma),
+            s.charAt(0) == '[',
+            bound(s, comma + 1, l),
+            s.charAt(l) == ']'
         );
     }
 
+    static final int boundEnd(String s, int from) {
+        boolean quoted = false;
+
+        for (int i = from; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '"')
+                quoted = !quoted;
+            else if (c == '\\' && quoted)
+                i++;
+            else if (c == ',' && !quoted)
+                return i;
+        }
+
+        throw new IllegalArgumentException("Not a range literal: " + s);
+    }
+
+    /**
+     * A bound, which is <code>null</code> if it is infinite, and which may be
+     * quoted, with <code>\</code> escapes and doubled quotes.
+     */
+    static final String bound(String s, int from, int to) {
+        String result;
+
+        if (from < to && s.charAt(from) == '"') {
+            from++;
+            to--;
+
+            int escape = s.indexOf('\\', from);
+            int quote = s.indexOf('"', from);
+
+            if ((escape < 0 || escape >= to) && (quote < 0 || quote >= to))
+                result = s.substring(from, to);
+            else {
+                StringBuilder sb = new StringBuilder(to - from);
+
+                for (int i = from; i < to; i++) {
+                    char c = s.charAt(i);
+
+                    if (c == '\\' || c == '"')
+                        c = s.charAt(++i);
+
+                    sb.append(c);
+                }
+
+                result = sb.toString();
+            }
+        }
+        else
+            result = s.substring(from, to);
+
+        return isBlank(result) ? null : result;
+    }
+
     @Override
     public Object to(U u) {
         if (u == null)
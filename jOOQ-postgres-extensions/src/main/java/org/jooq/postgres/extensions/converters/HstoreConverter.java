@@ -39,6 +39,9 @@ package org.jooq.postgres.extensions.converters;
 
 import static org.jooq.postgres.extensions.types.Hstore.hstore;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jooq.impl.AbstractConverter;
 import org.jooq.postgres.extensions.types.Hstore;
 
@@ -56,11 +59,77 @@ public class HstoreConverter extends AbstractConverter<Object, Hstore> {
 
     @Override
     public Hstore from(Object t) {
-        return t == null ? null : hstore(org.postgresql.util.HStoreConverter.fromString("" + t));
+        return t == null ? null : hstore(parse(t.toString()));
     }
 
     @Override
     public Object to(Hstore u) {
-        return u == null ? null : org.postgresql.util.HStoreConverter.toString(u.data());
+        return u == null ? null : u.toString();
+    }
+
+    /**
+     * Parse an <code>hstore</code> literal in a single pass, e.g.
+     * <code>"a"=>"1", "b"=>NULL</code>.
+     * <p>
+     * Keys and values without escape sequences are copied from the literal
+     * directly.
+     */
+    static final Map<String, String> parse(String s) {
+        Map<String, String> result = new HashMap<>();
+        int i = 0;
+
+        while ((i = s.indexOf('"', i)) >= 0) {
+            int end = quotedEnd(s, i);
+            String key = unquote(s, i + 1, end);
+
+            // Skip the => operator and whitespace
+            i = s.indexOf("=>", end + 1) + 2;
+            while (Character.isWhitespace(s.charAt(i)))
+                i++;
+
+            if (s.charAt(i) == '"') {
+                end = quotedEnd(s, i);
+                result.put(key, unquote(s, i + 1, end));
+                i = end + 1;
+            }
+            else {
+                result.put(key, null);
+                i += 4;
+            }
+        }
+
+        return result;
+    }
+
+    private static final int quotedEnd(String s, int start) {
+        for (int i = start + 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '\\')
+                i++;
+            else if (c == '"')
+                return i;
+        }
+
+        throw new IllegalArgumentException("Unterminated quoted string in hstore literal: " + s);
+    }
+
+    private static final String unquote(String s, int from, int to) {
+        int escape = s.indexOf('\\', from);
+
+        if (escape < 0 || escape >= to)
+            return s.substring(from, to);
+
+        StringBuilder sb = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+
+            if (c == '\\')
+                c = s.charAt(++i);
+
+            sb.append(c);
+        }
+
+        return sb.toString();
     }
 }
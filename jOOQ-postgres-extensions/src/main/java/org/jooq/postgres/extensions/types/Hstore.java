@@ -40,6 +40,7 @@ package org.jooq.postgres.extensions.types;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -103,8 +104,40 @@ public final class Hstore implements Serializable {
         return false;
     }
 
+    /**
+     * The <code>hstore</code> literal of the data, e.g.
+     * <code>"a"=>"1", "b"=>NULL</code>.
+     */
     @Override
     public String toString() {
-        return org.postgresql.util.HStoreConverter.toString(data);
+        StringBuilder sb = new StringBuilder(data.size() * 16);
+
+        for (Entry<String, String> e : data.entrySet()) {
+            if (sb.length() > 0)
+                sb.append(", ");
+
+            quoted(sb, e.getKey()).append("=>");
+            quoted(sb, e.getValue());
+        }
+
+        return sb.toString();
+    }
+
+    private static final StringBuilder quoted(StringBuilder sb, String s) {
+        if (s == null)
+            return sb.append("NULL");
+
+        sb.append('"');
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '"' || c == '\\')
+                sb.append('\\');
+
+            sb.append(c);
+        }
+
+        return sb.append('"');
     }
 }
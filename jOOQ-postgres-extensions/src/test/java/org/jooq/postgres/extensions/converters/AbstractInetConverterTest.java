@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.postgres.extensions.converters;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.jooq.postgres.extensions.types.Cidr;
+import org.jooq.postgres.extensions.types.Inet;
+
+import org.junit.Test;
+
+/**
+ * Tests for the address parsing of {@link AbstractInetConverter}.
+ */
+public class AbstractInetConverterTest {
+
+    @Test
+    public void testIpv4() {
+        assertArrayEquals(new byte[] { 0, 0, 0, 0 }, ipv4("0.0.0.0"));
+        assertArrayEquals(new byte[] { (byte) 192, (byte) 168, 0, 1 }, ipv4("192.168.0.1"));
+        assertArrayEquals(new byte[] { (byte) 255, (byte) 255, (byte) 255, (byte) 255 }, ipv4("255.255.255.255"));
+        assertArrayEquals(new byte[] { 10, 0, 0, 1 }, ipv4("010.000.0.001"));
+    }
+
+    @Test
+    public void testIpv4Prefix() {
+        assertArrayEquals(new byte[] { 10, 0, 0, 0 }, AbstractInetConverter.ipv4("10.0.0.0/8", 8));
+    }
+
+    @Test
+    public void testNotIpv4() {
+        assertNull(ipv4(""));
+        assertNull(ipv4("256.0.0.1"));
+        assertNull(ipv4("1.2.3"));
+        assertNull(ipv4("1.2.3.4.5"));
+        assertNull(ipv4("1..2.3"));
+        assertNull(ipv4(".1.2.3"));
+        assertNull(ipv4("1.2.3."));
+        assertNull(ipv4("0001.1.1.1"));
+        assertNull(ipv4("::1"));
+        assertNull(ipv4("::ffff:1.2.3.4"));
+        assertNull(ipv4("localhost"));
+    }
+
+    @Test
+    public void testFrom() throws UnknownHostException {
+        InetConverter inet = new InetConverter();
+        CidrConverter cidr = new CidrConverter();
+
+        assertNull(inet.from(null));
+        assertEquals(Inet.valueOf(InetAddress.getByName("192.168.0.1")), inet.from("192.168.0.1"));
+        assertEquals(Inet.valueOf(InetAddress.getByName("192.168.0.1"), 24), inet.from("192.168.0.1/24"));
+        assertEquals(Inet.valueOf(InetAddress.getByName("::1")), inet.from("::1"));
+        assertEquals(Cidr.valueOf(InetAddress.getByName("2001:db8::"), 32), cidr.from("2001:db8::/32"));
+        assertEquals("192.168.0.1/24", inet.to(inet.from("192.168.0.1/24")));
+    }
+
+    private static byte[] ipv4(String s) {
+        return AbstractInetConverter.ipv4(s, s.length());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.postgres.extensions.converters;
+
+import static org.jooq.postgres.extensions.converters.AbstractRangeConverter.bound;
+import static org.jooq.postgres.extensions.converters.AbstractRangeConverter.boundEnd;
+import static org.jooq.postgres.extensions.types.IntegerRange.integerRange;
+import static org.jooq.postgres.extensions.types.LocalDateTimeRange.localDateTimeRange;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.jooq.postgres.extensions.types.IntegerRange;
+
+import org.junit.Test;
+
+/**
+ * Tests for the range literal parsing of {@link AbstractRangeConverter}.
+ */
+public class AbstractRangeConverterTest {
+
+    @Test
+    public void testBoundEnd() {
+        assertEquals(2, boundEnd("[1,2)", 1));
+        assertEquals(3, boundEnd("[12,)", 1));
+        assertEquals(1, boundEnd("(,)", 1));
+        assertEquals(6, boundEnd("[\"a,b\",c)", 1));
+        assertEquals(8, boundEnd("[\"a\\\",b\",c)", 1));
+        assertEquals(8, boundEnd("[\"a\"\",b\",c)", 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundEndMissingComma() {
+        boundEnd("[\"1,2)", 1);
+    }
+
+    @Test
+    public void testBound() {
+        assertEquals("1", bound("[1,2)", 1, 2));
+        assertEquals("2", bound("[1,2)", 3, 4));
+    }
+
+    @Test
+    public void testBoundInfinite() {
+        assertNull(bound("(,2)", 1, 1));
+        assertNull(bound("(1,)", 3, 3));
+        assertNull(bound("(\"\",2)", 1, 3));
+        assertNull(bound("( ,2)", 1, 2));
+    }
+
+    @Test
+    public void testBoundQuoted() {
+        String s = "[\"2020-01-01 00:00:00\",\"2020-01-02 00:00:00\")";
+        int comma = boundEnd(s, 1);
+
+        assertEquals("2020-01-01 00:00:00", bound(s, 1, comma));
+        assertEquals("2020-01-02 00:00:00", bound(s, comma + 1, s.length() - 1));
+    }
+
+    @Test
+    public void testBoundEscaped() {
+        assertEquals("a,b", bound("[\"a,b\",c)", 1, 6));
+        assertEquals("a\",b", bound("[\"a\\\",b\",c)", 1, 8));
+        assertEquals("a\",b", bound("[\"a\"\",b\",c)", 1, 8));
+        assertEquals("a\\b", bound("[\"a\\\\b\",c)", 1, 7));
+    }
+
+    @Test
+    public void testFrom() {
+        IntegerRangeConverter converter = new IntegerRangeConverter();
+
+        assertNull(converter.from(null));
+        assertEquals(integerRange(1, true, 5, false), converter.from("[1,5)"));
+        assertEquals(integerRange(null, false, 5, false), converter.from("(,5)"));
+        assertEquals(integerRange(1, true, null, false), converter.from("[1,)"));
+        assertEquals(integerRange(null, false, null, false), converter.from("(,)"));
+    }
+
+    @Test
+    public void testFromEmpty() {
+        IntegerRange empty = new IntegerRangeConverter().from("empty");
+
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void testFromQuoted() {
+        assertEquals(
+            localDateTimeRange(LocalDateTime.of(2020, 1, 1, 0, 0), true, LocalDateTime.of(2020, 1, 2, 12, 30), false),
+            new LocalDateTimeRangeConverter().from("[\"2020-01-01 00:00:00\",\"2020-01-02 12:30:00\")")
+        );
+    }
+}
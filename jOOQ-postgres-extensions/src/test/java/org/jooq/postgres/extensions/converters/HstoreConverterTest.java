@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.postgres.extensions.converters;
+
+import static org.jooq.postgres.extensions.converters.HstoreConverter.parse;
+import static org.jooq.postgres.extensions.types.Hstore.hstore;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link HstoreConverter}.
+ */
+public class HstoreConverterTest {
+
+    @Test
+    public void testEmpty() {
+        assertEquals(Map.of(), parse(""));
+    }
+
+    @Test
+    public void testSimple() {
+        assertEquals(Map.of("a", "1", "b", "2"), parse("\"a\"=>\"1\", \"b\"=>\"2\""));
+    }
+
+    @Test
+    public void testWhitespace() {
+        assertEquals(Map.of("a", "1", "b", "2"), parse("\"a\" => \"1\",\"b\"=>  \"2\""));
+    }
+
+    @Test
+    public void testNull() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("a", null);
+        expected.put("b", "2");
+        expected.put("c", null);
+
+        assertEquals(expected, parse("\"a\"=>NULL, \"b\"=>\"2\", \"c\"=>NULL"));
+    }
+
+    @Test
+    public void testEscapes() {
+        assertEquals(
+            Map.of("a\"b", "c\\d", "=>", ", ", "", "NULL"),
+            parse("\"a\\\"b\"=>\"c\\\\d\", \"=>\"=>\", \", \"\"=>\"NULL\"")
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnterminated() {
+        parse("\"a\"=>\"1");
+    }
+
+    @Test
+    public void testConverter() {
+        HstoreConverter converter = new HstoreConverter();
+
+        assertNull(converter.from(null));
+        assertNull(converter.to(null));
+        assertEquals(hstore(Map.of("a", "1")), converter.from("\"a\"=>\"1\""));
+        assertEquals("\"a\"=>\"1\"", converter.to(hstore(Map.of("a", "1"))));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Map<String, String> data = new HashMap<>();
+        data.put("a", "1");
+        data.put("b", null);
+        data.put("quote\"d", "back\\slash");
+        data.put("", "");
+        data.put("NULL", "NULL");
+
+        HstoreConverter converter = new HstoreConverter();
+        assertEquals(hstore(data), converter.from(converter.to(hstore(data))));
+    }
+}
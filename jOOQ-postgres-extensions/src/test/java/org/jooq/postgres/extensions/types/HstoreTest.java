@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.postgres.extensions.types;
+
+import static org.jooq.postgres.extensions.types.Hstore.hstore;
+import static org.junit.Assert.assertEquals;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Hstore}.
+ */
+public class HstoreTest {
+
+    @Test
+    public void testToString() {
+        assertEquals("", hstore(Map.of()).toString());
+        assertEquals("\"a\"=>\"1\"", hstore(Map.of("a", "1")).toString());
+
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("a", "1");
+        data.put("b", null);
+        data.put("c", "");
+        assertEquals("\"a\"=>\"1\", \"b\"=>NULL, \"c\"=>\"\"", hstore(data).toString());
+    }
+
+    @Test
+    public void testToStringEscapes() {
+        assertEquals("\"a\\\"b\"=>\"c\\\\d\"", hstore(Map.of("a\"b", "c\\d")).toString());
+        assertEquals("\"NULL\"=>\"NULL\"", hstore(Map.of("NULL", "NULL")).toString());
+    }
+
+    @Test
+    public void testNullData() {
+        assertEquals("", hstore(null).toString());
+        assertEquals(hstore(Map.of()), hstore(null));
+    }
+}
@@ -43,7 +43,9 @@ import org.jetbrains.annotations.*;
 
 
 import java.sql.Statement;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * This type is used for the {@link Batch}'s DSL API.
@@ -112,6 +114,33 @@ public interface BatchBindStep extends Batch {
     @Support
     BatchBindStep bind(Object[]... bindValues);
 
+    /**
+     * Stream several indexed bind values onto the batch statement.
+     * <p>
+     * Unlike {@link #bind(Object[]...)}, the bind values are not collected in
+     * memory, but consumed one chunk at a time during execution. Any bind
+     * values that have been bound previously are executed first.
+     *
+     * @see BatchStreamStep
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    BatchStreamStep bind(Iterator<? extends Object[]> bindValues);
+
+    /**
+     * Stream several indexed bind values onto the batch statement.
+     * <p>
+     * Unlike {@link #bind(Object[]...)}, the bind values are not collected in
+     * memory, but consumed one chunk at a time during execution. Any bind
+     * values that have been bound previously are executed first. The stream
+     * is not closed by jOOQ.
+     *
+     * @see BatchStreamStep
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    BatchStreamStep bind(Stream<? extends Object[]> bindValues);
+
     /**
      * Set named bind values onto the batch statement.
      * <p>
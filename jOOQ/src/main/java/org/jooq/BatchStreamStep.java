@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This type is used for the {@link Batch}'s DSL API.
+ * <p>
+ * It executes a single operation with bind values that are streamed from an
+ * {@link java.util.Iterator} or a {@link java.util.stream.Stream}, e.g.
+ * <pre><code>
+ * create.batch(query)
+ *       .bind(bindValues)
+ *       .onChunk(counts -&gt; log(counts))
+ *       .executeStreaming();
+ * </code></pre>
+ * <p>
+ * Bind values are consumed one chunk of {@link Settings#getBatchSize()} sets
+ * at a time (or {@link #DEFAULT_BATCH_SIZE} sets, if the batch size is
+ * unbounded). Each chunk is added to the JDBC batch and executed before the
+ * next one is consumed, so only the current chunk is kept in memory.
+ * <p>
+ * The bind value source can be consumed only once.
+ *
+ * @see Statement#executeBatch()
+ */
+public interface BatchStreamStep extends Batch {
+
+    /**
+     * The number of bind value sets that are executed in one JDBC batch, if
+     * {@link Settings#getBatchSize()} is unbounded.
+     */
+    int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Receive the row counts of each chunk, as soon as it has been executed.
+     */
+    @NotNull @CheckReturnValue
+    BatchStreamStep onChunk(Consumer<? super int[]> consumer);
+
+    /**
+     * Execute the batch operation without collecting the row counts of each
+     * bind value set.
+     * <p>
+     * Use {@link #onChunk(Consumer)} to receive row counts, if needed.
+     *
+     * @return The number of bind value sets that have been executed.
+     * @see Statement#executeBatch()
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @Blocking
+    long executeStreaming() throws DataAccessException;
+
+    /**
+     * Get the number of bind value sets that have been executed so far, or
+     * {@link Integer#MAX_VALUE} if that number exceeds the range of
+     * <code>int</code>.
+     * <p>
+     * Use the result of {@link #executeStreaming()} to get the exact number.
+     */
+    @Override
+    int size();
+}
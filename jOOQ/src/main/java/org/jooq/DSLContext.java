@@ -8753,6 +8753,72 @@ public interface DSLContext extends Scope {
     @Support
     <R extends Record> DeleteUsingStep<R> delete(Table<R> table);
 
+    // -------------------------------------------------------------------------
+    // XXX Query templates
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a reusable {@link QueryTemplate} from a query built with typed
+     * bind value slots.
+     * <p>
+     * The query is built and rendered only once, using this context's
+     * {@link Configuration}. Executing the template binds new values to the
+     * slots, in the order of their creation:
+     * <p>
+     * <pre><code>
+     * QueryTemplate deleteById = ctx.queryTemplate(s -&gt;
+     *     ctx.deleteFrom(BOOK).where(BOOK.ID.eq(s.slot(BOOK.ID)))
+     * );
+     *
+     * deleteById.execute(1);
+     * deleteById.execute(2);
+     * </code></pre>
+     * <p>
+     * If {@link Settings#isCacheRenderedSQL()} is enabled, templates are cached
+     * in the {@link Configuration} by the identity of the argument function,
+     * so a non-capturing lambda may be passed to this method on each execution.
+     *
+     * @param query A function producing the query from the template's slots
+     * @return The template
+     * @throws DataAccessException If the query cannot be rendered as a
+     *             template, e.g. because a slot is not rendered as a bind
+     *             value.
+     * @see QueryTemplate
+     */
+    @NotNull
+    QueryTemplate queryTemplate(Function<? super TemplateSlots, ? extends Query> query) throws DataAccessException;
+
+    /**
+     * Create a reusable {@link ResultQueryTemplate} from a query built with
+     * typed bind value slots.
+     * <p>
+     * The query is built and rendered only once, using this context's
+     * {@link Configuration}. Executing the template binds new values to the
+     * slots, in the order of their creation:
+     * <p>
+     * <pre><code>
+     * ResultQueryTemplate&lt;BookRecord&gt; bookById = ctx.resultQueryTemplate(s -&gt;
+     *     ctx.selectFrom(BOOK).where(BOOK.ID.eq(s.slot(BOOK.ID)))
+     * );
+     *
+     * BookRecord book1 = bookById.fetchOne(1);
+     * BookRecord book2 = bookById.fetchOne(2);
+     * </code></pre>
+     * <p>
+     * If {@link Settings#isCacheRenderedSQL()} is enabled, templates are cached
+     * in the {@link Configuration} by the identity of the argument function,
+     * so a non-capturing lambda may be passed to this method on each execution.
+     *
+     * @param query A function producing the query from the template's slots
+     * @return The template
+     * @throws DataAccessException If the query cannot be rendered as a
+     *             template, e.g. because a slot is not rendered as a bind
+     *             value.
+     * @see ResultQueryTemplate
+     */
+    @NotNull
+    <R extends Record> ResultQueryTemplate<R> resultQueryTemplate(Function<? super TemplateSlots, ? extends ResultQuery<R>> query) throws DataAccessException;
+
     // -------------------------------------------------------------------------
     // XXX Batch query execution
     // -------------------------------------------------------------------------
@@ -1363,6 +1363,25 @@ public interface ExecuteListener extends EventListener, Serializable {
      */
     default void warning(ExecuteContext ctx) {}
 
+    /**
+     * Whether this listener subscribes to the per-record
+     * {@link #recordStart(ExecuteContext)} and
+     * {@link #recordEnd(ExecuteContext)} events.
+     * <p>
+     * Unlike other events, record events are fired for every record that is
+     * fetched. If no listener of an execution subscribes to them, jOOQ skips
+     * their dispatch entirely. Listeners that don't override any of the two
+     * methods are never subscribed. Listeners that do may still return
+     * <code>false</code> here, e.g. if they only conditionally need the
+     * events.
+     * <p>
+     * This method is called at most once per execution lifecycle, before
+     * records are fetched.
+     */
+    default boolean subscribesToRecordEvents() {
+        return true;
+    }
+
     /**
      * Create an {@link ExecuteListener} with a {@link #start(ExecuteContext)}
      * implementation.
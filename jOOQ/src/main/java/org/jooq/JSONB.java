@@ -40,7 +40,7 @@ package org.jooq;
 import java.io.Serializable;
 import java.util.Objects;
 
-import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONTokenizer;
 import org.jooq.tools.json.JSONValue;
 import org.jooq.tools.json.ParseException;
 
@@ -120,7 +120,7 @@ public final class JSONB implements Serializable {
     private final Object parsed() {
         if (parsed == null) {
             try {
-                parsed = new JSONParser().parse(data);
+                parsed = new JSONTokenizer(data).read(null);
             }
             catch (ParseException e) {
                 parsed = data;
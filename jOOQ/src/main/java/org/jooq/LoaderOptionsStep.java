@@ -341,4 +341,39 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Load rows on a given number of parallel workers.
+     * <p>
+     * The input is read on the calling thread into a bounded queue of row
+     * chunks, from which the workers consume. Each worker runs on the
+     * {@link Configuration#executorProvider()}, acquires its own connection
+     * from the {@link Configuration#connectionProvider()}, and applies the
+     * <code>BULK</code>, <code>BATCH</code>, and <code>COMMIT</code> options
+     * independently. This requires a {@link ConnectionProvider} that provides
+     * distinct connections, e.g. a connection pool. Consequently:
+     * <ul>
+     * <li>{@link #commitAll()} commits or rolls back the rows of each worker
+     * separately.</li>
+     * <li>{@link #commitNone()} requires connections to be in auto-commit mode,
+     * as there is no common transaction.</li>
+     * <li>Row listeners are called on the worker threads, and their
+     * {@link LoaderContext} reflects the worker's progress.</li>
+     * </ul>
+     * <p>
+     * The outcome in {@link Loader} is aggregated over all workers, and
+     * {@link LoaderError#rowIndex()} refers to the row index in the input.
+     * With {@link #onErrorAbort()}, the first error stops all workers.
+     *
+     * @param workers The number of workers. If you don't specify a value,
+     *            <code>1</code> will be the default, loading all rows on the
+     *            calling thread.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallel(int workers);
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Query} that has been built and rendered once, and that can be
+ * executed many times with different bind values.
+ * <p>
+ * Query templates are created from a function that builds a query using typed
+ * bind value {@link TemplateSlots}:
+ * <p>
+ * <pre><code>
+ * QueryTemplate deleteById = ctx.queryTemplate(s -&gt;
+ *     ctx.deleteFrom(BOOK).where(BOOK.ID.eq(s.slot(BOOK.ID)))
+ * );
+ *
+ * // Later, possibly on many threads:
+ * deleteById.execute(1);
+ * </code></pre>
+ * <p>
+ * The query is built and rendered only once, using the {@link Configuration}
+ * (including {@link SQLDialect} and {@link Settings}) of the
+ * {@link DSLContext} that created the template. Executing a template only
+ * binds new values to the slots, skipping both the construction of the query
+ * and its rendering. Unlike {@link Query#keepStatement(boolean)}, templates
+ * don't keep any JDBC resources open. Each execution acquires its own
+ * connection from the {@link ConnectionProvider}, so templates can be shared
+ * between threads.
+ * <p>
+ * Templates require bind values. Creating a template fails with a
+ * {@link DataAccessException} if any slot is not rendered as a bind value,
+ * e.g. because of {@link Settings#getStatementType()} or
+ * {@link Settings#getParamType()}. DML statements with a
+ * <code>RETURNING</code> clause are not supported.
+ *
+ * @see DSLContext#queryTemplate(Function)
+ * @see DSLContext#resultQueryTemplate(Function)
+ */
+public interface QueryTemplate {
+
+    /**
+     * The SQL string that this template executes.
+     */
+    @NotNull
+    String getSQL();
+
+    /**
+     * The bind value slots of this template, in the order of their creation.
+     */
+    @NotNull
+    List<Param<?>> slots();
+
+    /**
+     * Create a new, executable query from this template, binding the argument
+     * values to the template's {@link #slots()}, in the order of their
+     * creation.
+     * <p>
+     * The resulting query does not need to be rendered again.
+     *
+     * @throws IllegalArgumentException if the number of bind values doesn't
+     *             match the number of {@link #slots()}.
+     */
+    @NotNull
+    Query bind(Object... values);
+
+    /**
+     * Execute this template with the argument bind values.
+     * <p>
+     * This is the same as calling <code>bind(values).execute()</code>.
+     *
+     * @see Query#execute()
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @Blocking
+    int execute(Object... values) throws DataAccessException;
+}
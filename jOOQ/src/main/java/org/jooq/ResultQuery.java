@@ -38,6 +38,7 @@
 
 package org.jooq;
 
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -60,6 +61,7 @@ import javax.sql.DataSource;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.NoDataFoundException;
@@ -413,6 +415,82 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @Blocking
     <X, A> X collect(Collector<? super R, A, X> collector) throws DataAccessException;
 
+    /**
+     * Execute the query and write its results as CSV to a {@link Writer},
+     * using the default {@link CSVFormat}.
+     *
+     * @see #formatCSV(Writer, CSVFormat)
+     */
+    @Blocking
+    void formatCSV(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and write its results as CSV to a {@link Writer}.
+     * <p>
+     * This works in the same way as calling
+     * {@link Cursor#formatCSV(Writer, CSVFormat)} on {@link #fetchLazy()},
+     * closing the cursor afterwards. Records are written as they are fetched
+     * from the JDBC {@link ResultSet}, without materialising a {@link Result},
+     * and the output is identical to that of
+     * {@link Result#formatCSV(Writer, CSVFormat)}. The writer is flushed
+     * every {@link Settings#getFormatCursorFlushInterval()} records, and at
+     * the end.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    @Blocking
+    void formatCSV(Writer writer, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and write its results as JSON to a {@link Writer},
+     * using the default {@link JSONFormat}.
+     *
+     * @see #formatJSON(Writer, JSONFormat)
+     */
+    @Blocking
+    void formatJSON(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and write its results as JSON to a {@link Writer}.
+     * <p>
+     * This works in the same way as calling
+     * {@link Cursor#formatJSON(Writer, JSONFormat)} on {@link #fetchLazy()},
+     * closing the cursor afterwards. See {@link #formatCSV(Writer, CSVFormat)}
+     * for details.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    @Blocking
+    void formatJSON(Writer writer, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and write its results as XML to a {@link Writer},
+     * using the default {@link XMLFormat}.
+     *
+     * @see #formatXML(Writer, XMLFormat)
+     */
+    @Blocking
+    void formatXML(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and write its results as XML to a {@link Writer}.
+     * <p>
+     * This works in the same way as calling
+     * {@link Cursor#formatXML(Writer, XMLFormat)} on {@link #fetchLazy()},
+     * closing the cursor afterwards. See {@link #formatCSV(Writer, CSVFormat)}
+     * for details.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    @Blocking
+    void formatXML(Writer writer, XMLFormat format) throws DataAccessException, IOException;
+
     /**
      * Execute the query and "lazily" return the generated result.
      * <p>
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.TooManyRowsException;
+
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link QueryTemplate} for a {@link ResultQuery}.
+ * <p>
+ * <pre><code>
+ * ResultQueryTemplate&lt;BookRecord&gt; bookById = ctx.resultQueryTemplate(s -&gt;
+ *     ctx.selectFrom(BOOK).where(BOOK.ID.eq(s.slot(BOOK.ID)))
+ * );
+ *
+ * // Later, possibly on many threads:
+ * BookRecord book = bookById.fetchOne(1);
+ * </code></pre>
+ * <p>
+ * The records produced by a template have the same {@link Field}s and record
+ * type as the {@link ResultQuery} that the template was created from.
+ *
+ * @see DSLContext#resultQueryTemplate(Function)
+ */
+public interface ResultQueryTemplate<R extends Record> extends QueryTemplate {
+
+    /**
+     * Create a new, executable query from this template, binding the argument
+     * values to the template's {@link #slots()}, in the order of their
+     * creation.
+     * <p>
+     * The resulting query does not need to be rendered again.
+     *
+     * @throws IllegalArgumentException if the number of bind values doesn't
+     *             match the number of {@link #slots()}.
+     */
+    @NotNull
+    @Override
+    ResultQuery<R> bind(Object... values);
+
+    /**
+     * Fetch the results of this template with the argument bind values.
+     * <p>
+     * This is the same as calling <code>bind(values).fetch()</code>.
+     *
+     * @see ResultQuery#fetch()
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Blocking
+    Result<R> fetch(Object... values) throws DataAccessException;
+
+    /**
+     * Fetch the results of this template with the argument bind values, and
+     * map them using a {@link RecordMapper}.
+     * <p>
+     * This is the same as calling <code>bind(values).fetch(mapper)</code>.
+     *
+     * @see ResultQuery#fetch(RecordMapper)
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Blocking
+    <E> List<E> fetch(RecordMapper<? super R, E> mapper, Object... values) throws DataAccessException;
+
+    /**
+     * Fetch at most one resulting record of this template with the argument
+     * bind values.
+     * <p>
+     * This is the same as calling <code>bind(values).fetchOne()</code>.
+     *
+     * @see ResultQuery#fetchOne()
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws TooManyRowsException if the query returned more than one record
+     */
+    @Nullable
+    @Blocking
+    R fetchOne(Object... values) throws DataAccessException, TooManyRowsException;
+}
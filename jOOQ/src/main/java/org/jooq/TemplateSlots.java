@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A factory for typed bind value slots of a {@link QueryTemplate}.
+ * <p>
+ * Slots are {@link Param} instances that are bound to new values each time a
+ * template is executed. Slots are bound in the order of their creation. A slot
+ * may be used several times in the same query.
+ *
+ * @see DSLContext#queryTemplate(Function)
+ * @see DSLContext#resultQueryTemplate(Function)
+ */
+public interface TemplateSlots {
+
+    /**
+     * Create a new slot of a given type.
+     */
+    @NotNull
+    <T> Param<T> slot(Class<T> type);
+
+    /**
+     * Create a new slot of a given data type.
+     */
+    @NotNull
+    <T> Param<T> slot(DataType<T> type);
+
+    /**
+     * Create a new slot with the data type of a given field.
+     */
+    @NotNull
+    <T> Param<T> slot(Field<T> field);
+}
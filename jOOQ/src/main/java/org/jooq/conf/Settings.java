@@ -133,6 +133,8 @@ public class Settings
     @XmlElement(defaultValue = "WHEN_RESULT_REQUESTED")
     @XmlSchemaType(name = "string")
     protected FetchIntermediateResult fetchIntermediateResult = FetchIntermediateResult.WHEN_RESULT_REQUESTED;
+    @XmlElement(defaultValue = "0")
+    protected Integer formatCursorFlushInterval = 0;
     @XmlElement(defaultValue = "true")
     protected Boolean diagnosticsDuplicateStatements = true;
     @XmlElement(defaultValue = "true")
@@ -381,8 +383,16 @@ public class Settings
     protected Boolean cacheParsingConnection = true;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheRenderedSQL = false;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheRenderedSQLLRUCacheSize = 8192;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cachePreparedStatementInConnection = false;
+    @XmlElement(defaultValue = "64")
+    protected Integer cachePreparedStatementInConnectionLRUCacheSize = 64;
     @XmlElement(defaultValue = "THROW_ALL")
     @XmlSchemaType(name = "string")
     protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
@@ -419,8 +429,14 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "256")
+    protected Integer fetchR2dbcPrefetchSize = 256;
+    @XmlElement(defaultValue = "64")
+    protected Integer fetchR2dbcLowWatermark = 64;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
+    @XmlElement(defaultValue = "false")
+    protected Boolean rewriteBatchedInserts = false;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
@@ -1560,6 +1576,26 @@ public class Settings
         this.fetchIntermediateResult = value;
     }
 
+    /**
+     * The number of records after which formatting a {@link org.jooq.Cursor} (e.g. via {@link org.jooq.Cursor#formatCSV(java.io.Writer)} or {@link org.jooq.ResultQuery#formatCSV(java.io.Writer)}) flushes the {@link java.io.Writer}.
+     * <p>
+     * Defaults to <code>0</code>, meaning the writer is flushed only once all records have been written.
+     * 
+     */
+    public Integer getFormatCursorFlushInterval() {
+        return formatCursorFlushInterval;
+    }
+
+    /**
+     * The number of records after which formatting a {@link org.jooq.Cursor} (e.g. via {@link org.jooq.Cursor#formatCSV(java.io.Writer)} or {@link org.jooq.ResultQuery#formatCSV(java.io.Writer)}) flushes the {@link java.io.Writer}.
+     * <p>
+     * Defaults to <code>0</code>, meaning the writer is flushed only once all records have been written.
+     * 
+     */
+    public void setFormatCursorFlushInterval(Integer value) {
+        this.formatCursorFlushInterval = value;
+    }
+
     /**
      * Whether to run the {@link org.jooq.DiagnosticsListener#duplicateStatements(org.jooq.DiagnosticsContext)} diagnostic.
      * <p>
@@ -4647,6 +4683,54 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * Whether query templates should be cached in the configuration, and re-used when a template is
+     * created again from the same function.
+     * <p>
+     * Templates created by {@link org.jooq.DSLContext#queryTemplate(java.util.function.Function)} and
+     * {@link org.jooq.DSLContext#resultQueryTemplate(java.util.function.Function)} are looked up by the
+     * identity of their function, the dialect, and the settings, without building or rendering the
+     * query. This is useful for non-capturing lambdas, which are the same instance on every evaluation,
+     * and which can thus be passed to these methods on every execution, instead of keeping a reference
+     * to the template. Functions that capture variables are different instances, and are not re-used.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheRenderedSQL() {
+        return cacheRenderedSQL;
+    }
+
+    /**
+     * Sets the value of the cacheRenderedSQL property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheRenderedSQL(Boolean value) {
+        this.cacheRenderedSQL = value;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheRenderedSQLLRUCacheSize() {
+        return cacheRenderedSQLLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public void setCacheRenderedSQLLRUCacheSize(Integer value) {
+        this.cacheRenderedSQLLRUCacheSize = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -4671,6 +4755,51 @@ public class Settings
         this.cachePreparedStatementInLoader = value;
     }
 
+    /**
+     * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached per JDBC {@link java.sql.Connection}, and re-used
+     * when the same SQL string is prepared again.
+     * <p>
+     * This only applies to connections provided by a {@link org.jooq.impl.DefaultConnectionProvider}, e.g. when using
+     * {@link org.jooq.impl.DSL#using(java.sql.Connection)}, or within a transaction, as statements cannot outlive the connections
+     * they were prepared on. Statements are returned to the cache instead of being closed.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCachePreparedStatementInConnection() {
+        return cachePreparedStatementInConnection;
+    }
+
+    /**
+     * Sets the value of the cachePreparedStatementInConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCachePreparedStatementInConnection(Boolean value) {
+        this.cachePreparedStatementInConnection = value;
+    }
+
+    /**
+     * The default implementation of the per-connection {@link java.sql.PreparedStatement} cache's LRU cache size.
+     * 
+     */
+    public Integer getCachePreparedStatementInConnectionLRUCacheSize() {
+        return cachePreparedStatementInConnectionLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the per-connection {@link java.sql.PreparedStatement} cache's LRU cache size.
+     * 
+     */
+    public void setCachePreparedStatementInConnectionLRUCacheSize(Integer value) {
+        this.cachePreparedStatementInConnectionLRUCacheSize = value;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -5044,6 +5173,42 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * The maximum number of rows that jOOQ requests from an R2DBC driver at once, and that are outstanding at any time.
+     * <p>
+     * Requests are bounded by downstream demand, so rows are never requested before they are demanded, and never buffered.
+     * 
+     */
+    public Integer getFetchR2dbcPrefetchSize() {
+        return fetchR2dbcPrefetchSize;
+    }
+
+    /**
+     * The maximum number of rows that jOOQ requests from an R2DBC driver at once, and that are outstanding at any time.
+     * <p>
+     * Requests are bounded by downstream demand, so rows are never requested before they are demanded, and never buffered.
+     * 
+     */
+    public void setFetchR2dbcPrefetchSize(Integer value) {
+        this.fetchR2dbcPrefetchSize = value;
+    }
+
+    /**
+     * The number of outstanding rows requested from an R2DBC driver below which jOOQ requests more rows, up to {@link #getFetchR2dbcPrefetchSize()}, if there is downstream demand.
+     * 
+     */
+    public Integer getFetchR2dbcLowWatermark() {
+        return fetchR2dbcLowWatermark;
+    }
+
+    /**
+     * The number of outstanding rows requested from an R2DBC driver below which jOOQ requests more rows, up to {@link #getFetchR2dbcPrefetchSize()}, if there is downstream demand.
+     * 
+     */
+    public void setFetchR2dbcLowWatermark(Integer value) {
+        this.fetchR2dbcLowWatermark = value;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -5060,6 +5225,30 @@ public class Settings
         this.batchSize = value;
     }
 
+    /**
+     * Whether single row <code>INSERT .. VALUES</code> statements that are executed in a batch with bind values should be rewritten to multi row <code>INSERT .. VALUES</code> statements, containing as many rows as the dialect's bind value limit permits.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isRewriteBatchedInserts() {
+        return rewriteBatchedInserts;
+    }
+
+    /**
+     * Sets the value of the rewriteBatchedInserts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setRewriteBatchedInserts(Boolean value) {
+        this.rewriteBatchedInserts = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -6453,6 +6642,17 @@ public class Settings
         return this;
     }
 
+    /**
+     * The number of records after which formatting a {@link org.jooq.Cursor} (e.g. via {@link org.jooq.Cursor#formatCSV(java.io.Writer)} or {@link org.jooq.ResultQuery#formatCSV(java.io.Writer)}) flushes the {@link java.io.Writer}.
+     * <p>
+     * Defaults to <code>0</code>, meaning the writer is flushed only once all records have been written.
+     * 
+     */
+    public Settings withFormatCursorFlushInterval(Integer value) {
+        setFormatCursorFlushInterval(value);
+        return this;
+    }
+
     public Settings withDiagnosticsDuplicateStatements(Boolean value) {
         setDiagnosticsDuplicateStatements(value);
         return this;
@@ -7165,11 +7365,39 @@ public class Settings
         return this;
     }
 
+    public Settings withCacheRenderedSQL(Boolean value) {
+        setCacheRenderedSQL(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheRenderedSQLLRUCacheSize(Integer value) {
+        setCacheRenderedSQLLRUCacheSize(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
     }
 
+    public Settings withCachePreparedStatementInConnection(Boolean value) {
+        setCachePreparedStatementInConnection(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the per-connection {@link java.sql.PreparedStatement} cache's LRU cache size.
+     * 
+     */
+    public Settings withCachePreparedStatementInConnectionLRUCacheSize(Integer value) {
+        setCachePreparedStatementInConnectionLRUCacheSize(value);
+        return this;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -7283,6 +7511,26 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of rows that jOOQ requests from an R2DBC driver at once, and that are outstanding at any time.
+     * <p>
+     * Requests are bounded by downstream demand, so rows are never requested before they are demanded, and never buffered.
+     * 
+     */
+    public Settings withFetchR2dbcPrefetchSize(Integer value) {
+        setFetchR2dbcPrefetchSize(value);
+        return this;
+    }
+
+    /**
+     * The number of outstanding rows requested from an R2DBC driver below which jOOQ requests more rows, up to {@link #getFetchR2dbcPrefetchSize()}, if there is downstream demand.
+     * 
+     */
+    public Settings withFetchR2dbcLowWatermark(Integer value) {
+        setFetchR2dbcLowWatermark(value);
+        return this;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -7292,6 +7540,11 @@ public class Settings
         return this;
     }
 
+    public Settings withRewriteBatchedInserts(Boolean value) {
+        setRewriteBatchedInserts(value);
+        return this;
+    }
+
     public Settings withDebugInfoOnStackTrace(Boolean value) {
         setDebugInfoOnStackTrace(value);
         return this;
@@ -7769,6 +8022,7 @@ public class Settings
         builder.append("fetchTriggerValuesAfterSQLServerOutput", fetchTriggerValuesAfterSQLServerOutput);
         builder.append("fetchTriggerValuesAfterReturning", fetchTriggerValuesAfterReturning);
         builder.append("fetchIntermediateResult", fetchIntermediateResult);
+        builder.append("formatCursorFlushInterval", formatCursorFlushInterval);
         builder.append("diagnosticsDuplicateStatements", diagnosticsDuplicateStatements);
         builder.append("diagnosticsDuplicateStatementsUsingTransformPatterns", diagnosticsDuplicateStatementsUsingTransformPatterns);
         builder.append("diagnosticsMissingWasNullCall", diagnosticsMissingWasNullCall);
@@ -7882,7 +8136,11 @@ public class Settings
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheRenderedSQL", cacheRenderedSQL);
+        builder.append("cacheRenderedSQLLRUCacheSize", cacheRenderedSQLLRUCacheSize);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
+        builder.append("cachePreparedStatementInConnection", cachePreparedStatementInConnection);
+        builder.append("cachePreparedStatementInConnectionLRUCacheSize", cachePreparedStatementInConnectionLRUCacheSize);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
@@ -7900,7 +8158,10 @@ public class Settings
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("fetchR2dbcPrefetchSize", fetchR2dbcPrefetchSize);
+        builder.append("fetchR2dbcLowWatermark", fetchR2dbcLowWatermark);
         builder.append("batchSize", batchSize);
+        builder.append("rewriteBatchedInserts", rewriteBatchedInserts);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
@@ -8334,6 +8595,15 @@ public class Settings
                 return false;
             }
         }
+        if (formatCursorFlushInterval == null) {
+            if (other.formatCursorFlushInterval!= null) {
+                return false;
+            }
+        } else {
+            if (!formatCursorFlushInterval.equals(other.formatCursorFlushInterval)) {
+                return false;
+            }
+        }
         if (diagnosticsDuplicateStatements == null) {
             if (other.diagnosticsDuplicateStatements!= null) {
                 return false;
@@ -9351,6 +9621,24 @@ public class Settings
                 return false;
             }
         }
+        if (cacheRenderedSQL == null) {
+            if (other.cacheRenderedSQL!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQL.equals(other.cacheRenderedSQL)) {
+                return false;
+            }
+        }
+        if (cacheRenderedSQLLRUCacheSize == null) {
+            if (other.cacheRenderedSQLLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQLLRUCacheSize.equals(other.cacheRenderedSQLLRUCacheSize)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -9360,6 +9648,24 @@ public class Settings
                 return false;
             }
         }
+        if (cachePreparedStatementInConnection == null) {
+            if (other.cachePreparedStatementInConnection!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatementInConnection.equals(other.cachePreparedStatementInConnection)) {
+                return false;
+            }
+        }
+        if (cachePreparedStatementInConnectionLRUCacheSize == null) {
+            if (other.cachePreparedStatementInConnectionLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatementInConnectionLRUCacheSize.equals(other.cachePreparedStatementInConnectionLRUCacheSize)) {
+                return false;
+            }
+        }
         if (throwExceptions == null) {
             if (other.throwExceptions!= null) {
                 return false;
@@ -9513,6 +9819,24 @@ public class Settings
                 return false;
             }
         }
+        if (fetchR2dbcPrefetchSize == null) {
+            if (other.fetchR2dbcPrefetchSize!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchR2dbcPrefetchSize.equals(other.fetchR2dbcPrefetchSize)) {
+                return false;
+            }
+        }
+        if (fetchR2dbcLowWatermark == null) {
+            if (other.fetchR2dbcLowWatermark!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchR2dbcLowWatermark.equals(other.fetchR2dbcLowWatermark)) {
+                return false;
+            }
+        }
         if (batchSize == null) {
             if (other.batchSize!= null) {
                 return false;
@@ -9522,6 +9846,15 @@ public class Settings
                 return false;
             }
         }
+        if (rewriteBatchedInserts == null) {
+            if (other.rewriteBatchedInserts!= null) {
+                return false;
+            }
+        } else {
+            if (!rewriteBatchedInserts.equals(other.rewriteBatchedInserts)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -10037,6 +10370,7 @@ public class Settings
         result = ((prime*result)+((fetchTriggerValuesAfterSQLServerOutput == null)? 0 :fetchTriggerValuesAfterSQLServerOutput.hashCode()));
         result = ((prime*result)+((fetchTriggerValuesAfterReturning == null)? 0 :fetchTriggerValuesAfterReturning.hashCode()));
         result = ((prime*result)+((fetchIntermediateResult == null)? 0 :fetchIntermediateResult.hashCode()));
+        result = ((prime*result)+((formatCursorFlushInterval == null)? 0 :formatCursorFlushInterval.hashCode()));
         result = ((prime*result)+((diagnosticsDuplicateStatements == null)? 0 :diagnosticsDuplicateStatements.hashCode()));
         result = ((prime*result)+((diagnosticsDuplicateStatementsUsingTransformPatterns == null)? 0 :diagnosticsDuplicateStatementsUsingTransformPatterns.hashCode()));
         result = ((prime*result)+((diagnosticsMissingWasNullCall == null)? 0 :diagnosticsMissingWasNullCall.hashCode()));
@@ -10150,7 +10484,11 @@ public class Settings
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQL == null)? 0 :cacheRenderedSQL.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQLLRUCacheSize == null)? 0 :cacheRenderedSQLLRUCacheSize.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
+        result = ((prime*result)+((cachePreparedStatementInConnection == null)? 0 :cachePreparedStatementInConnection.hashCode()));
+        result = ((prime*result)+((cachePreparedStatementInConnectionLRUCacheSize == null)? 0 :cachePreparedStatementInConnectionLRUCacheSize.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
@@ -10168,7 +10506,10 @@ public class Settings
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((fetchR2dbcPrefetchSize == null)? 0 :fetchR2dbcPrefetchSize.hashCode()));
+        result = ((prime*result)+((fetchR2dbcLowWatermark == null)? 0 :fetchR2dbcLowWatermark.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
+        result = ((prime*result)+((rewriteBatchedInserts == null)? 0 :rewriteBatchedInserts.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
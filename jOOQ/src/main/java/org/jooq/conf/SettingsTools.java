@@ -203,6 +203,13 @@ public final class SettingsTools {
         return defaultIfNull(settings.isCacheParsingConnection(), true);
     }
 
+    /**
+     * Whether rendered SQL caching is active.
+     */
+    public static final boolean renderedSQLCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheRenderedSQL(), false);
+    }
+
     /**
      * The render locale that is applicable, or the default locale if no such
      * locale is configured.
@@ -457,6 +464,24 @@ public final class SettingsTools {
              : 0;
     }
 
+    /**
+     * Return the specified {@link Settings#getFetchR2dbcPrefetchSize()}, or
+     * <code>1</code> if it is not positive.
+     */
+    public static final int getFetchR2dbcPrefetchSize(Settings settings) {
+        Integer result = settings.getFetchR2dbcPrefetchSize();
+        return result != null ? Math.max(1, result) : 256;
+    }
+
+    /**
+     * Return the specified {@link Settings#getFetchR2dbcLowWatermark()},
+     * bounded by <code>[0, prefetchSize - 1]</code>.
+     */
+    public static final int getFetchR2dbcLowWatermark(Settings settings) {
+        Integer result = settings.getFetchR2dbcLowWatermark();
+        return Math.min(getFetchR2dbcPrefetchSize(settings) - 1, Math.max(0, result != null ? result : 64));
+    }
+
     /**
      * Return <code>fetchServerOutputSize</code> if it is not <code>0</code>, or
      * the specified {@link Settings#getFetchServerOutputSize()}.
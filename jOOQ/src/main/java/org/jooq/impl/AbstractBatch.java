@@ -41,6 +41,8 @@ import static org.jooq.SQLDialect.DUCKDB;
 import static org.jooq.SQLDialect.TRINO;
 import static org.jooq.impl.Tools.blocking;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -50,6 +52,7 @@ import org.jooq.Batch;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
 
 /**
  * @author Lukas Eder
@@ -74,4 +77,19 @@ abstract class AbstractBatch implements Batch {
     public final CompletionStage<int[]> executeAsync(Executor executor) {
         return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(this::execute), executor), () -> executor);
     }
+
+    /**
+     * Split this batch into consecutive batches of at most
+     * {@link Settings#getBatchSize()} elements each, which can be executed
+     * independently of one another, e.g. to emit update counts of a blocking
+     * reactive batch as soon as each chunk completes.
+     */
+    abstract List<? extends AbstractBatch> split();
+
+    /**
+     * The chunks of {@link #split()}, which may be produced lazily.
+     */
+    Iterator<? extends AbstractBatch> splitIterator() {
+        return split().iterator();
+    }
 }
@@ -62,6 +62,12 @@ abstract class AbstractCursor<R extends Record> extends AbstractResult<R> implem
         super(configuration, row);
     }
 
+    @Override
+    final int formatFlushInterval() {
+        Integer result = Tools.settings(configuration).getFormatCursorFlushInterval();
+        return result != null ? result : 0;
+    }
+
     @Override
     public final Stream<R> stream() {
         return StreamSupport.stream(
@@ -54,7 +54,6 @@ import static org.jooq.SQLDialect.HSQLDB;
 // ...
 // ...
 import static org.jooq.conf.ParamType.INLINED;
-import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.conf.ThrowExceptions.THROW_NONE;
 import static org.jooq.impl.DSL.using;
@@ -84,7 +83,6 @@ import org.jooq.RenderContext;
 import org.jooq.SQLDialect;
 import org.jooq.Select;
 import org.jooq.conf.QueryPoolable;
-import org.jooq.conf.SettingsTools;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DetachedException;
@@ -319,11 +317,11 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                 }
 
                 // [#1856] [#4753] Set the query timeout onto the Statement
-                int t = SettingsTools.getQueryTimeout(timeout, ctx.settings());
+                int t = CompiledSettings.of(ctx).queryTimeout(timeout);
                 if (t != 0)
                     ctx.statement().setQueryTimeout(t);
 
-                QueryPoolable p = SettingsTools.getQueryPoolable(poolable, ctx.settings());
+                QueryPoolable p = CompiledSettings.of(ctx).queryPoolable(poolable);
                 if (p == QueryPoolable.TRUE)
                     ctx.statement().setPoolable(true);
                 else if (p == QueryPoolable.FALSE)
@@ -334,7 +332,7 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                     // [#1145] Bind variables only for true prepared statements
                     // [#2414] Even if parameters are inlined here, child
                     //         QueryParts may override this behaviour!
-                    executePreparedStatements(c.settings()) &&
+                    CompiledSettings.of(ctx).executePreparedStatements() &&
 
                     // [#1520] Renderers may enforce static statements, too
                     !TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
@@ -478,7 +476,7 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         catch (SQLException e) {
             consumeExceptions(ctx.configuration(), stmt, e);
 
-            if (ctx.settings().getThrowExceptions() != THROW_NONE)
+            if (CompiledSettings.of(ctx).throwExceptions != THROW_NONE)
                 throw e;
             else
                 return stmt.getUpdateCount();
@@ -499,6 +497,10 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         DefaultRenderContext render;
         Configuration c = ctx.originalConfiguration();
 
+        // Query templates have been rendered already
+        if (ctx.query() instanceof QueryTemplateImpl.Bound b)
+            return b.rendered(ctx);
+
         // [#3542] [#4977] Some dialects do not support bind values in DDL statements
         // [#6474] [#6929] Can this be communicated in a leaner way?
         if (ctx.type() == DDL) {
@@ -506,7 +508,7 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
             render = new DefaultRenderContext(c, ctx);
             result = new Rendered(render.paramType(INLINED).visit(ctx.query()).render(), null, render.skipUpdateCounts());
         }
-        else if (executePreparedStatements(c.settings())) {
+        else if (CompiledSettings.of(ctx).executePreparedStatements()) {
             try {
                 render = new DefaultRenderContext(c, ctx);
                 render.data(DATA_COUNT_BIND_VALUES, true);
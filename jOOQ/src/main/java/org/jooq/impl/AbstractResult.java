@@ -392,7 +392,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 String sep1 = "";
                 for (Field<?> field : fields.fields.fields) {
                     writer.append(sep1);
-                    writer.append(formatCSV0(field.getName(), format));
+                    formatCSV0(writer, field.getName(), format);
 
                     sep1 = format.delimiter();
                 }
@@ -400,6 +400,9 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(format.newline());
             }
 
+            int flush = formatFlushInterval();
+            int count = 0;
+
             for (R record : this) {
                 record = nullSafe(record);
                 String sep2 = "";
@@ -407,12 +410,15 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 int size = fields.size();
                 for (int index = 0; index < size; index++) {
                     writer.append(sep2);
-                    writer.append(formatCSV0(record.getValue(index), format));
+                    formatCSV0(writer, record.getValue(index), format);
 
                     sep2 = format.delimiter();
                 }
 
                 writer.append(format.newline());
+
+                if (flush > 0 && ++count % flush == 0)
+                    writer.flush();
             }
 
             writer.flush();
@@ -422,15 +428,19 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         }
     }
 
-    private static final String formatCSV0(Object value, CSVFormat format) {
+    private static final void formatCSV0(Writer writer, Object value, CSVFormat format) throws java.io.IOException {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         // [#4746] Escape null and empty strings
-        if (value == null)
-            return format.nullString();
+        if (value == null) {
+            writer.append(format.nullString());
+            return;
+        }
 
-        if ("".equals(value.toString()))
-            return format.emptyString();
+        if (value instanceof String s ? s.isEmpty() : "".equals(value.toString())) {
+            writer.append(format.emptyString());
+            return;
+        }
 
         // [#7802] Nested records should generate nested CSV data structures
         String result = value instanceof Formattable f
@@ -439,23 +449,66 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
         switch (format.quote()) {
             case NEVER:
-                return result;
+                writer.append(result);
+                return;
 
             case SPECIAL_CHARACTERS:
-                if (!StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\'))
-                    return result;
+                if (!StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\')) {
+                    writer.append(result);
+                    return;
+                }
 
                 // no break
             case ALWAYS:
             default:
-                return format.quoteString()
-                     + StringUtils.replace(
-                           StringUtils.replace(
-                               result, "\\", "\\\\"
-                           ), format.quoteString(), format.quoteString() + format.quoteString()
-                       )
-                     + format.quoteString();
+                writer.append(format.quoteString());
+                formatCSVEscaped(writer, result, format.quoteString());
+                writer.append(format.quoteString());
+        }
+    }
+
+    /**
+     * Write a value with all backslashes and quotes doubled directly to the
+     * writer, without creating intermediary strings.
+     */
+    private static final void formatCSVEscaped(Writer writer, String value, String quote) throws java.io.IOException {
+
+        // A single pass is equivalent to replacing backslashes first, and
+        // quotes second, only if the quotes don't contain any backslashes
+        if (quote.isEmpty() || quote.indexOf('\\') >= 0) {
+            writer.append(StringUtils.replace(StringUtils.replace(value, "\\", "\\\\"), quote, quote + quote));
+            return;
         }
+
+        char q = quote.charAt(0);
+        int length = value.length();
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c == '\\') {
+                writer.write(value, start, i + 1 - start);
+                writer.write('\\');
+                start = i + 1;
+            }
+            else if (c == q && value.startsWith(quote, i)) {
+                i += quote.length() - 1;
+                writer.write(value, start, i + 1 - start);
+                writer.write(quote);
+                start = i + 1;
+            }
+        }
+
+        writer.write(value, start, length - start);
+    }
+
+    /**
+     * The number of records after which streamed formatting flushes the
+     * writer, or <code>0</code> if the writer is flushed only at the end.
+     */
+    int formatFlushInterval() {
+        return 0;
     }
 
     @Override
@@ -559,6 +612,9 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             writer.append('[');
             separator = "";
 
+            int flush = formatFlushInterval();
+            int count = 0;
+
             switch (format.recordFormat()) {
                 case ARRAY:
                     for (Record record : this) {
@@ -573,6 +629,9 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
                         formatJSONArray0(record, fields, format, recordLevel, writer);
                         separator = ",";
+
+                        if (flush > 0 && ++count % flush == 0)
+                            writer.flush();
                     }
 
                     break;
@@ -589,6 +648,9 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
                         formatJSONMap0(record, fields, format, recordLevel, writer);
                         separator = ",";
+
+                        if (flush > 0 && ++count % flush == 0)
+                            writer.flush();
                     }
 
                     break;
@@ -828,9 +890,15 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(newline).append(format.indentString(1)).append("<records>");
             }
 
+            int flush = formatFlushInterval();
+            int count = 0;
+
             for (Record record : this) {
                 writer.append(newline).append(format.indentString(recordLevel));
                 formatXMLRecord(writer, format, recordLevel, record, fields);
+
+                if (flush > 0 && ++count % flush == 0)
+                    writer.flush();
             }
 
             if (format.header())
@@ -66,7 +66,6 @@ import org.jooq.ResultQuery;
 import org.jooq.Results;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
-import org.jooq.conf.SettingsTools;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.MockResultSet;
 
@@ -219,7 +218,7 @@ implements
         Tools.setFetchSize(ctx, fetchSize);
 
         // [#1854] [#4753] Set the max number of rows for this result query
-        int m = SettingsTools.getMaxRows(maxRows, ctx.settings());
+        int m = CompiledSettings.of(ctx).maxRows(maxRows);
         if (m != 0)
             ctx.statement().setMaxRows(m);
     }
@@ -229,7 +228,7 @@ implements
         listener.executeStart(ctx);
 
         // [#4511] [#4753] PostgreSQL doesn't like fetchSize with autoCommit == true
-        int f = SettingsTools.getFetchSize(fetchSize, ctx.settings());
+        int f = CompiledSettings.of(ctx).fetchSize(fetchSize);
         if (REPORT_FETCH_SIZE_WITH_AUTOCOMMIT.contains(ctx.dialect()) && f != 0 && ctx.connection().getAutoCommit())
             log.info("Fetch Size", "A fetch size of " + f + " was set on a auto-commit PostgreSQL connection, which is not recommended. See https://jdbc.postgresql.org/documentation/query/#getting-results-based-on-a-cursor");
 
@@ -259,7 +258,7 @@ implements
             }
 
             Field<?>[] fields = getFields(() -> ctx.resultSet().getMetaData());
-            cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing);
+            cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), CompiledSettings.of(ctx).maxRows(maxRows), autoclosing);
 
             if (!lazy) {
                 result = cursor.fetch();
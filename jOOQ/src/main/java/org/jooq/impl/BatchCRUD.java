@@ -38,11 +38,19 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.TRUE;
+import static java.util.Arrays.asList;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.getBatchSize;
+import static org.jooq.conf.SettingsTools.getParamType;
+import static org.jooq.impl.Tools.chunks;
+import static org.jooq.impl.Tools.map;
 
 import java.math.BigInteger;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,15 +59,22 @@ import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
 import org.jooq.Query;
+import org.jooq.Table;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
+import org.jooq.conf.ParamType;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultBinding.InternalBinding;
+import org.jooq.impl.R2DBC.BlockingBatchSubscription;
 import org.jooq.tools.JooqLogger;
 
 import org.reactivestreams.Subscriber;
 
+import io.r2dbc.spi.ConnectionFactory;
+
 /**
  * @author Lukas Eder
  */
@@ -83,9 +98,23 @@ final class BatchCRUD extends AbstractBatch {
 
     @Override
     public void subscribe(Subscriber<? super Integer> s) {
+        ConnectionFactory cf = configuration.connectionFactory();
+
+        if (cf instanceof NoConnectionFactory)
+            s.onSubscribe(new BlockingBatchSubscription(this, s));
 
         // [#11700] TODO: Implement this
-        throw new UnsupportedOperationException("BatchCRUD operations are not yet supported in a reactive way. Use ordinary batch operations, instead, or avoid batching. See https://github.com/jOOQ/jOOQ/issues/14874");
+        else
+            throw new UnsupportedOperationException("BatchCRUD operations are not yet supported in a reactive way. Use ordinary batch operations, instead, or avoid batching. See https://github.com/jOOQ/jOOQ/issues/14874");
+    }
+
+    @Override
+    final List<BatchCRUD> split() {
+        List<List<TableRecord<?>>> chunks = chunks(asList(records), getBatchSize(configuration.settings()));
+
+        return chunks.size() <= 1
+             ? asList(this)
+             : map(chunks, c -> new BatchCRUD(configuration, action, c.toArray(new TableRecord[0])));
     }
 
     @Override
@@ -118,17 +147,19 @@ final class BatchCRUD extends AbstractBatch {
 
     private final int[] executePrepared() {
         boolean optimisticLocking = TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking());
-        Map<String, List<Query>> queries = new LinkedHashMap<>();
+        Map<String, BatchSingle> queries = new LinkedHashMap<>();
+        Map<Signature, String> sqls = new HashMap<>();
         List<QueryCollectorSignal> signals = new ArrayList<>();
-        QueryCollector collector = new QueryCollector();
+        QueryCollector collector = new QueryCollector(sqls);
 
-        // Add the QueryCollector to intercept query execution after rendering
+        // Add the QueryCollector to intercept query execution before or after rendering
         Configuration local = deriveConfiguration(collector);
 
         for (int i = 0; i < records.length; i++) {
             Configuration previous = records[i].configuration();
 
             try {
+                collector.record = records[i];
                 records[i].attach(local);
                 executeAction(i);
 
@@ -142,28 +173,39 @@ final class BatchCRUD extends AbstractBatch {
                 Query query = e.getQuery();
                 String sql = e.getSQL();
 
+                if (sql != null && e.signature != null)
+                    sqls.put(e.signature, sql);
+
                 // Aggregate executable queries by identical SQL
-                if (query.isExecutable())
-                    queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
+                if (query.isExecutable()) {
+                    Object[] bindValues = query.getBindValues().toArray();
+
+                    // Queries of records with the same signature have been rendered only once
+                    if (sql == null) {
+                        BatchSingle batch = queries.get(sql = sqls.get(e.signature));
+
+                        // This shouldn't happen, but if the signature missed something, render the query after all
+                        if (batch == null || batch.expectedBindValues != bindValues.length)
+                            sql = dsl.render(query);
+                    }
+
+                    queries.computeIfAbsent(sql, s -> new BatchSingle(configuration, query)).bind(bindValues);
+                }
             }
             finally {
+                collector.record = null;
                 records[i].attach(previous);
             }
         }
 
         if (log.isDebugEnabled())
-            log.debug("Batch " + action + " of " + records.length + " records using " + queries.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + queries.values().stream().mapToInt(List::size).average().orElse(0.0) + " (higher is better)");
+            log.debug("Batch " + action + " of " + records.length + " records using " + queries.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + queries.values().stream().mapToInt(BatchSingle::size).average().orElse(0.0) + " (higher is better)");
 
         // Execute one batch statement for each identical SQL statement. Every
         // SQL statement may have several queries with different bind values.
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
-        queries.forEach((k, v) -> {
-            BatchBindStep batch = dsl.batch(v.get(0));
-
-            for (Query query : v)
-                batch.bind(query.getBindValues().toArray());
-
+        queries.forEach((k, batch) -> {
             int[] array = batch.execute();
             for (int i : array)
                 result.add(i);
@@ -185,7 +227,7 @@ final class BatchCRUD extends AbstractBatch {
         boolean optimisticLocking = TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking());
         List<Query> queries = new ArrayList<>();
         List<QueryCollectorSignal> signals = new ArrayList<>();
-        QueryCollector collector = new QueryCollector();
+        QueryCollector collector = new QueryCollector(new HashMap<>());
         Configuration local = deriveConfiguration(collector);
 
         for (int i = 0; i < records.length; i++) {
@@ -303,12 +345,116 @@ final class BatchCRUD extends AbstractBatch {
      * The query collector intercepts query execution after rendering. This
      * allows for rendering SQL according to the specific logic contained in
      * TableRecords without actually executing that SQL
+     * <p>
+     * If a query of a record with the same {@link Signature} has been rendered
+     * already, the query is intercepted before rendering, as it produces the
+     * same SQL. This is only possible if the SQL doesn't depend on bind values,
+     * i.e. if bind values aren't inlined, and if all fields use jOOQ's
+     * internal bindings, whose {@link org.jooq.Binding#sql(org.jooq.BindingSQLContext)}
+     * implementation renders a bind marker regardless of the value.
      */
     private static class QueryCollector implements ExecuteListener {
+        final Map<Signature, String>  sqls;
+        final Map<Table<?>, Boolean>  internalBindings;
+        TableRecord<?>                record;
+        Signature                     signature;
+
+        QueryCollector(Map<Signature, String> sqls) {
+            this.sqls = sqls;
+            this.internalBindings = new IdentityHashMap<>();
+        }
+
+        @Override
+        public void renderStart(ExecuteContext ctx) {
+            signature = reusable(ctx) ? Signature.of(record, ctx.query()) : null;
+
+            if (signature != null && sqls.containsKey(signature))
+                throw new QueryCollectorSignal(null, ctx.query(), signature);
+        }
+
+        private final boolean reusable(ExecuteContext ctx) {
+            ParamType paramType = getParamType(ctx.settings());
+
+            return (paramType == ParamType.INDEXED || paramType == ParamType.NAMED)
+                && record != null
+                && internalBindings.computeIfAbsent(record.getTable(), QueryCollector::internalBindings);
+        }
+
+        private static final boolean internalBindings(Table<?> table) {
+            for (Field<?> field : table.fields())
+                if (!(field.getBinding() instanceof InternalBinding))
+                    return false;
+
+            return true;
+        }
 
         @Override
         public void renderEnd(ExecuteContext ctx) {
-            throw new QueryCollectorSignal(ctx.sql(), ctx.query());
+            throw new QueryCollectorSignal(ctx.sql(), ctx.query(), signature);
+        }
+    }
+
+    /**
+     * The properties of a record and its query that determine the SQL
+     * generated by a {@link TableRecord} or {@link UpdatableRecord} operation:
+     * <ul>
+     * <li>The query type, i.e. <code>INSERT</code>, <code>UPDATE</code>,
+     * etc.</li>
+     * <li>The table.</li>
+     * <li>The changed flags, which determine the <code>SET</code> or
+     * <code>VALUES</code> clause.</li>
+     * <li>The <code>null</code> values and original values, which determine
+     * <code>IS NULL</code> predicates, e.g. for primary keys and optimistic
+     * locking columns.</li>
+     * </ul>
+     */
+    static final class Signature {
+        final Class<?> type;
+        final Table<?> table;
+        final BitSet   changed;
+        final BitSet   nulls;
+        final BitSet   originalNulls;
+        final boolean  fetched;
+
+        private Signature(Class<?> type, Table<?> table, AbstractRecord r) {
+            this.type = type;
+            this.table = table;
+            this.changed = (BitSet) r.changed.clone();
+            this.nulls = nulls(r.values);
+            this.originalNulls = nulls(r.originals);
+            this.fetched = r.fetched;
+        }
+
+        static final Signature of(TableRecord<?> record, Query query) {
+            return record instanceof AbstractRecord r && query != null
+                 ? new Signature(query.getClass(), record.getTable(), r)
+                 : null;
+        }
+
+        private static final BitSet nulls(Object[] values) {
+            BitSet result = new BitSet(values.length);
+
+            for (int i = 0; i < values.length; i++)
+                if (values[i] == null)
+                    result.set(i);
+
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(table) + changed.hashCode()) + nulls.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Signature s
+                && type == s.type
+                && table == s.table
+                && fetched == s.fetched
+                && changed.equals(s.changed)
+                && nulls.equals(s.nulls)
+                && originalNulls.equals(s.originalNulls);
         }
     }
 
@@ -319,14 +465,16 @@ final class BatchCRUD extends AbstractBatch {
      * execution, and return generated SQL back to batch execution.
      */
     static class QueryCollectorSignal extends ControlFlowSignal {
-        final String sql;
-        final Query  query;
-        BigInteger   version;
-        Timestamp    timestamp;
+        final String    sql;
+        final Query     query;
+        final Signature signature;
+        BigInteger      version;
+        Timestamp       timestamp;
 
-        QueryCollectorSignal(String sql, Query query) {
+        QueryCollectorSignal(String sql, Query query, Signature signature) {
             this.sql = sql;
             this.query = query;
+            this.signature = signature;
         }
 
         String getSQL() {
@@ -0,0 +1,266 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.Tools.map;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.jooq.Configuration;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.Row;
+import org.jooq.conf.Settings;
+
+/**
+ * A rewrite of a {@link BatchSingle} of a single row
+ * <code>INSERT .. VALUES</code> statement to a batch of multi row
+ * <code>INSERT .. VALUES</code> statements.
+ * <p>
+ * The rewrite is applied if {@link Settings#isRewriteBatchedInserts()} is
+ * set, and if the bind values of the batch are exactly the bind values of the
+ * <code>VALUES</code> row, i.e. if there are no <code>RETURNING</code>,
+ * <code>ON CONFLICT</code>, <code>ON DUPLICATE KEY</code>, or other clauses
+ * that could either contain bind values themselves, or make it impossible to
+ * map a statement's update count back to its rows.
+ */
+final class BatchMultiRowInsert {
+
+    /**
+     * The maximum number of rows per statement, which is a limit in some
+     * dialects, and a sensible limit for statement sizes in others.
+     */
+    static final int          MAX_ROWS = 1000;
+
+    final BatchSingle         batch;
+    final InsertQueryImpl<?>  insert;
+    final Param<?>[]          params;
+    final int                 rows;
+
+    private BatchMultiRowInsert(BatchSingle batch, InsertQueryImpl<?> insert, Param<?>[] params) {
+        this.batch = batch;
+        this.insert = insert;
+        this.params = params;
+        this.rows = Math.max(1, Math.min(MAX_ROWS, maxBindValues(batch.configuration) / params.length));
+    }
+
+    static final BatchMultiRowInsert of(BatchSingle batch) {
+        InsertQueryImpl<?> insert =
+              batch.query instanceof InsertImpl<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> i
+            ? i.getDelegate()
+            : batch.query instanceof InsertQueryImpl<?> i
+            ? i
+            : null;
+
+        if (insert == null
+            || insert.insertMaps.rows != 1
+            || insert.select != null
+            || insert.defaultValues
+            || insert.onDuplicateKeyUpdate
+            || insert.onDuplicateKeyIgnore
+            || insert.onConstraint != null
+            || insert.onConstraintUniqueKey != null
+            || insert.onConflict != null
+            || !insert.returning.isEmpty())
+            return null;
+
+        // Bind values must map to the VALUES row, exactly
+        Param<?>[] params = batch.extractParams();
+        Row row = insert.$values().get(0);
+
+        if (params.length == 0 || params.length != row.size())
+            return null;
+
+        for (int i = 0; i < params.length; i++)
+            if (row.field(i) != params[i])
+                return null;
+
+        return new BatchMultiRowInsert(batch, insert, params);
+    }
+
+    /**
+     * The maximum number of bind values per statement.
+     * <p>
+     * Like in {@link DefaultRenderContext}, this is
+     * {@link Settings#getInlineThreshold()} if set, or 999 in SQLite. Unlike
+     * {@link DefaultRenderContext}, which applies its limit of 32767 only to
+     * PostgreSQL and YugabyteDB, and no limit to other dialects, this
+     * uses 32767 for all other dialects, too. A rewritten statement is
+     * thus never inlined due to its number of bind values, and its size
+     * stays well within the limits of most drivers.
+     */
+    static final int maxBindValues(Configuration configuration) {
+        Integer threshold = configuration.settings().getInlineThreshold();
+
+        if (threshold != null && threshold > 0)
+            return threshold;
+
+        switch (configuration.family()) {
+            case SQLITE:
+                return 999;
+
+            default:
+                return 32767;
+        }
+    }
+
+    /**
+     * Execute bind values in groups of {@link #rows} rows per statement, and
+     * expand the statements' update counts to row counts.
+     */
+    final int[] execute(
+        Iterator<? extends Object[]> bindValues,
+        int batchSize,
+        Consumer<? super int[]> onChunk,
+        boolean collect
+    ) {
+        List<int[]> results = collect ? new ArrayList<>() : null;
+        Groups groups = new Groups(bindValues);
+        Consumer<int[]> consumer = counts -> {
+            int[] result = rowCounts(counts, groups.rows);
+
+            if (onChunk != null)
+                onChunk.accept(result);
+
+            if (collect)
+                results.add(result);
+        };
+
+        if (groups.hasNext())
+            template(rows).executePrepared0(groups, Math.max(1, batchSize / rows), consumer, false);
+
+        if (!groups.rest.isEmpty()) {
+            groups.rows = groups.rest.size();
+            template(groups.rows).executePrepared0(singletonList(flatten(groups.rest)).iterator(), 1, consumer, false);
+        }
+
+        return collect ? results.stream().flatMapToInt(IntStream::of).toArray() : null;
+    }
+
+    private final BatchSingle template(int size) {
+        Row row = row(map(params, p -> val(p.getValue(), p)));
+        return new BatchSingle(batch.configuration, (Query) insert.$values(nCopies(size, row)));
+    }
+
+    private final Object[] flatten(List<Object[]> group) {
+        Object[] result = new Object[group.size() * params.length];
+
+        for (int i = 0; i < group.size(); i++) {
+            Object[] values = group.get(i);
+
+            // Like in BatchSingle, missing bind values are left unmodified
+            for (int j = 0; j < params.length; j++)
+                result[i * params.length + j] = j < values.length ? values[j] : params[j].getValue();
+        }
+
+        return result;
+    }
+
+    /**
+     * A multi row statement's update count is either the number of its rows,
+     * in case of which each row has been inserted once, or some other value,
+     * in case of which the individual row counts are unknown.
+     */
+    static final int[] rowCounts(int[] counts, int rows) {
+        int[] result = new int[counts.length * rows];
+
+        for (int i = 0; i < counts.length; i++)
+            Arrays.fill(result, i * rows, (i + 1) * rows,
+                counts[i] == rows
+              ? 1
+              : counts[i] == Statement.EXECUTE_FAILED
+              ? Statement.EXECUTE_FAILED
+              : Statement.SUCCESS_NO_INFO
+            );
+
+        return result;
+    }
+
+    /**
+     * The flattened bind values of full groups of {@link #rows} rows. A
+     * remaining incomplete group is collected in {@link #rest}.
+     */
+    private final class Groups implements Iterator<Object[]> {
+        final Iterator<? extends Object[]> bindValues;
+        final List<Object[]>               rest;
+        Object[]                           next;
+        int                                rows;
+
+        Groups(Iterator<? extends Object[]> bindValues) {
+            this.bindValues = bindValues;
+            this.rest = new ArrayList<>();
+            this.rows = BatchMultiRowInsert.this.rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && rest.isEmpty()) {
+                while (rest.size() < rows && bindValues.hasNext())
+                    rest.add(bindValues.next());
+
+                if (rest.size() == rows) {
+                    next = flatten(rest);
+                    rest.clear();
+                }
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            Object[] result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import static org.jooq.impl.AbstractQuery.connection;
 
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -52,6 +53,7 @@ import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.impl.R2DBC.BatchMultipleSubscriber;
 import org.jooq.impl.R2DBC.BatchSubscription;
+import org.jooq.impl.R2DBC.BlockingBatchSubscription;
 
 import org.reactivestreams.Subscriber;
 
@@ -81,10 +83,17 @@ final class BatchMultiple extends AbstractBatch {
 
         if (!(cf instanceof NoConnectionFactory))
             subscriber.onSubscribe(new BatchSubscription<>(this, subscriber, s -> new BatchMultipleSubscriber(this, s)));
-
-        // TODO: [#11700] Implement this
         else
-            throw new UnsupportedOperationException("The blocking, JDBC backed implementation of reactive batching has not yet been implemented. Use the R2DBC backed implementation, instead, or avoid batching.");
+            subscriber.onSubscribe(new BlockingBatchSubscription(this, subscriber));
+    }
+
+    @Override
+    final List<BatchMultiple> split() {
+        List<List<Query>> chunks = Tools.chunks(Arrays.asList(queries), SettingsTools.getBatchSize(Tools.settings(configuration)));
+
+        return chunks.size() <= 1
+             ? Arrays.asList(this)
+             : Tools.map(chunks, c -> new BatchMultiple(configuration, c.toArray(Tools.EMPTY_QUERY)));
     }
 
     @Override
@@ -37,11 +37,12 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static java.util.Arrays.asList;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.conf.SettingsTools.getBatchSize;
 import static org.jooq.impl.AbstractQuery.connection;
-import static org.jooq.impl.Tools.checkedFunction;
 import static org.jooq.impl.Tools.chunks;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.map;
@@ -49,15 +50,22 @@ import static org.jooq.impl.Tools.visitAll;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.Batch;
 import org.jooq.BatchBindStep;
+import org.jooq.BatchStreamStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext.BatchMode;
 import org.jooq.ExecuteListener;
@@ -67,6 +75,7 @@ import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.impl.R2DBC.BatchSingleSubscriber;
 import org.jooq.impl.R2DBC.BatchSubscription;
+import org.jooq.impl.R2DBC.BlockingBatchSubscription;
 import org.jooq.tools.JooqLogger;
 
 import org.reactivestreams.Subscriber;
@@ -101,6 +110,15 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             nameToIndexMapping.computeIfAbsent(entry.getKey(), e -> new ArrayList<>()).add(i++);
     }
 
+    BatchSingle(BatchSingle batch, List<Object[]> bindValues) {
+        super(batch.configuration);
+
+        this.query = batch.query;
+        this.allBindValues = new ArrayList<>(bindValues);
+        this.nameToIndexMapping = batch.nameToIndexMapping;
+        this.expectedBindValues = batch.expectedBindValues;
+    }
+
     @Override
     public final BatchSingle bind(Object... bindValues) {
         allBindValues.add(bindValues);
@@ -115,6 +133,16 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         return this;
     }
 
+    @Override
+    public final BatchStreamStep bind(Iterator<? extends Object[]> bindValues) {
+        return bind(StreamSupport.stream(Spliterators.spliteratorUnknownSize(bindValues, Spliterator.ORDERED), false));
+    }
+
+    @Override
+    public final BatchStreamStep bind(Stream<? extends Object[]> bindValues) {
+        return new BatchSingleStream(this, allBindValues.isEmpty() ? bindValues : Stream.concat(allBindValues.stream(), bindValues));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final BatchSingle bind(Map<String, Object> namedBindValues) {
@@ -154,10 +182,17 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
 
         if (!(cf instanceof NoConnectionFactory))
             subscriber.onSubscribe(new BatchSubscription<>(this, subscriber, s -> new BatchSingleSubscriber(this, s)));
-
-        // TODO: [#11700] Implement this
         else
-            throw new UnsupportedOperationException("The blocking, JDBC backed implementation of reactive batching has not yet been implemented. Use the R2DBC backed implementation, instead, or avoid batching.");
+            subscriber.onSubscribe(new BlockingBatchSubscription(this, subscriber));
+    }
+
+    @Override
+    final List<BatchSingle> split() {
+        List<List<Object[]>> chunks = chunks(allBindValues, getBatchSize(configuration.settings()));
+
+        return chunks.size() <= 1
+             ? asList(this)
+             : map(chunks, c -> new BatchSingle(this, c));
     }
 
     @Override
@@ -171,27 +206,69 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             return BatchMultiple.execute(configuration, new Query[] { query });
         }
 
-        checkBindValues();
-
         // [#1180] Run batch queries with BatchMultiple, if no bind variables
         // should be used...
-        if (executeStaticStatements(configuration.settings()))
+        if (executeStaticStatements(configuration.settings())) {
+            checkBindValues();
             return executeStatic();
+        }
         else
-            return executePrepared();
+            return executePrepared(allBindValues.iterator(), batchSize(configuration, Integer.MAX_VALUE), null, true);
+    }
+
+    /**
+     * The {@link org.jooq.conf.Settings#getBatchSize()}, or
+     * <code>unbounded</code>, if the batch size is unbounded.
+     */
+    static final int batchSize(Configuration configuration, int unbounded) {
+        int batchSize = getBatchSize(configuration.settings());
+        return batchSize <= 0 || batchSize == Integer.MAX_VALUE ? unbounded : batchSize;
     }
 
     final void checkBindValues() {
+        for (int i = 0; i < allBindValues.size(); i++)
+            checkBindValues(i, allBindValues.get(i));
+    }
+
+    private final void checkBindValues(int i, Object[] bindValues) {
 
         // [#4071] Help users debug cases where bind value counts don't match the expected number
         // [#5362] Don't do this for plain SQL queries
-        if (expectedBindValues > 0)
-            for (int i = 0; i < allBindValues.size(); i++)
-                if (allBindValues.get(i).length != expectedBindValues)
-                    log.info("Bind value count", "Batch bind value set " + i + " has " + allBindValues.get(i).length + " values when " + expectedBindValues + " values were expected");
+        if (expectedBindValues > 0 && bindValues.length != expectedBindValues)
+            log.info("Bind value count", "Batch bind value set " + i + " has " + bindValues.length + " values when " + expectedBindValues + " values were expected");
     }
 
-    private final int[] executePrepared() {
+    /**
+     * Execute bind values on a single prepared statement, one chunk of
+     * <code>batchSize</code> sets at a time, consuming the next chunk only
+     * after the previous one has been executed.
+     *
+     * @param onChunk Receives each chunk's row counts, if not
+     *            <code>null</code>.
+     * @param collect Whether to collect and return all row counts.
+     */
+    final int[] executePrepared(
+        Iterator<? extends Object[]> bindValues,
+        int batchSize,
+        Consumer<? super int[]> onChunk,
+        boolean collect
+    ) {
+        if (TRUE.equals(configuration.settings().isRewriteBatchedInserts())) {
+            BatchMultiRowInsert rewrite = BatchMultiRowInsert.of(this);
+
+            if (rewrite != null)
+                return rewrite.execute(bindValues, batchSize, onChunk, collect);
+        }
+
+        return executePrepared0(bindValues, batchSize, onChunk, collect);
+    }
+
+    final int[] executePrepared0(
+        Iterator<? extends Object[]> bindValues,
+        int batchSize,
+        Consumer<? super int[]> onChunk,
+        boolean collect
+    ) {
         DefaultExecuteContext ctx = new DefaultExecuteContext(configuration, BatchMode.SINGLE, new Query[] { query });
         ExecuteListener listener = ExecuteListeners.get(ctx);
 
@@ -218,45 +295,60 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                 ctx.statement().setQueryTimeout(t);
 
             // [#14784] TODO: Make this configurable also for other dialects
-            if (NO_SUPPORT_BATCH.contains(ctx.dialect())) {
-                int size = allBindValues.size();
-                int[] result = new int[size];
+            boolean batch = !NO_SUPPORT_BATCH.contains(ctx.dialect());
+            List<int[]> results = collect ? new ArrayList<>() : null;
+            int index = 0;
+
+            while (bindValues.hasNext()) {
+                int[] result;
 
-                for (int i = 0; i < size; i++) {
-                    Object[] bindValues = allBindValues.get(i);
+                if (batch) {
+                    if (index > 0)
+                        ctx.statement().clearBatch();
+
+                    for (int i = 0; i < batchSize && bindValues.hasNext(); i++) {
+                        Object[] b = bindValues.next();
+                        checkBindValues(index++, b);
+                        setBindValues(ctx, listener, params, b);
+                        ctx.statement().addBatch();
+                    }
 
-                    setBindValues(ctx, listener, params, bindValues);
                     listener.executeStart(ctx);
-                    result[i] = ctx.statement().executeUpdate();
+                    result = ctx.statement().executeBatch();
+                    setBatchRows(ctx, result);
                     listener.executeEnd(ctx);
                 }
+                else {
+                    result = new int[Math.min(batchSize, 16)];
+                    int i = 0;
+
+                    for (; i < batchSize && bindValues.hasNext(); i++) {
+                        Object[] b = bindValues.next();
+                        checkBindValues(index++, b);
+                        setBindValues(ctx, listener, params, b);
+                        listener.executeStart(ctx);
 
-                setBatchRows(ctx, result);
-                return result;
-            }
-            else {
-                AtomicBoolean reset = new AtomicBoolean();
-                return chunks(allBindValues, getBatchSize(ctx.settings()))
-                    .stream()
-                    .map(checkedFunction(chunk -> {
-                        if (reset.get())
-                            ctx.statement().clearBatch();
-
-                        for (Object[] bindValues : chunk) {
-                            setBindValues(ctx, listener, params, bindValues);
-                            ctx.statement().addBatch();
-                        }
+                        if (i == result.length)
+                            result = Arrays.copyOf(result, Math.min(batchSize, i * 2));
 
-                        listener.executeStart(ctx);
-                        int[] result = ctx.statement().executeBatch();
-                        setBatchRows(ctx, result);
+                        result[i] = ctx.statement().executeUpdate();
                         listener.executeEnd(ctx);
-                        reset.set(true);
-                        return result;
-                    }))
-                    .flatMapToInt(IntStream::of)
-                    .toArray();
+                    }
+
+                    result = Arrays.copyOf(result, i);
+                    setBatchRows(ctx, result);
+                }
+
+                if (onChunk != null)
+                    onChunk.accept(result);
+
+                if (collect)
+                    results.add(result);
             }
+
+            return collect
+                 ? results.size() == 1 ? results.get(0) : results.stream().flatMapToInt(IntStream::of).toArray()
+                 : null;
         }
 
         // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
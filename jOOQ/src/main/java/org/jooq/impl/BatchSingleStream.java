@@ -0,0 +1,172 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.impl.BatchSingle.batchSize;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jooq.BatchStreamStep;
+import org.jooq.impl.R2DBC.BlockingBatchSubscription;
+
+import org.reactivestreams.Subscriber;
+
+/**
+ * A {@link BatchSingle} whose bind values are streamed, one chunk at a time.
+ */
+final class BatchSingleStream extends AbstractBatch implements BatchStreamStep {
+
+    final BatchSingle                batch;
+    final Stream<? extends Object[]> bindValues;
+    Consumer<? super int[]>          onChunk;
+    long                             size;
+
+    BatchSingleStream(BatchSingle batch, Stream<? extends Object[]> bindValues) {
+        super(batch.configuration);
+
+        this.batch = batch;
+        this.bindValues = bindValues;
+    }
+
+    @Override
+    public final BatchSingleStream onChunk(Consumer<? super int[]> consumer) {
+        this.onChunk = consumer;
+        return this;
+    }
+
+    @Override
+    public final int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public final int[] execute() {
+        return execute0(true);
+    }
+
+    @Override
+    public final long executeStreaming() {
+        execute0(false);
+        return size;
+    }
+
+    private final int[] execute0(boolean collect) {
+        Consumer<int[]> consumer = result -> {
+            size += result.length;
+
+            if (onChunk != null)
+                onChunk.accept(result);
+        };
+
+        // [#1180] Run batch queries with BatchMultiple, if no bind variables
+        // should be used...
+        if (executeStaticStatements(configuration.settings())) {
+            List<int[]> results = collect ? new ArrayList<>() : null;
+
+            for (Iterator<BatchSingle> it = splitIterator(); it.hasNext();) {
+                int[] result = it.next().execute();
+                consumer.accept(result);
+
+                if (collect)
+                    results.add(result);
+            }
+
+            return collect ? results.stream().flatMapToInt(IntStream::of).toArray() : null;
+        }
+        else
+            return batch.executePrepared(bindValues.iterator(), batchSize(configuration, DEFAULT_BATCH_SIZE), consumer, collect);
+    }
+
+    @Override
+    public final void subscribe(Subscriber<? super Integer> subscriber) {
+
+        // R2DBC batches are sent in one go, so bind values are collected
+        if (!(configuration.connectionFactory() instanceof NoConnectionFactory))
+            new BatchSingle(batch, bindValues.map(b -> (Object[]) b).toList()).subscribe(subscriber);
+        else
+            subscriber.onSubscribe(new BlockingBatchSubscription(this, subscriber));
+    }
+
+    @Override
+    final List<BatchSingle> split() {
+        List<BatchSingle> result = new ArrayList<>();
+        splitIterator().forEachRemaining(result::add);
+        return result;
+    }
+
+    @Override
+    final Iterator<BatchSingle> splitIterator() {
+        Iterator<? extends Object[]> it = bindValues.iterator();
+        int chunkSize = batchSize(configuration, DEFAULT_BATCH_SIZE);
+
+        return new Iterator<BatchSingle>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public BatchSingle next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                List<Object[]> chunk = new ArrayList<>(Math.min(chunkSize, 1024));
+                while (chunk.size() < chunkSize && it.hasNext())
+                    chunk.add(it.next());
+
+                return new BatchSingle(batch, chunk);
+            }
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // The Object API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return batch.query.toString();
+    }
+}
@@ -46,6 +46,7 @@ import java.util.function.Supplier;
 
 import org.jooq.impl.CacheType;
 import org.jooq.Configuration;
+import org.jooq.QueryPart;
 
 /**
  * [#2965] This is a {@link Configuration}-based cache that can cache reflection information and other things
@@ -64,6 +65,63 @@ final class Cache {
      */
     @SuppressWarnings("unchecked")
     static final <V> V run(Configuration configuration, Supplier<V> operation, CacheType type, Supplier<?> key) {
+        Map<Object, Object> cache = cache(configuration, type);
+
+        if (cache == null)
+            return operation.get();
+
+        // The cache is guaranteed to be thread safe by the CacheProvider
+        // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
+        // recursively, we have to revert to double checked locking nonetheless.
+        Object k = key.get();
+        Object v = cache.get(k);
+        if (v == null) {
+            synchronized (cache) {
+                v = cache.get(k);
+
+                if (v == null)
+                    cache.put(k, (v = operation.get()) == null ? NULL : v);
+            }
+        }
+
+        return (V) (v == NULL ? null : v);
+    }
+
+    /**
+     * Run a cached operation like
+     * {@link #run(Configuration, Supplier, CacheType, Supplier)}, but without
+     * holding a lock on the cache while running the operation.
+     * <p>
+     * Concurrent cache misses of the same key may run the operation more than
+     * once, in case of which the first outcome is kept. This is preferable for
+     * frequent operations that are not recursive, such as creating query
+     * templates.
+     */
+    @SuppressWarnings("unchecked")
+    static final <V> V runUnlocked(Configuration configuration, Supplier<V> operation, CacheType type, Supplier<?> key) {
+        Map<Object, Object> cache = cache(configuration, type);
+
+        if (cache == null)
+            return operation.get();
+
+        Object k = key.get();
+        Object v = cache.get(k);
+        if (v == null) {
+            Object w = cache.putIfAbsent(k, (v = operation.get()) == null ? NULL : v);
+
+            if (w != null)
+                v = w;
+        }
+
+        return (V) (v == NULL ? null : v);
+    }
+
+    /**
+     * Get the cache of a given type from a {@link Configuration}, or
+     * <code>null</code> if the cache type is disabled.
+     */
+    @SuppressWarnings("unchecked")
+    private static final Map<Object, Object> cache(Configuration configuration, CacheType type) {
 
         // If no configuration is provided take the default configuration that loads the default Settings
         if (configuration == null)
@@ -71,7 +129,7 @@ final class Cache {
 
         // Shortcut caching when the relevant Settings flag isn't set.
         if (!type.category.predicate.test(configuration.settings()))
-            return operation.get();
+            return null;
 
         Object cacheOrNull = configuration.data(type);
         if (cacheOrNull == null) {
@@ -86,25 +144,7 @@ final class Cache {
             }
         }
 
-        if (cacheOrNull == NULL)
-            return operation.get();
-
-        // The cache is guaranteed to be thread safe by the CacheProvider
-        // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
-        Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
-        Object k = key.get();
-        Object v = cache.get(k);
-        if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
-
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
-            }
-        }
-
-        return (V) (v == NULL ? null : v);
+        return cacheOrNull == NULL ? null : (Map<Object, Object>) cacheOrNull;
     }
 
     /**
@@ -135,4 +175,34 @@ final class Cache {
      * A 3-value key for caching.
      */
     private static record Key3(Object key1, Object key2, Object key3) implements Serializable {}
+
+    /**
+     * Create a key that compares the argument by identity, rather than by
+     * {@link Object#equals(Object)}, e.g. for {@link QueryPart} instances,
+     * whose equality is expensive to compute.
+     */
+    static final Object identityKey(Object key) {
+        return new IdentityKey(key);
+    }
+
+    /**
+     * An identity based key for caching.
+     */
+    private static final class IdentityKey implements Serializable {
+        private final Object key;
+
+        IdentityKey(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey k && k.key == key;
+        }
+    }
 }
\ No newline at end of file
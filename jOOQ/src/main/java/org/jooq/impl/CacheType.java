@@ -41,12 +41,14 @@ package org.jooq.impl;
 import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
+import static org.jooq.impl.CacheType.CacheCategory.RENDERED_SQL;
 
 import java.util.function.Predicate;
 
 import org.jooq.CacheProvider;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Query;
 import org.jooq.RecordMapper;
 import org.jooq.RecordType;
 import org.jooq.conf.Settings;
@@ -121,7 +123,14 @@ public enum CacheType {
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for {@link org.jooq.QueryTemplate} instances, keyed by the
+     * function that created them, to avoid building and rendering the same
+     * query on each execution.
+     */
+    CACHE_RENDERED_SQL(RENDERED_SQL, "org.jooq.configuration.cache.rendered-sql");
 
     final CacheCategory category;
     final String        key;
@@ -134,7 +143,8 @@ public enum CacheType {
     enum CacheCategory {
         REFLECTION(SettingsTools::reflectionCaching),
         RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching),
+        RENDERED_SQL(SettingsTools::renderedSQLCaching);
 
         final Predicate<? super Settings> predicate;
 
@@ -223,6 +223,11 @@ public final class CallbackExecuteListener implements ExecuteListener {
             onResultStart.fire(ctx);
     }
 
+    @Override
+    public final boolean subscribesToRecordEvents() {
+        return onRecordStart != null || onRecordEnd != null;
+    }
+
     @Override
     public final void recordStart(ExecuteContext ctx) {
         if (onRecordStart != null)
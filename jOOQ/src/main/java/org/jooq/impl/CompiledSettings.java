@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.SettingsTools.getParamType;
+import static org.jooq.conf.SettingsTools.getRenderKeywordCase;
+import static org.jooq.conf.SettingsTools.getRenderNameCase;
+import static org.jooq.conf.SettingsTools.getRenderQuotedNames;
+import static org.jooq.conf.SettingsTools.getStatementType;
+import static org.jooq.conf.SettingsTools.renderLocale;
+import static org.jooq.conf.ThrowExceptions.THROW_ALL;
+
+import java.util.Locale;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteScope;
+import org.jooq.RenderContext;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.QueryPoolable;
+import org.jooq.conf.RenderFormatting;
+import org.jooq.conf.RenderKeywordCase;
+import org.jooq.conf.RenderNameCase;
+import org.jooq.conf.RenderQuotedNames;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.conf.StatementType;
+import org.jooq.conf.ThrowExceptions;
+
+/**
+ * An immutable snapshot of the {@link Settings} flags that are read on hot
+ * paths, with defaults and deprecated fallbacks already resolved.
+ * <p>
+ * {@link Settings} are mutable, and may be modified until a query is executed,
+ * including by {@link org.jooq.ExecuteListener#start(ExecuteContext)}. A
+ * snapshot is thus taken lazily, once per {@link DefaultExecuteContext} or
+ * {@link SimpleExecuteContext}, and then shared by rendering, binding, and
+ * fetching of that execution. A {@link RenderContext} without any
+ * {@link ExecuteContext} reads its {@link Settings} directly.
+ */
+final class CompiledSettings {
+
+    private static final int        EXECUTE_LOGGING              = 1;
+    private static final int        EXECUTE_PREPARED_STATEMENTS  = 1 << 1;
+    private static final int        RENDER_FORMATTED             = 1 << 2;
+    private static final int        FETCH_WARNINGS               = 1 << 3;
+    private static final int        BIND_OFFSET_DATE_TIME_TYPE   = 1 << 4;
+    private static final int        BIND_OFFSET_TIME_TYPE        = 1 << 5;
+
+    private final int               flags;
+    final StatementType             statementType;
+    final ParamType                 paramType;
+    final ThrowExceptions           throwExceptions;
+    final QueryPoolable             queryPoolable;
+    final int                       queryTimeout;
+    final int                       maxRows;
+    final int                       fetchSize;
+    final RenderKeywordCase         renderKeywordCase;
+    final RenderNameCase            renderNameCase;
+    final RenderQuotedNames         renderQuotedNames;
+    final Locale                    renderLocale;
+    final RenderFormatting          renderFormatting;
+
+    CompiledSettings(Settings settings) {
+        this.flags =
+              (!FALSE.equals(settings.isExecuteLogging()) ? EXECUTE_LOGGING : 0)
+            | (SettingsTools.executePreparedStatements(settings) ? EXECUTE_PREPARED_STATEMENTS : 0)
+            | (TRUE.equals(settings.isRenderFormatted()) ? RENDER_FORMATTED : 0)
+            | (!FALSE.equals(settings.isFetchWarnings()) ? FETCH_WARNINGS : 0)
+            | (!FALSE.equals(settings.isBindOffsetDateTimeType()) ? BIND_OFFSET_DATE_TIME_TYPE : 0)
+            | (!FALSE.equals(settings.isBindOffsetTimeType()) ? BIND_OFFSET_TIME_TYPE : 0);
+
+        this.statementType = getStatementType(settings);
+        this.paramType = getParamType(settings);
+        this.throwExceptions = settings.getThrowExceptions() != null ? settings.getThrowExceptions() : THROW_ALL;
+        this.queryPoolable = settings.getQueryPoolable() != null ? settings.getQueryPoolable() : QueryPoolable.DEFAULT;
+        this.queryTimeout = settings.getQueryTimeout() != null ? settings.getQueryTimeout() : 0;
+        this.maxRows = settings.getMaxRows() != null ? settings.getMaxRows() : 0;
+        this.fetchSize = settings.getFetchSize() != null ? settings.getFetchSize() : 0;
+        this.renderKeywordCase = getRenderKeywordCase(settings);
+        this.renderNameCase = getRenderNameCase(settings);
+        this.renderQuotedNames = getRenderQuotedNames(settings);
+        this.renderLocale = renderLocale(settings);
+        this.renderFormatting = settings.getRenderFormatting() != null ? settings.getRenderFormatting() : new RenderFormatting();
+    }
+
+    /**
+     * The snapshot of an {@link ExecuteContext}.
+     */
+    static final CompiledSettings of(ExecuteContext ctx) {
+        if (ctx instanceof DefaultExecuteContext d)
+            return d.compiledSettings();
+        else if (ctx instanceof SimpleExecuteContext s)
+            return s.compiledSettings();
+
+        // jOOQ doesn't have any other ExecuteContext implementations
+        else
+            return new CompiledSettings(ctx.settings());
+    }
+
+    /**
+     * The snapshot of an {@link ExecuteScope}'s {@link ExecuteContext}.
+     */
+    static final CompiledSettings of(ExecuteScope ctx) {
+        ExecuteContext c = ctx.executeContext();
+        return c != null ? of(c) : new CompiledSettings(ctx.settings());
+    }
+
+    final boolean executeLogging() {
+        return (flags & EXECUTE_LOGGING) != 0;
+    }
+
+    final boolean executePreparedStatements() {
+        return (flags & EXECUTE_PREPARED_STATEMENTS) != 0;
+    }
+
+    final boolean renderFormatted() {
+        return (flags & RENDER_FORMATTED) != 0;
+    }
+
+    final boolean fetchWarnings() {
+        return (flags & FETCH_WARNINGS) != 0;
+    }
+
+    final boolean bindOffsetDateTimeType() {
+        return (flags & BIND_OFFSET_DATE_TIME_TYPE) != 0;
+    }
+
+    final boolean bindOffsetTimeType() {
+        return (flags & BIND_OFFSET_TIME_TYPE) != 0;
+    }
+
+    /**
+     * Like {@link SettingsTools#getQueryTimeout(int, Settings)}.
+     */
+    final int queryTimeout(int timeout) {
+        return timeout != 0 ? timeout : queryTimeout;
+    }
+
+    /**
+     * Like {@link SettingsTools#getQueryPoolable(QueryPoolable, Settings)}.
+     */
+    final QueryPoolable queryPoolable(QueryPoolable poolable) {
+        return poolable != null && poolable != QueryPoolable.DEFAULT ? poolable : queryPoolable;
+    }
+
+    /**
+     * Like {@link SettingsTools#getMaxRows(int, Settings)}.
+     */
+    final int maxRows(int rows) {
+        return rows != 0 ? rows : maxRows;
+    }
+
+    /**
+     * Like {@link SettingsTools#getFetchSize(int, Settings)}.
+     */
+    final int fetchSize(int size) {
+        return size != 0 ? size : fetchSize;
+    }
+}
@@ -120,7 +120,7 @@ import org.jooq.tools.jdbc.MockResultSet;
 import org.jooq.tools.json.ContainerFactory;
 import org.jooq.tools.json.JSONArray;
 import org.jooq.tools.json.JSONObject;
-import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONTokenizer;
 import org.jooq.tools.json.ParseException;
 import org.jooq.tools.reflect.Reflect;
 import org.jooq.types.DayToSecond;
@@ -1258,7 +1258,7 @@ final class Convert {
                 // [#12509] JSON data types can be written to Maps
                 else if (fromClass == JSON.class && Map.class.isAssignableFrom(toClass)) {
                     try {
-                        return require(toClass, new JSONParser().parse(((JSON) from).data(), containerFactoryForMaps(toClass)));
+                        return require(toClass, new JSONTokenizer(((JSON) from).data()).read(containerFactoryForMaps(toClass)));
                     }
                     catch (ParseException e) {
                         throw new DataTypeException("Error while mapping JSON to Map", e);
@@ -1268,7 +1268,7 @@ final class Convert {
                 // [#12509] JSON data types can be written to Maps
                 else if (fromClass == JSONB.class && Map.class.isAssignableFrom(toClass)) {
                     try {
-                        return require(toClass, new JSONParser().parse(((JSONB) from).data(), containerFactoryForMaps(toClass)));
+                        return require(toClass, new JSONTokenizer(((JSONB) from).data()).read(containerFactoryForMaps(toClass)));
                     }
                     catch (ParseException e) {
                         throw new DataTypeException("Error while mapping JSONB to Map", e);
@@ -1278,7 +1278,7 @@ final class Convert {
                 // [#12509] JSON data types can be written to Lists
                 else if (fromClass == JSON.class && List.class.isAssignableFrom(toClass)) {
                     try {
-                        return require(toClass, new JSONParser().parse(((JSON) from).data(), containerFactoryForLists(toClass)));
+                        return require(toClass, new JSONTokenizer(((JSON) from).data()).read(containerFactoryForLists(toClass)));
                     }
                     catch (ParseException e) {
                         throw new DataTypeException("Error while mapping JSON to List", e);
@@ -1288,7 +1288,7 @@ final class Convert {
                 // [#12509] JSON data types can be written to Lists
                 else if (fromClass == JSONB.class && List.class.isAssignableFrom(toClass)) {
                     try {
-                        return require(toClass, new JSONParser().parse(((JSONB) from).data(), containerFactoryForLists(toClass)));
+                        return require(toClass, new JSONTokenizer(((JSONB) from).data()).read(containerFactoryForLists(toClass)));
                     }
                     catch (ParseException e) {
                         throw new DataTypeException("Error while mapping JSONB to List", e);
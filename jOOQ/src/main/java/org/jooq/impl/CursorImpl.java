@@ -1433,6 +1433,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         private final ExecuteContext                       ctx;
         private final ExecuteListener                      listener;
+        private final boolean                              recordEvents;
         private final AbstractRow<?>                       initialiserFields;
         private int                                        offset;
         private final boolean[]                            intern;
@@ -1472,6 +1473,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
             this.ctx = ctx;
             this.listener = listener;
+            this.recordEvents = ExecuteListeners.subscribesToRecordEvents(listener);
             this.rsContext = rsContext;
             this.initialiserFields = initialiserFields;
             this.offset = offset;
@@ -1491,7 +1493,9 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         @Override
         public AbstractRecord apply(AbstractRecord record) throws SQLException {
             ctx.record(record);
-            listener.recordStart(ctx);
+            if (recordEvents)
+                listener.recordStart(ctx);
+
             int size = initialiserFields.size();
 
 
@@ -1522,7 +1526,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
                         record.intern0(i);
 
             ctx.record(record);
-            listener.recordEnd(ctx);
+            if (recordEvents)
+                listener.recordEnd(ctx);
 
             return record;
         }
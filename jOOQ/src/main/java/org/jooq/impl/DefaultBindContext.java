@@ -52,10 +52,25 @@ import io.r2dbc.spi.R2dbcException;
  */
 final class DefaultBindContext extends AbstractBindContext {
 
+    private ExecuteContext simpleExecuteContext;
+
     DefaultBindContext(Configuration configuration, ExecuteContext ctx, PreparedStatement stmt) {
         super(configuration, ctx, stmt);
     }
 
+    /**
+     * The {@link ExecuteContext} of this bind context, or a
+     * {@link SimpleExecuteContext} shared by all bind values, if there is none.
+     */
+    private final ExecuteContext executeContext0() {
+        if (executeContext() != null)
+            return executeContext();
+        else if (simpleExecuteContext == null)
+            simpleExecuteContext = new SimpleExecuteContext(configuration(), data());
+
+        return simpleExecuteContext;
+    }
+
     @Override
     @SuppressWarnings({ "unchecked" })
     protected final BindContext bindValue0(Object value, Field<?> field) throws SQLException {
@@ -63,9 +78,7 @@ final class DefaultBindContext extends AbstractBindContext {
 
         try {
             ((Field<Object>) field).getBinding().set(new DefaultBindingSetStatementContext<>(
-                executeContext() != null
-                    ? executeContext()
-                    : new SimpleExecuteContext(configuration(), data()),
+                executeContext0(),
                 stmt,
                 nextIndex,
                 value
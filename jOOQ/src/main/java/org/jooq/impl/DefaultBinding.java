@@ -186,7 +186,6 @@ import static org.jooq.util.postgres.PostgresUtils.toPGInterval;
 import static org.jooq.util.postgres.PostgresUtils.toYearToMonth;
 
 import java.io.Serializable;
-import java.io.StringReader;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -1084,7 +1083,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @Override
         public final void register(BindingRegisterContext<U> ctx) throws SQLException {
-            if (!FALSE.equals(ctx.settings().isExecuteLogging()))
+            if (CompiledSettings.of(ctx).executeLogging())
                 if (log.isTraceEnabled())
                     log.trace("Registering variable " + ctx.index(), "" + dataType);
 
@@ -1095,7 +1094,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         public final void set(BindingSetStatementContext<U> ctx) throws SQLException {
             T value = converter().to(ctx.value(), ctx.converterContext());
 
-            if (!FALSE.equals(ctx.settings().isExecuteLogging()))
+            if (CompiledSettings.of(ctx).executeLogging())
                 if (log.isTraceEnabled())
                     if (value != null && value.getClass().isArray() && value.getClass() != byte[].class)
                         log.trace("Binding variable " + ctx.index(), Arrays.asList((Object[]) value) + " (" + dataType + ")");
@@ -3426,7 +3425,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         final void set0(BindingSetStatementContext<U> ctx, OffsetDateTime value) throws SQLException {
             SQLDialect family = ctx.family();
 
-            if (!FALSE.equals(ctx.settings().isBindOffsetDateTimeType()))
+            if (CompiledSettings.of(ctx).bindOffsetDateTimeType())
                 ctx.statement().setObject(ctx.index(), value);
 
 
@@ -3441,7 +3440,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         @Override
         final void set0(BindingSetSQLOutputContext<U> ctx, OffsetDateTime value) throws SQLException {
 
-            if (!FALSE.equals(ctx.settings().isBindOffsetDateTimeType()))
+            if (CompiledSettings.of(ctx).bindOffsetDateTimeType())
                 ctx.output().writeObject(value, JDBCType.TIMESTAMP_WITH_TIMEZONE);
 
 
@@ -3455,7 +3454,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @Override
         final OffsetDateTime get0(BindingGetResultSetContext<U> ctx) throws SQLException {
-            if (!FALSE.equals(ctx.settings().isBindOffsetDateTimeType()))
+            if (CompiledSettings.of(ctx).bindOffsetDateTimeType())
                 return ctx.resultSet().getObject(ctx.index(), OffsetDateTime.class);
             else
                 return OffsetDateTimeParser.offsetDateTime(ctx.resultSet().getString(ctx.index()));
@@ -3463,7 +3462,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @Override
         final OffsetDateTime get0(BindingGetStatementContext<U> ctx) throws SQLException {
-            if (!FALSE.equals(ctx.settings().isBindOffsetDateTimeType()))
+            if (CompiledSettings.of(ctx).bindOffsetDateTimeType())
                 return ctx.statement().getObject(ctx.index(), OffsetDateTime.class);
             else
                 return OffsetDateTimeParser.offsetDateTime(ctx.statement().getString(ctx.index()));
@@ -3472,7 +3471,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         @Override
         final OffsetDateTime get0(BindingGetSQLInputContext<U> ctx) throws SQLException {
 
-            if (!FALSE.equals(ctx.settings().isBindOffsetDateTimeType()))
+            if (CompiledSettings.of(ctx).bindOffsetDateTimeType())
                 return ctx.input().readObject(OffsetDateTime.class);
 
 
@@ -3610,7 +3609,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @Override
         final void set0(BindingSetStatementContext<U> ctx, OffsetTime value) throws SQLException {
-            if (FALSE.equals(ctx.settings().isBindOffsetTimeType())) {
+            if (!CompiledSettings.of(ctx).bindOffsetTimeType()) {
                 String string = format(value);
 
 
@@ -3633,7 +3632,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @Override
         final OffsetTime get0(BindingGetResultSetContext<U> ctx) throws SQLException {
-            if (!FALSE.equals(ctx.settings().isBindOffsetTimeType()))
+            if (CompiledSettings.of(ctx).bindOffsetTimeType())
                 return ctx.resultSet().getObject(ctx.index(), OffsetTime.class);
             else
                 return OffsetDateTimeParser.offsetTime(ctx.resultSet().getString(ctx.index()));
@@ -3641,7 +3640,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @Override
         final OffsetTime get0(BindingGetStatementContext<U> ctx) throws SQLException {
-            if (!FALSE.equals(ctx.settings().isBindOffsetTimeType()))
+            if (CompiledSettings.of(ctx).bindOffsetTimeType())
                 return ctx.statement().getObject(ctx.index(), OffsetTime.class);
             else
                 return OffsetDateTimeParser.offsetTime(ctx.statement().getString(ctx.index()));
@@ -4385,7 +4384,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         static final <R extends Record> Result<R> readMultisetJSON(Scope ctx, AbstractRow<R> row, Class<R> recordType, String s) {
             if (s.startsWith("{") || s.startsWith("["))
-                return new JSONReader<>(ctx.dsl(), row, recordType, true).read(new StringReader(patchSnowflakeJSON(ctx, s)), true);
+                return new JSONMultisetReader<>(ctx.dsl(), row, recordType).read(patchSnowflakeJSON(ctx, s));
             else
                 return readMultisetScalar(ctx, row, recordType, s);
         }
@@ -64,6 +64,9 @@ final class DefaultCacheProvider implements CacheProvider {
             case CACHE_PARSING_CONNECTION:
                 return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
 
+            case CACHE_RENDERED_SQL:
+                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheRenderedSQLLRUCacheSize(), 8192)));
+
             default:
                 return new ConcurrentHashMap<>();
         }
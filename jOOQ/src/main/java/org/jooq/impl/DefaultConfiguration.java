@@ -130,6 +130,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
     private transient RecordUnmapperProvider            recordUnmapperProvider;
     private transient RecordListenerProvider[]          recordListenerProviders;
     private transient ExecuteListenerProvider[]         executeListenerProviders;
+    transient ExecuteListeners.Chain                    executeListenerChain;
     private transient MigrationListenerProvider[]       migrationListenerProviders;
     private transient VisitListenerProvider[]           visitListenerProviders;
     private transient TransactionListenerProvider[]     transactionListenerProviders;
@@ -1472,6 +1473,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
         this.executeListenerProviders = newExecuteListenerProviders != null
             ? newExecuteListenerProviders
             : new ExecuteListenerProvider[0];
+        this.executeListenerChain = null;
 
         return this;
     }
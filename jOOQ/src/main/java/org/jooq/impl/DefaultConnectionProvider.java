@@ -37,11 +37,15 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.tools.StringUtils.defaultIfNull;
+
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 
 import org.jooq.ConnectionProvider;
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.tools.JooqLogger;
 
@@ -63,6 +67,7 @@ public class DefaultConnectionProvider implements ConnectionProvider {
 
     private static final JooqLogger log = JooqLogger.getLogger(DefaultConnectionProvider.class);
     Connection                      connection;
+    private StatementCache          statementCache;
 
     public DefaultConnectionProvider(Connection connection) {
         this.connection = connection;
@@ -86,6 +91,7 @@ public class DefaultConnectionProvider implements ConnectionProvider {
     // -------------------------------------------------------------------------
 
     public final void setConnection(Connection connection) {
+        clearStatementCache();
         this.connection = connection;
     }
 
@@ -270,4 +276,69 @@ public class DefaultConnectionProvider implements ConnectionProvider {
             throw new DataAccessException("Cannot get transactionIsolation", e);
         }
     }
+
+    // -------------------------------------------------------------------------
+    // XXX: PreparedStatement cache
+    // -------------------------------------------------------------------------
+
+    /**
+     * The cache of {@link PreparedStatement} instances of this provider's
+     * connection.
+     */
+    final synchronized StatementCache statementCache(Settings settings) {
+        if (statementCache == null)
+            statementCache = new StatementCache(defaultIfNull(settings.getCachePreparedStatementInConnectionLRUCacheSize(), 64));
+
+        return statementCache;
+    }
+
+    /**
+     * Close all {@link PreparedStatement} instances that are cached for this
+     * provider's connection.
+     *
+     * @see Settings#isCachePreparedStatementInConnection()
+     */
+    public final void clearStatementCache() {
+        StatementCache c;
+
+        synchronized (this) {
+            c = statementCache;
+            statementCache = null;
+        }
+
+        if (c != null) {
+            log.debug("clearing statement cache", c);
+            c.clear();
+        }
+    }
+
+    /**
+     * The number of times a {@link PreparedStatement} could be reused from
+     * this provider's statement cache.
+     *
+     * @see Settings#isCachePreparedStatementInConnection()
+     */
+    public final synchronized long getStatementCacheHits() {
+        return statementCache == null ? 0L : statementCache.hits();
+    }
+
+    /**
+     * The number of times a {@link PreparedStatement} had to be prepared,
+     * because it wasn't found in this provider's statement cache.
+     *
+     * @see Settings#isCachePreparedStatementInConnection()
+     */
+    public final synchronized long getStatementCacheMisses() {
+        return statementCache == null ? 0L : statementCache.misses();
+    }
+
+    /**
+     * The number of {@link PreparedStatement} instances that were closed,
+     * because they were evicted from this provider's statement cache.
+     *
+     * @see Settings#isCachePreparedStatementInConnection()
+     */
+    public final synchronized long getStatementCacheEvictions() {
+        return statementCache == null ? 0L : statementCache.evictions();
+    }
 }
@@ -46,6 +46,7 @@ import static org.jooq.Records.intoMap;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
+import static org.jooq.impl.CacheType.CACHE_RENDERED_SQL;
 import static org.jooq.impl.DSL.condition;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.exists;
@@ -185,6 +186,7 @@ import org.jooq.Publisher;
 import org.jooq.Queries;
 import org.jooq.Query;
 import org.jooq.QueryPart;
+import org.jooq.QueryTemplate;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record10;
@@ -211,6 +213,7 @@ import org.jooq.Record9;
 import org.jooq.RenderContext;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
+import org.jooq.ResultQueryTemplate;
 import org.jooq.Results;
 import org.jooq.RowCountQuery;
 import org.jooq.SQL;
@@ -230,6 +233,7 @@ import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.TableLike;
 import org.jooq.TableRecord;
+import org.jooq.TemplateSlots;
 import org.jooq.TransactionProvider;
 import org.jooq.TransactionalCallable;
 import org.jooq.TransactionalPublishable;
@@ -2731,6 +2735,40 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new DeleteImpl<>(configuration(), null, table);
     }
 
+    // -------------------------------------------------------------------------
+    // XXX Query templates
+    // -------------------------------------------------------------------------
+
+    @Override
+    public QueryTemplate queryTemplate(Function<? super TemplateSlots, ? extends Query> query) {
+        return Cache.runUnlocked(configuration(),
+            () -> new QueryTemplateImpl(configuration(), query),
+            CACHE_RENDERED_SQL,
+            () -> templateKey(QueryTemplateImpl.class, query)
+        );
+    }
+
+    @Override
+    public <R extends Record> ResultQueryTemplate<R> resultQueryTemplate(Function<? super TemplateSlots, ? extends ResultQuery<R>> query) {
+        return Cache.runUnlocked(configuration(),
+            () -> new ResultQueryTemplateImpl<>(configuration(), query),
+            CACHE_RENDERED_SQL,
+            () -> templateKey(ResultQueryTemplateImpl.class, query)
+        );
+    }
+
+    /**
+     * Templates are looked up by the identity of their function, which needn't
+     * be evaluated on a cache hit.
+     */
+    private final Object templateKey(Class<?> type, Function<?, ?> query) {
+        return Cache.key(
+            Cache.key(type, Cache.identityKey(query)),
+            configuration().dialect(),
+            Cache.identityKey(configuration().settings())
+        );
+    }
+
     // -------------------------------------------------------------------------
     // XXX Batch query execution
     // -------------------------------------------------------------------------
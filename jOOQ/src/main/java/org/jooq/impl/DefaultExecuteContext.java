@@ -109,6 +109,7 @@ class DefaultExecuteContext implements ExecuteContext {
     private final Instant                                 creationTime;
     private final Configuration                           originalConfiguration;
     private final Configuration                           derivedConfiguration;
+    private CompiledSettings                              compiledSettings;
     private final Map<Object, Object>                     data;
 
 
@@ -403,55 +404,69 @@ class DefaultExecuteContext implements ExecuteContext {
             return ExecuteType.BATCH;
         }
 
+        // Query templates know the type of the query they were created from
+        else if (query instanceof QueryTemplateImpl.Bound b) {
+            return b.template().type;
+        }
+
         // Any other type of query
         else if (query != null) {
-            if (query instanceof ResultQuery) {
-                return ExecuteType.READ;
-            }
-            else if (query instanceof Insert
-                  || query instanceof Update
-                  || query instanceof Delete
-                  || query instanceof Merge) {
+            return type(configuration(), query);
+        }
 
-                return ExecuteType.WRITE;
-            }
-            else if (query instanceof DDLQuery) {
-                return ExecuteType.DDL;
-            }
+        // Fetching JDBC result sets, e.g. with SQL.fetch(ResultSet)
+        else if (resultSet != null) {
+            return ExecuteType.READ;
+        }
 
-            // Analyse SQL in plain SQL queries:
-            else {
-                String s = query.getSQL().toLowerCase(renderLocale(configuration().settings()));
+        // No query available
+        return ExecuteType.OTHER;
+    }
 
-                // TODO: Use a simple lexer to parse SQL here. Potentially, the
-                // SQL Console's SQL formatter could be used...?
-                if (s.matches("^(with\\b.*?\\bselect|select|explain)\\b.*?"))
-                    return ExecuteType.READ;
+    /**
+     * The {@link ExecuteType} of a {@link Query}.
+     */
+    static final ExecuteType type(Configuration configuration, Query query) {
+        if (query instanceof ResultQuery) {
+            return ExecuteType.READ;
+        }
+        else if (query instanceof Insert
+              || query instanceof Update
+              || query instanceof Delete
+              || query instanceof Merge) {
 
-                // These are sample DML statements. There may be many more
-                else if (s.matches("^(insert|update|delete|merge|replace|upsert|lock)\\b.*?"))
-                    return ExecuteType.WRITE;
+            return ExecuteType.WRITE;
+        }
+        else if (query instanceof DDLQuery) {
+            return ExecuteType.DDL;
+        }
 
-                // These are only sample DDL statements. There may be many more
-                else if (s.matches("^(create|alter|drop|truncate|grant|revoke|analyze|comment|flashback|enable|disable)\\b.*?"))
-                    return ExecuteType.DDL;
+        // Analyse SQL in plain SQL queries:
+        else {
+            String s = query.getSQL().toLowerCase(renderLocale(configuration.settings()));
 
-                // JDBC escape syntax for routines
-                else if (s.matches("^\\s*\\{\\s*(\\?\\s*=\\s*)call.*?"))
-                    return ExecuteType.ROUTINE;
+            // TODO: Use a simple lexer to parse SQL here. Potentially, the
+            // SQL Console's SQL formatter could be used...?
+            if (s.matches("^(with\\b.*?\\bselect|select|explain)\\b.*?"))
+                return ExecuteType.READ;
 
-                // Vendor-specific calling of routines / procedural blocks
-                else if (s.matches("^(call|begin|declare)\\b.*?"))
-                    return ExecuteType.ROUTINE;
-            }
-        }
+            // These are sample DML statements. There may be many more
+            else if (s.matches("^(insert|update|delete|merge|replace|upsert|lock)\\b.*?"))
+                return ExecuteType.WRITE;
 
-        // Fetching JDBC result sets, e.g. with SQL.fetch(ResultSet)
-        else if (resultSet != null) {
-            return ExecuteType.READ;
+            // These are only sample DDL statements. There may be many more
+            else if (s.matches("^(create|alter|drop|truncate|grant|revoke|analyze|comment|flashback|enable|disable)\\b.*?"))
+                return ExecuteType.DDL;
+
+            // JDBC escape syntax for routines
+            else if (s.matches("^\\s*\\{\\s*(\\?\\s*=\\s*)call.*?"))
+                return ExecuteType.ROUTINE;
+
+            // Vendor-specific calling of routines / procedural blocks
+            else if (s.matches("^(call|begin|declare)\\b.*?"))
+                return ExecuteType.ROUTINE;
         }
 
-        // No query available
         return ExecuteType.OTHER;
     }
 
@@ -601,6 +616,16 @@ class DefaultExecuteContext implements ExecuteContext {
         return originalConfiguration;
     }
 
+    /**
+     * The {@link CompiledSettings} of this execution, taken when first needed.
+     */
+    final CompiledSettings compiledSettings() {
+        if (compiledSettings == null)
+            compiledSettings = new CompiledSettings(settings());
+
+        return compiledSettings;
+    }
+
     @Override
     public final DSLContext dsl() {
         return configuration().dsl();
@@ -703,7 +728,18 @@ class DefaultExecuteContext implements ExecuteContext {
     }
 
     private final Connection wrap(ConnectionProvider provider, Connection c) {
-        return wrap0(new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), derivedConfiguration.settings(), this));
+        return wrap0(new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c, statementCache(provider)), derivedConfiguration.settings(), this));
+    }
+
+    private final StatementCache statementCache(ConnectionProvider provider) {
+        Settings settings = derivedConfiguration.settings();
+
+        // PreparedStatements can only be cached if they don't outlive their
+        // connection, which is guaranteed only by a DefaultConnectionProvider
+        if (TRUE.equals(settings.isCachePreparedStatementInConnection()) && provider instanceof DefaultConnectionProvider d)
+            return d.statementCache(settings);
+        else
+            return null;
     }
 
     private final Connection wrap0(Connection c) {
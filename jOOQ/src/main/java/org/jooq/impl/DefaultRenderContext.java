@@ -41,7 +41,6 @@ import static java.lang.Boolean.TRUE;
 // ...
 import static org.jooq.SQLDialect.SQLITE;
 import static org.jooq.conf.ParamType.INLINED;
-import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Identifiers.QUOTES;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER_ESCAPED;
@@ -57,6 +56,7 @@ import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -111,6 +111,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     RenderNameCase                        cachedRenderNameCase;
     RenderQuotedNames                     cachedRenderQuotedNames;
     boolean                               cachedRenderFormatted;
+    Locale                                cachedRenderLocale;
 
     // [#6525] Cached values from Settings.renderFormatting
     String                                cachedIndentation;
@@ -121,18 +122,35 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     DefaultRenderContext(Configuration configuration, ExecuteContext ctx) {
         super(configuration, ctx, null);
 
-        Settings settings = configuration.settings();
-
         this.sql = new StringBuilder();
         this.bindValues = new QueryPartList<>();
-        this.cachedRenderKeywordCase = SettingsTools.getRenderKeywordCase(settings);
-        this.cachedRenderFormatted = Boolean.TRUE.equals(settings.isRenderFormatted());
-        this.cachedRenderNameCase = SettingsTools.getRenderNameCase(settings);
-        this.cachedRenderQuotedNames = SettingsTools.getRenderQuotedNames(settings);
 
-        RenderFormatting formatting = settings.getRenderFormatting();
-        if (formatting == null)
-            formatting = new RenderFormatting();
+        RenderFormatting formatting;
+
+        // Snapshots are taken only once per execution, not once per rendering
+        if (ctx != null) {
+            CompiledSettings settings = CompiledSettings.of(ctx);
+
+            this.cachedRenderKeywordCase = settings.renderKeywordCase;
+            this.cachedRenderFormatted = settings.renderFormatted();
+            this.cachedRenderNameCase = settings.renderNameCase;
+            this.cachedRenderQuotedNames = settings.renderQuotedNames;
+            this.cachedRenderLocale = settings.renderLocale;
+            formatting = settings.renderFormatting;
+        }
+        else {
+            Settings settings = configuration.settings();
+
+            this.cachedRenderKeywordCase = SettingsTools.getRenderKeywordCase(settings);
+            this.cachedRenderFormatted = Boolean.TRUE.equals(settings.isRenderFormatted());
+            this.cachedRenderNameCase = SettingsTools.getRenderNameCase(settings);
+            this.cachedRenderQuotedNames = SettingsTools.getRenderQuotedNames(settings);
+            this.cachedRenderLocale = SettingsTools.renderLocale(settings);
+            formatting = settings.getRenderFormatting();
+
+            if (formatting == null)
+                formatting = new RenderFormatting();
+        }
 
         this.cachedNewline = formatting.getNewline() == null ? "\n" : formatting.getNewline();
         this.cachedIndentation = formatting.getIndentation() == null ? "  " : formatting.getIndentation();
@@ -658,7 +676,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         ||
 
             // [#2367] ... yet, do quote when an identifier is a SQLite keyword
-            (family == SQLITE && SQLITE_KEYWORDS.contains(literal.toUpperCase(renderLocale(configuration().settings()))))
+            (family == SQLITE && SQLITE_KEYWORDS.contains(literal.toUpperCase(cachedRenderLocale)))
 
         ||
 
@@ -701,10 +719,10 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     final String applyNameCase(String literal) {
         if (RenderNameCase.LOWER == cachedRenderNameCase ||
             RenderNameCase.LOWER_IF_UNQUOTED == cachedRenderNameCase && !quote())
-            return literal.toLowerCase(renderLocale(configuration().settings()));
+            return literal.toLowerCase(cachedRenderLocale);
         else if (RenderNameCase.UPPER == cachedRenderNameCase ||
                  RenderNameCase.UPPER_IF_UNQUOTED == cachedRenderNameCase && !quote())
-            return literal.toUpperCase(renderLocale(configuration().settings()));
+            return literal.toUpperCase(cachedRenderLocale);
         else
             return literal;
     }
@@ -44,6 +44,7 @@ import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
@@ -66,6 +67,21 @@ final class ExecuteListeners implements ExecuteListener {
 
 
 
+    /**
+     * Whether a listener type overrides any of the record events.
+     */
+    private static final ClassValue<Boolean> RECORD_EVENTS  = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "recordStart") || overrides(type, "recordEnd");
+        }
+    };
+
+    /**
+     * The listeners in start and end invocation order, followed by the
+     * listeners subscribing to record events, in start and end invocation
+     * order.
+     */
     private final ExecuteListener[][]    listeners;
 
     // In some setups, these two events may get mixed up chronologically by the
@@ -128,24 +144,115 @@ final class ExecuteListeners implements ExecuteListener {
 
 
 
-        for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders())
+        ExecuteListener[] def;
+        ExecuteListener[] rev;
+        Chain chain = chain(ctx);
 
-            // Could be null after deserialisation
-            if (provider != null)
-                (list = init(list)).add(provider.provide());
+        // Re-use the precompiled chain if no other listeners are needed
+        if (list == null && chain.listeners != null) {
+            if (chain.listeners.length == 0)
+                return null;
+
+            def = chain.listeners;
+            rev = chain.reversed;
+        }
+        else {
+            for (ExecuteListenerProvider provider : chain.providers)
+
+                // Could be null after deserialisation
+                if (provider != null)
+                    (list = init(list)).add(provider.provide());
+
+            if (list == null)
+                return null;
+
+            def = list.toArray(EMPTY_EXECUTE_LISTENER);
+            rev = null;
+        }
 
-        if (list == null)
-            return null;
+        ExecuteListener[] rec = recordListeners(def);
+        ExecuteListener[] recRev = rec == def ? rev : null;
+        boolean startReverse = ctx.settings().getExecuteListenerStartInvocationOrder() == REVERSE;
+        boolean endReverse = ctx.settings().getExecuteListenerEndInvocationOrder() == REVERSE;
 
-        ExecuteListener[] def = list.toArray(EMPTY_EXECUTE_LISTENER);
-        ExecuteListener[] rev = null;
+        if ((startReverse || endReverse) && rev == null)
+            rev = Tools.reverse(def.clone());
+        if ((startReverse || endReverse) && recRev == null)
+            recRev = rec == def ? rev : Tools.reverse(rec.clone());
 
         return new ExecuteListener[][] {
-            ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone())),
-            ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
+            startReverse ? rev : def,
+            endReverse ? rev : def,
+            startReverse ? recRev : rec,
+            endReverse ? recRev : rec
         };
     }
 
+    /**
+     * The precompiled {@link Chain} of the {@link ExecuteContext}'s original
+     * {@link Configuration}, which is re-created only if its
+     * {@link ExecuteListenerProvider}s change.
+     */
+    private static final Chain chain(ExecuteContext ctx) {
+        Configuration c = ctx instanceof DefaultExecuteContext d ? d.originalConfiguration() : ctx.configuration();
+        ExecuteListenerProvider[] providers = c.executeListenerProviders();
+
+        if (c instanceof DefaultConfiguration d) {
+            Chain result = d.executeListenerChain;
+
+            if (result == null || result.providers != providers)
+                d.executeListenerChain = result = new Chain(providers);
+
+            return result;
+        }
+        else
+            return new Chain(providers);
+    }
+
+    /**
+     * The subset of listeners that subscribe to record events, or the argument
+     * array itself, if all listeners subscribe to them.
+     */
+    private static final ExecuteListener[] recordListeners(ExecuteListener[] listeners) {
+        List<ExecuteListener> result = null;
+
+        for (int i = 0; i < listeners.length; i++) {
+            if (subscribesToRecordEvents(listeners[i])) {
+                if (result != null)
+                    result.add(listeners[i]);
+            }
+            else if (result == null) {
+                result = new ArrayList<>();
+
+                for (int j = 0; j < i; j++)
+                    result.add(listeners[j]);
+            }
+        }
+
+        return result == null ? listeners : result.toArray(EMPTY_EXECUTE_LISTENER);
+    }
+
+    /**
+     * Whether a listener subscribes to the
+     * {@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events.
+     */
+    static final boolean subscribesToRecordEvents(ExecuteListener listener) {
+        return RECORD_EVENTS.get(listener.getClass()) && listener.subscribesToRecordEvents();
+    }
+
+    private static final boolean overrides(Class<?> type, String method) {
+        try {
+            Class<?> declaring = type.getMethod(method, ExecuteContext.class).getDeclaringClass();
+            return declaring != ExecuteListener.class && declaring != DefaultExecuteListener.class;
+        }
+
+        // Be on the safe side, if the method can't be looked up
+        catch (Exception e) {
+            return true;
+        }
+    }
+
     private static final List<ExecuteListener> init(List<ExecuteListener> result) {
         return result == null ? new ArrayList<>() : result;
     }
@@ -154,6 +261,47 @@ final class ExecuteListeners implements ExecuteListener {
         this.listeners = listeners;
     }
 
+    /**
+     * The {@link ExecuteListener} instances that can be computed once per
+     * {@link Configuration}.
+     */
+    static final class Chain {
+        final ExecuteListenerProvider[] providers;
+
+        /**
+         * The listeners provided by the {@link #providers}, or
+         * <code>null</code> if any provider may provide new listeners per
+         * execution.
+         */
+        final ExecuteListener[]         listeners;
+        final ExecuteListener[]         reversed;
+
+        Chain(ExecuteListenerProvider[] providers) {
+            List<ExecuteListener> list = new ArrayList<>();
+
+            for (ExecuteListenerProvider provider : providers) {
+
+                // The DefaultExecuteListenerProvider always provides the same listener
+                if (provider instanceof DefaultExecuteListenerProvider) {
+                    list.add(provider.provide());
+                }
+                else if (provider != null) {
+                    list = null;
+                    break;
+                }
+            }
+
+            this.providers = providers;
+            this.listeners = list == null ? null : list.toArray(EMPTY_EXECUTE_LISTENER);
+            this.reversed = list == null ? null : Tools.reverse(listeners.clone());
+        }
+    }
+
+    @Override
+    public final boolean subscribesToRecordEvents() {
+        return listeners[2].length > 0;
+    }
+
     @Override
     public final void start(ExecuteContext ctx) {
         for (ExecuteListener listener : listeners[0])
@@ -257,7 +405,7 @@ final class ExecuteListeners implements ExecuteListener {
 
     @Override
     public final void recordStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[2])
             listener.recordStart(ctx);
 
         ((DefaultExecuteContext) ctx).recordLevel++;
@@ -267,7 +415,7 @@ final class ExecuteListeners implements ExecuteListener {
     public final void recordEnd(ExecuteContext ctx) {
         ((DefaultExecuteContext) ctx).recordLevel--;
 
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[3])
             listener.recordEnd(ctx);
     }
 
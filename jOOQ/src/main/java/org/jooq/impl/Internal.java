@@ -1000,6 +1000,14 @@ public final class Internal {
         return CONVERTER_SCOPE.get();
     }
 
+    /**
+     * Whether a {@link Configuration} executes queries via an R2DBC
+     * {@link io.r2dbc.spi.ConnectionFactory}, rather than via JDBC.
+     */
+    public static final boolean r2dbc(Configuration configuration) {
+        return configuration != null && !(configuration.connectionFactory() instanceof NoConnectionFactory);
+    }
+
     private static final Lazy<Integer> JAVA_VERSION = Lazy.of(() -> {
         try {
 
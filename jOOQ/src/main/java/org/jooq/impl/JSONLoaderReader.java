@@ -0,0 +1,324 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.jooq.Field;
+import org.jooq.Result;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONTokenizer;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * A streaming reader for the JSON format produced by
+ * {@link Result#formatJSON()}, for use by the {@link LoaderImpl}.
+ * <p>
+ * Unlike {@link JSONReader}, this doesn't materialise the document. The
+ * <code>"fields"</code> header is collected, and then each element of
+ * <code>"records"</code> is produced as a row, pausing the underlying
+ * {@link JSONTokenizer} in between. Both the object format with a header and a
+ * top level array of records are supported, where records may be arrays or
+ * objects.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class JSONLoaderReader implements Iterator<Object[]>, Closeable {
+
+    private static final int     NONE    = 0;
+    private static final int     FIELDS  = 1;
+    private static final int     RECORDS = 2;
+
+    private final Reader         reader;
+    private final JSONTokenizer  tokenizer;
+    private final Handler        handler;
+    private final List<Field<?>> header;
+    private Field<?>[]           fields;
+    private boolean              finished;
+    private Object               next;
+    private boolean              hasNext;
+
+    JSONLoaderReader(Reader reader) {
+        this.reader = reader;
+        this.tokenizer = new JSONTokenizer(reader);
+        this.handler = new Handler();
+        this.header = new ArrayList<>();
+    }
+
+    /**
+     * The fields of the header, or of the first record, if there is no header.
+     * <p>
+     * This is available after the first call to {@link #hasNext()}.
+     */
+    final Field<?>[] fields() {
+        return fields;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (hasNext)
+            return true;
+        if (finished)
+            return false;
+
+        try {
+            tokenizer.parse(handler);
+        }
+        catch (IOException | ParseException e) {
+            throw new RuntimeException(e);
+        }
+
+        // The tokenizer returns either after the handler paused on a record, or at the end of the input
+        if (!hasNext)
+            finished = true;
+
+        if (fields == null)
+            fields(next);
+
+        return hasNext;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        hasNext = false;
+        Object record = next;
+        next = null;
+
+        // [#12930] NULL records are possible when nested ROW is
+        //          returned from an empty scalar subquery.
+        if (record == null)
+            return new Object[fields == null ? 0 : fields.length];
+        else if (record instanceof Map)
+            return row((Map<String, Object>) record);
+        else
+            return row((List<Object>) record);
+    }
+
+    /**
+     * Initialise the fields from the header, or from the first record, if
+     * there is no header.
+     */
+    private final void fields(Object record) {
+        if (!header.isEmpty())
+            fields = header.toArray(Tools.EMPTY_FIELD);
+        else if (record instanceof Map)
+            fields = Tools.map(((Map<String, Object>) record).keySet(), k -> field(name(k), VARCHAR), Field[]::new);
+        else if (record instanceof List)
+            fields = Tools.fields(((List<Object>) record).size());
+    }
+
+    private final Object[] row(Map<String, Object> record) {
+        Object[] result = new Object[fields.length];
+        for (int i = 0; i < result.length; i++)
+            result[i] = value(fields[i], record.get(fields[i].getName()));
+
+        return result;
+    }
+
+    private final Object[] row(List<Object> record) {
+        Object[] result = record.toArray();
+        for (int i = 0; i < result.length && i < fields.length; i++)
+            result[i] = value(fields[i], result[i]);
+
+        return result;
+    }
+
+    private static final Object value(Field<?> field, Object value) {
+
+        // [#8829] LoaderImpl expects binary data to be encoded in base64,
+        //         not according to org.jooq.tools.Convert
+        if (field.getType() == byte[].class && value instanceof String s)
+            return Base64.getDecoder().decode(s);
+        else
+            return field.getDataType().convert(value);
+    }
+
+    @Override
+    public final void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * A {@link ContentHandler} that builds one header field or record at a
+     * time, and pauses the tokenizer after each record.
+     */
+    private final class Handler implements ContentHandler {
+
+        /**
+         * The number of currently open objects and arrays.
+         */
+        int                 depth;
+
+        /**
+         * The depth of the elements of the current collection, or
+         * <code>-1</code> when outside of a collection.
+         */
+        int                 itemDepth = -1;
+        int                 collection;
+        boolean             rootObject;
+        String              rootKey;
+        final Deque<Object> containers = new ArrayDeque<>();
+        final Deque<String> keys       = new ArrayDeque<>();
+
+        @Override
+        public void startJSON() {}
+
+        @Override
+        public void endJSON() {}
+
+        @Override
+        public boolean startObject() {
+            if (++depth == 1)
+                rootObject = true;
+            else if (itemDepth != -1 && depth >= itemDepth)
+                containers.push(new LinkedHashMap<>());
+
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return end();
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            if (depth == 1)
+                rootKey = key;
+            else if (itemDepth != -1 && depth >= itemDepth)
+                keys.push(key);
+
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            if (++depth == 1) {
+                collection = RECORDS;
+                itemDepth = 2;
+            }
+            else if (depth == 2 && rootObject && itemDepth == -1) {
+                if ("fields".equals(rootKey))
+                    collection = FIELDS;
+                else if ("records".equals(rootKey))
+                    collection = RECORDS;
+                else
+                    return true;
+
+                itemDepth = 3;
+            }
+            else if (itemDepth != -1 && depth >= itemDepth)
+                containers.push(new ArrayList<>());
+
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            return end();
+        }
+
+        private final boolean end() {
+            try {
+                if (itemDepth != -1 && depth >= itemDepth)
+                    return value(containers.pop());
+
+                // The end of the current collection
+                else if (itemDepth != -1 && depth == itemDepth - 1) {
+                    collection = NONE;
+                    itemDepth = -1;
+                }
+
+                return true;
+            }
+            finally {
+                depth--;
+            }
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (itemDepth != -1 && depth >= itemDepth - 1)
+                return value(value);
+            else
+                return true;
+        }
+
+        private final boolean value(Object value) {
+            Object parent = containers.peek();
+
+            if (parent instanceof Map m)
+                m.put(keys.pop(), value);
+            else if (parent instanceof List l)
+                l.add(value);
+            else if (collection == FIELDS)
+                header.add(JSONReader.headerField((Map<String, ?>) value));
+
+            // Pause the tokenizer after each record
+            else if (collection == RECORDS) {
+                next = value;
+                hasNext = true;
+                return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Integer.parseInt;
+import static org.jooq.impl.Tools.recordFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.exception.ControlFlowSignal;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONTokenizer;
+
+/**
+ * A streaming reader for the JSON encoding of <code>MULTISET</code> and
+ * <code>ROW</code> emulations.
+ * <p>
+ * Unlike {@link JSONReader}, this doesn't produce an intermediate tree of
+ * {@link Map} and {@link List} containers that is then walked again. Driven by
+ * the expected {@link AbstractRow}, values are collected from the
+ * {@link JSONTokenizer} events directly into the positions of their target
+ * fields, including nested <code>MULTISET</code> and <code>ROW</code> values,
+ * and then converted using each field's {@link DataType}.
+ * <p>
+ * Documents of an unexpected shape (e.g. the object format produced by
+ * {@link Result#formatJSON()}) are delegated to {@link JSONReader}.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class JSONMultisetReader<R extends Record> implements ContentHandler {
+
+    private final DSLContext                             ctx;
+    private final AbstractRow<R>                         row;
+    private final Class<? extends R>                     recordType;
+    private final Map<AbstractRow<?>, Supplier<Record>>  factories;
+    private final Deque<Frame>                           stack;
+    private Object                                       result;
+
+    JSONMultisetReader(DSLContext ctx, AbstractRow<R> row, Class<? extends R> recordType) {
+        this.ctx = ctx;
+        this.row = row;
+        this.recordType = recordType != null ? recordType : (Class<? extends R>) Record.class;
+        this.factories = new IdentityHashMap<>();
+        this.stack = new ArrayDeque<>();
+    }
+
+    final Result<R> read(String string) {
+
+        // Custom RecordUnmappers are applied only by JSONReader
+        if (!string.startsWith("[") || ctx.configuration().recordUnmapperProvider().getClass() != DefaultRecordUnmapperProvider.class)
+            return fallback(string);
+
+        try {
+            new JSONTokenizer(string).parse(this);
+            return (Result<R>) result;
+        }
+        catch (Unexpected e) {
+            return fallback(string);
+        }
+        catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private final Result<R> fallback(String string) {
+        return new JSONReader<>(ctx, row, recordType, true).read(string, true);
+    }
+
+    // -------------------------------------------------------------------------
+    // ContentHandler API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void startJSON() {}
+
+    @Override
+    public final void endJSON() {}
+
+    @Override
+    public final boolean startObject() {
+        if (stack.isEmpty())
+            throw new Unexpected();
+
+        stack.push(stack.peek().object());
+        return true;
+    }
+
+    @Override
+    public final boolean endObject() {
+        return end();
+    }
+
+    @Override
+    public final boolean startObjectEntry(String key) {
+        stack.peek().key(key);
+        return true;
+    }
+
+    @Override
+    public final boolean endObjectEntry() {
+        return true;
+    }
+
+    @Override
+    public final boolean startArray() {
+        stack.push(stack.isEmpty() ? new ResultFrame(row, recordType) : stack.peek().array());
+        return true;
+    }
+
+    @Override
+    public final boolean endArray() {
+        return end();
+    }
+
+    @Override
+    public final boolean primitive(Object value) {
+        if (stack.isEmpty())
+            throw new Unexpected();
+
+        stack.peek().value(value);
+        return true;
+    }
+
+    private final boolean end() {
+        Object value = stack.pop().end();
+
+        if (stack.isEmpty())
+            result = value;
+        else
+            stack.peek().value(value);
+
+        return true;
+    }
+
+    // -------------------------------------------------------------------------
+    // The decoding state of the currently open JSON arrays and objects
+    // -------------------------------------------------------------------------
+
+    private abstract static class Frame {
+        abstract Frame object();
+        abstract Frame array();
+        abstract void key(String key);
+        abstract void value(Object value);
+        abstract Object end();
+    }
+
+    /**
+     * A JSON array of records, producing a {@link Result}.
+     */
+    private final class ResultFrame extends Frame {
+        final AbstractRow<?>            r;
+        final Class<? extends Record>   t;
+        final Result<Record>            records;
+
+        ResultFrame(AbstractRow<?> r, Class<? extends Record> t) {
+            this.r = r;
+            this.t = t;
+            this.records = new ResultImpl<>(ctx.configuration(), r);
+        }
+
+        @Override
+        final Frame object() {
+
+            // This is required if we use the JSONFormat.RecordFormat.OBJECT encoding (e.g. in SQL Server)
+            return new RecordFrame(r, t, true);
+        }
+
+        @Override
+        final Frame array() {
+            return new RecordFrame(r, t, false);
+        }
+
+        @Override
+        final void key(String key) {
+            throw new Unexpected();
+        }
+
+        @Override
+        final void value(Object value) {
+
+            // [#12930] NULL records are possible when nested ROW is
+            //          returned from an empty scalar subquery.
+            if (value == null || value instanceof Record)
+                records.add((Record) value);
+            else
+                throw new Unexpected();
+        }
+
+        @Override
+        final Object end() {
+            return records;
+        }
+    }
+
+    /**
+     * A JSON array or object of values, producing a {@link Record}.
+     */
+    private final class RecordFrame extends Frame {
+        final AbstractRow<?>            r;
+        final Class<? extends Record>   t;
+        final Field<?>[]                fields;
+        final Object[]                  values;
+        final boolean                   keyed;
+        int                             index;
+        int                             size;
+
+        RecordFrame(AbstractRow<?> r, Class<? extends Record> t, boolean keyed) {
+            this.r = r;
+            this.t = t;
+            this.fields = r.fields.fields;
+            this.values = new Object[fields.length];
+            this.keyed = keyed;
+        }
+
+        @Override
+        final Frame object() {
+            return new TreeFrame(true);
+        }
+
+        @Override
+        final Frame array() {
+            if (index < fields.length) {
+                DataType<?> type = fields[index].getDataType();
+
+                // [#12155] Recurse for nested MULTISET
+                if (type.isMultiset())
+                    return new ResultFrame((AbstractRow<?>) type.getRow(), type.getRecordType());
+
+                // [#14657] Recurse for nested ROW
+                else if (type.isRecord())
+                    return new RecordFrame((AbstractRow<?>) type.getRow(), type.getRecordType(), false);
+            }
+
+            return new TreeFrame(false);
+        }
+
+        @Override
+        final void key(String key) {
+
+            // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
+            index = parseInt(key.substring(1));
+        }
+
+        @Override
+        final void value(Object value) {
+            if (index < fields.length) {
+                values[index] = value;
+                size = Math.max(size, index + 1);
+            }
+
+            if (!keyed)
+                index++;
+        }
+
+        @Override
+        final Object end() {
+
+            // Missing values are handled only by JSONReader
+            if (size < fields.length)
+                throw new Unexpected();
+
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> field = fields[i];
+                Object value = values[i];
+
+                // [#8829] LoaderImpl expects binary data to be encoded in base64,
+                //         not according to org.jooq.tools.Convert
+                if (field.getType() == byte[].class && value instanceof String s)
+                    values[i] = JSONReader.binary(ctx, true, s);
+
+                // [#12155] Any other MULTISET content (e.g. NULL) is read by JSONReader
+                else if (field.getDataType().isMultiset() && !(value instanceof Result))
+                    values[i] = JSONReader.read(ctx, (AbstractRow) field.getDataType().getRow(), (Class) field.getDataType().getRecordType(), true, value);
+            }
+
+            return Tools.newRecord(true, factory(r, t), ctx.configuration()).operate(x -> {
+                AbstractRecord record = (AbstractRecord) x;
+
+                for (int i = 0; i < fields.length; i++)
+                    Tools.setValue(record, fields[i], i, values[i]);
+
+                record.changed(false);
+                return record;
+            });
+        }
+    }
+
+    /**
+     * Any other JSON array or object, which is materialised as in
+     * {@link JSONReader}, and passed on to the {@link DataType}.
+     */
+    private final class TreeFrame extends Frame {
+        final Map<String, Object>       map;
+        final List<Object>              list;
+        String                          key;
+
+        TreeFrame(boolean object) {
+            this.map = object ? new LinkedHashMap<>() : null;
+            this.list = object ? null : new ArrayList<>();
+        }
+
+        @Override
+        final Frame object() {
+            return new TreeFrame(true);
+        }
+
+        @Override
+        final Frame array() {
+            return new TreeFrame(false);
+        }
+
+        @Override
+        final void key(String k) {
+            key = k;
+        }
+
+        @Override
+        final void value(Object value) {
+            if (map != null)
+                map.put(key, value);
+            else
+                list.add(value);
+        }
+
+        @Override
+        final Object end() {
+            return map != null ? map : list;
+        }
+    }
+
+    private final Supplier<Record> factory(AbstractRow<?> r, Class<? extends Record> t) {
+        return factories.computeIfAbsent(r, k -> recordFactory(t, (AbstractRow) k));
+    }
+
+    /**
+     * A signal that the document doesn't have the expected shape.
+     */
+    private static final class Unexpected extends ControlFlowSignal {}
+}
@@ -59,7 +59,6 @@ import static org.jooq.impl.Tools.newRecord;
 import static org.jooq.tools.StringUtils.defaultIfBlank;
 
 import java.io.Reader;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.LinkedHashMap;
@@ -75,7 +74,7 @@ import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.tools.json.ContainerFactory;
-import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONTokenizer;
 
 /**
  * A very simple JSON reader based on Simple JSON.
@@ -99,7 +98,11 @@ final class JSONReader<R extends Record> {
     }
 
     final Result<R> read(String string) {
-        return read(new StringReader(string));
+        return read(string, false);
+    }
+
+    final Result<R> read(String string, boolean multiset) {
+        return read(new JSONTokenizer(string), multiset);
     }
 
     final Result<R> read(final Reader reader) {
@@ -107,8 +110,12 @@ final class JSONReader<R extends Record> {
     }
 
     final Result<R> read(final Reader reader, boolean multiset) {
+        return read(new JSONTokenizer(reader), multiset);
+    }
+
+    private final Result<R> read(JSONTokenizer tokenizer, boolean multiset) {
         try {
-            Object root = new JSONParser().parse(reader, new ContainerFactory() {
+            Object root = tokenizer.read(new ContainerFactory() {
                 @Override
                 public Map createObjectContainer() {
                     return new LinkedHashMap();
@@ -127,7 +134,7 @@ final class JSONReader<R extends Record> {
         }
     }
 
-    private static final <R extends Record> Result<R> read(
+    static final <R extends Record> Result<R> read(
         DSLContext ctx,
         AbstractRow<R> actualRow,
         Class<? extends R> recordType,
@@ -143,18 +150,9 @@ final class JSONReader<R extends Record> {
             Map<String, Object> o1 = (Map<String, Object>) root;
             List<Map<String, String>> fields = (List<Map<String, String>>) o1.get("fields");
 
-            if (fields != null) {
-                for (Map<String, String> field : fields) {
-                    String catalog = field.get("catalog");
-                    String schema = field.get("schema");
-                    String table = field.get("table");
-                    String name = field.get("name");
-                    String type = field.get("type");
-
-                    // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
-                    header.add(field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR"))));
-                }
-            }
+            if (fields != null)
+                for (Map<String, String> field : fields)
+                    header.add(headerField(field));
 
             records = (List<?>) o1.get("records");
         }
@@ -230,6 +228,21 @@ final class JSONReader<R extends Record> {
         return result;
     }
 
+    /**
+     * Create a field from an entry of the <code>"fields"</code> header, as
+     * produced by {@link Result#formatJSON()}.
+     */
+    static final Field<?> headerField(Map<String, ?> field) {
+        String catalog = (String) field.get("catalog");
+        String schema = (String) field.get("schema");
+        String table = (String) field.get("table");
+        String name = (String) field.get("name");
+        String type = (String) field.get("type");
+
+        // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
+        return field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR")));
+    }
+
     private static final List<Object> sortedValues(Map<String, Object> record) {
 
         // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
@@ -246,38 +259,42 @@ final class JSONReader<R extends Record> {
     private static final Set<SQLDialect> ENCODE_BINARY_AS_HEX  = SQLDialect.supportedBy(H2, POSTGRES, SQLITE, TRINO, YUGABYTEDB);
     private static final Set<SQLDialect> ENCODE_BINARY_AS_TEXT = SQLDialect.supportedBy(MARIADB);
 
+    /**
+     * Decode binary data from its JSON string representation.
+     */
+    static final Object binary(DSLContext ctx, boolean multiset, String s) {
+        if (multiset) {
+
+            // [#12134] PostgreSQL encodes binary data as hex
+            // TODO [#13427] This doesn't work if bytea_output is set to escape
+            if (ENCODE_BINARY_AS_HEX.contains(ctx.dialect()))
+                if (s.startsWith("\\x"))
+                    return convertHexToBytes(s, 1, Integer.MAX_VALUE);
+                else
+                    return convertHexToBytes(s);
+
+            // [#12134] MariaDB encodes binary data as text (?)
+            else if (ENCODE_BINARY_AS_TEXT.contains(ctx.dialect()))
+                return s;
+
+            // [#12134] MySQL encodes binary data as prefixed base64
+            else if (s.startsWith("base64:type15:"))
+                return Base64.getDecoder().decode(s.substring(14));
+            else
+                return Base64.getDecoder().decode(s);
+        }
+        else
+            return Base64.getDecoder().decode(s);
+    }
+
     private static final List<Object> patchRecord(DSLContext ctx, boolean multiset, Fields result, List<Object> record) {
         for (int i = 0; i < result.fields().length; i++) {
             Field<?> field = result.field(i);
 
             // [#8829] LoaderImpl expects binary data to be encoded in base64,
             //         not according to org.jooq.tools.Convert
-            if (field.getType() == byte[].class && record.get(i) instanceof String) {
-                String s = (String) record.get(i);
-
-                if (multiset) {
-
-                    // [#12134] PostgreSQL encodes binary data as hex
-                    // TODO [#13427] This doesn't work if bytea_output is set to escape
-                    if (ENCODE_BINARY_AS_HEX.contains(ctx.dialect()))
-                        if (s.startsWith("\\x"))
-                            record.set(i, convertHexToBytes(s, 1, Integer.MAX_VALUE));
-                        else
-                            record.set(i, convertHexToBytes(s));
-
-                    // [#12134] MariaDB encodes binary data as text (?)
-                    else if (ENCODE_BINARY_AS_TEXT.contains(ctx.dialect()))
-                        record.set(i, s);
-
-                    // [#12134] MySQL encodes binary data as prefixed base64
-                    else if (s.startsWith("base64:type15:"))
-                        record.set(i, Base64.getDecoder().decode(s.substring(14)));
-                    else
-                        record.set(i, Base64.getDecoder().decode(s));
-                }
-                else
-                    record.set(i, Base64.getDecoder().decode(s));
-            }
+            if (field.getType() == byte[].class && record.get(i) instanceof String s)
+                record.set(i, binary(ctx, multiset, s));
 
             // [#12155] Recurse for nested MULTISET
             else if (multiset && field.getDataType().isMultiset()) {
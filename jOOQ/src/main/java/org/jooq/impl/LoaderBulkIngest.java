@@ -0,0 +1,403 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SQLDialect.DUCKDB;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.SQLDialect.YUGABYTEDB;
+import static org.jooq.impl.Tools.hasDefaultConverter;
+import static org.jooq.impl.Tools.map;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.LoaderOptionsStep;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultBinding.InternalBinding;
+import org.jooq.tools.reflect.Reflect;
+import org.jooq.tools.reflect.ReflectException;
+import org.jooq.util.postgres.PostgresUtils;
+
+/**
+ * A dialect specific, native bulk ingestion path for the {@link LoaderImpl},
+ * which replaces the multi-row <code>INSERT</code> statement of
+ * {@link LoaderOptionsStep#bulkAll()} where the JDBC driver offers a faster
+ * API.
+ * <p>
+ * Drivers aren't a compile time dependency of jOOQ, so their APIs are
+ * accessed reflectively, after unwrapping the JDBC {@link Connection} using
+ * the configured {@link org.jooq.Unwrapper}. If the driver isn't available,
+ * or if any of the columns has a data type whose values can't be ingested as
+ * text, {@link #of(DSLContext, Connection, Table, Field[])} returns
+ * <code>null</code> and the loader falls back to <code>INSERT</code>
+ * statements.
+ * <p>
+ * Native ingestion bypasses {@link org.jooq.ExecuteListener} lifecycle events.
+ */
+interface LoaderBulkIngest {
+
+    /**
+     * Ingest all rows into the table.
+     *
+     * @param rows The rows, whose values correspond to the target columns
+     *            passed to {@link #of(DSLContext, Connection, Table, Field[])},
+     *            and are
+     *            already converted to their data types.
+     * @return The number of ingested rows.
+     */
+    long ingest(Iterator<Object[]> rows) throws SQLException;
+
+    /**
+     * Get a native bulk ingestion path for a table and its target columns, none
+     * of which are <code>null</code>, or <code>null</code> if none is
+     * available.
+     * <p>
+     * The ingestion path is bound to the argument connection, which the caller
+     * must hold until after the ingested rows are committed.
+     */
+    static LoaderBulkIngest of(DSLContext ctx, Connection connection, Table<?> table, Field<?>[] fields) {
+        if (PostgresCopy.SUPPORTED.contains(ctx.dialect()))
+            return PostgresCopy.of(ctx, connection, table, fields);
+        else if (DuckDBAppender.SUPPORTED.contains(ctx.dialect()))
+            return DuckDBAppender.of(ctx, connection, table, fields);
+        else
+            return null;
+    }
+
+    /**
+     * Unwrap the connection to a driver specific interface, or return
+     * <code>null</code> if that's not possible.
+     */
+    private static Object unwrap(DSLContext ctx, Connection connection, String iface) {
+        try {
+            Class<?> type = Class.forName(iface, false, connection.getClass().getClassLoader());
+            Object result = ctx.configuration().unwrapperProvider().provide().unwrap(connection, type);
+            return type.isInstance(result) ? result : null;
+        }
+        catch (ClassNotFoundException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the values of all fields can be ingested in their text
+     * representation, i.e. whether they use a built-in {@link org.jooq.Binding} without
+     * a user defined {@link org.jooq.Converter}, and a data type that isn't
+     * ingested using <code>INSERT</code> statements instead.
+     */
+    private static boolean textual(Field<?>[] fields, boolean arrays) {
+        for (Field<?> field : fields)
+            if (!hasDefaultConverter(field)
+                || !(field.getBinding() instanceof InternalBinding)
+                || !textual(field.getDataType(), arrays))
+                return false;
+
+        return true;
+    }
+
+    private static boolean textual(DataType<?> type, boolean arrays) {
+        if (type.isArray())
+            return arrays && textual(type.getArrayComponentDataType(), arrays);
+        else
+            return !type.isUDT()
+                && !type.isRecord()
+                && !type.isMultiset()
+                && !type.isEmbeddable()
+                && !type.isInterval()
+                && !type.isSpatial()
+                && !type.isOther();
+    }
+
+    /**
+     * Rethrow the driver's {@link SQLException} thrown from a reflective call,
+     * if any.
+     */
+    private static SQLException unwrap(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause())
+            if (t instanceof SQLException s)
+                return s;
+
+        if (e instanceof RuntimeException r)
+            throw r;
+        else
+            throw new DataAccessException("Error while ingesting data", e);
+    }
+
+    /**
+     * PostgreSQL's <code>COPY .. FROM STDIN</code> using the pgjdbc
+     * <code>CopyManager</code>, streaming rows in CSV format.
+     */
+    static final class PostgresCopy implements LoaderBulkIngest {
+
+        static final Set<SQLDialect> SUPPORTED = SQLDialect.supportedBy(POSTGRES, YUGABYTEDB);
+
+        private final Object         copyManager;
+        private final String         sql;
+
+        private PostgresCopy(Object copyManager, String sql) {
+            this.copyManager = copyManager;
+            this.sql = sql;
+        }
+
+        static final PostgresCopy of(DSLContext ctx, Connection connection, Table<?> table, Field<?>[] fields) {
+            if (!textual(fields, true))
+                return null;
+
+            Object pgConnection = unwrap(ctx, connection, "org.postgresql.PGConnection");
+
+            if (pgConnection == null)
+                return null;
+
+            try {
+                return new PostgresCopy(
+                    Reflect.on(pgConnection).call("getCopyAPI").get(),
+                    "copy " + ctx.render(table)
+                        + " (" + String.join(", ", map(fields, f -> ctx.render(f.getUnqualifiedName()))) + ")"
+                        + " from stdin (format csv)"
+                );
+            }
+            catch (ReflectException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public final long ingest(Iterator<Object[]> rows) throws SQLException {
+            try {
+                return Reflect.on(copyManager).call("copyIn", sql, new CSVRowReader(rows)).<Long>get();
+            }
+            catch (ReflectException e) {
+                throw unwrap(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    /**
+     * A {@link Reader} producing one CSV line per row, as it is being read.
+     */
+    static final class CSVRowReader extends Reader {
+
+        private final Iterator<Object[]> rows;
+        private final StringBuilder      line = new StringBuilder();
+        private int                      position;
+
+        CSVRowReader(Iterator<Object[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (position == line.length()) {
+                if (!rows.hasNext())
+                    return -1;
+
+                line.setLength(0);
+                position = 0;
+                Object[] row = rows.next();
+
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0)
+                        line.append(',');
+
+                    // NULL is an unquoted empty value, everything else is quoted
+                    if (row[i] != null) {
+                        line.append('"');
+                        String s = text(row[i]);
+
+                        for (int j = 0; j < s.length(); j++) {
+                            char c = s.charAt(j);
+
+                            if (c == '"')
+                                line.append('"');
+
+                            line.append(c);
+                        }
+
+                        line.append('"');
+                    }
+                }
+
+                line.append('\n');
+            }
+
+            int n = Math.min(len, line.length() - position);
+            line.getChars(position, position + n, cbuf, off);
+            position += n;
+            return n;
+        }
+
+        /**
+         * The PostgreSQL input representation of a value.
+         */
+        private static final String text(Object value) {
+            if (value instanceof byte[] b)
+                return "\\x" + Tools.convertBytesToHex(b);
+            else if (value instanceof BigDecimal d)
+                return d.toPlainString();
+            else
+                return PostgresUtils.toPGString(value);
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /**
+     * DuckDB's <code>DuckDBAppender</code>, which appends rows of all columns
+     * of a table, in table order.
+     */
+    static final class DuckDBAppender implements LoaderBulkIngest {
+
+        static final Set<SQLDialect> SUPPORTED = SQLDialect.supportedBy(DUCKDB);
+
+        private final Object         connection;
+        private final String         schema;
+        private final String         table;
+
+        private DuckDBAppender(Object connection, String schema, String table) {
+            this.connection = connection;
+            this.schema = schema;
+            this.table = table;
+        }
+
+        static final DuckDBAppender of(DSLContext ctx, Connection connection, Table<?> table, Field<?>[] fields) {
+            Field<?>[] all = table.fields();
+
+            // The appender doesn't support column lists
+            if (all.length == 0 || all.length != fields.length)
+                return null;
+
+            for (int i = 0; i < all.length; i++)
+                if (!all[i].getName().equals(fields[i].getName()))
+                    return null;
+
+            // DuckDB doesn't cast PostgreSQL style array literals to LISTs
+            if (!textual(fields, false))
+                return null;
+
+            Object duckdbConnection = unwrap(ctx, connection, "org.duckdb.DuckDBConnection");
+
+            if (duckdbConnection == null)
+                return null;
+            else
+                return new DuckDBAppender(duckdbConnection, table.getSchema() == null ? "main" : table.getSchema().getName(), table.getName());
+        }
+
+        @Override
+        public final long ingest(Iterator<Object[]> rows) throws SQLException {
+            try {
+                Object appender = Reflect.on(connection).call("createAppender", schema, table).get();
+                Class<?> type = appender.getClass();
+                Method beginRow = type.getMethod("beginRow");
+                Method endRow = type.getMethod("endRow");
+                Method append = type.getMethod("append", String.class);
+                long count = 0;
+
+                try {
+
+                    // Values are appended as strings, and cast to the column types by DuckDB
+                    while (rows.hasNext()) {
+                        beginRow.invoke(appender);
+
+                        for (Object value : rows.next())
+                            append.invoke(appender, text(value));
+
+                        endRow.invoke(appender);
+                        count++;
+                    }
+                }
+                finally {
+                    type.getMethod("close").invoke(appender);
+                }
+
+                return count;
+            }
+            catch (ReflectException | ReflectiveOperationException e) {
+                throw unwrap(e instanceof InvocationTargetException i ? i.getCause() : e);
+            }
+        }
+
+        /**
+         * The DuckDB input representation of a value.
+         */
+        private static final String text(Object value) {
+            if (value == null)
+                return null;
+
+            // BLOB literals escape each byte as \xAB
+            else if (value instanceof byte[] b) {
+                String hex = Tools.convertBytesToHex(b);
+                StringBuilder sb = new StringBuilder(hex.length() * 2);
+
+                for (int i = 0; i < hex.length(); i += 2)
+                    sb.append("\\x").append(hex, i, i + 2);
+
+                return sb.toString();
+            }
+            else if (value instanceof BigDecimal d)
+                return d.toPlainString();
+            else if (value instanceof EnumType e)
+                return e.getLiteral();
+            else
+                return value.toString();
+        }
+
+        @Override
+        public String toString() {
+            return "appender " + schema + "." + table;
+        }
+    }
+}
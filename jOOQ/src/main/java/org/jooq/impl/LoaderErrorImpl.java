@@ -60,6 +60,16 @@ final class LoaderErrorImpl implements LoaderError {
         this.query = query;
     }
 
+    /**
+     * Copy an error with a different row index.
+     */
+    LoaderErrorImpl(LoaderError error, int rowIndex) {
+        this.exception = error.exception();
+        this.row = error.row();
+        this.rowIndex = rowIndex;
+        this.query = error.query();
+    }
+
     private static String[] strings(Object[] row) {
         if (row == null)
             return null;
@@ -44,6 +44,8 @@ import static org.jooq.SQLDialect.MARIADB;
 import static org.jooq.SQLDialect.MYSQL;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.combine;
+import static org.jooq.impl.Tools.map;
+import static org.jooq.impl.Tools.translate;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
 import java.io.File;
@@ -60,11 +62,22 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jooq.BatchBindStep;
@@ -86,9 +99,9 @@ import org.jooq.LoaderJSONStep;
 import org.jooq.LoaderOptionsStep;
 import org.jooq.LoaderRowListener;
 import org.jooq.LoaderRowsStep;
+import org.jooq.LoaderXMLOptionsStep;
 import org.jooq.LoaderXMLStep;
 import org.jooq.Record;
-import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Source;
 import org.jooq.Table;
@@ -96,8 +109,8 @@ import org.jooq.exception.DataAccessException;
 import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
+import org.jooq.tools.csv.BufferedCSVReader;
 import org.jooq.tools.csv.CSVParser;
-import org.jooq.tools.csv.CSVReader;
 import org.jooq.tools.jdbc.DefaultPreparedStatement;
 
 import org.xml.sax.InputSource;
@@ -112,6 +125,7 @@ final class LoaderImpl<R extends Record> implements
     LoaderOptionsStep<R>,
     LoaderRowsStep<R>,
     LoaderXMLStep<R>,
+    LoaderXMLOptionsStep<R>,
     LoaderCSVStep<R>,
     LoaderCSVOptionsStep<R>,
     LoaderJSONStep<R>,
@@ -159,6 +173,7 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private int                          parallel                         = 1;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -194,6 +209,30 @@ final class LoaderImpl<R extends Record> implements
         this.errors = new ArrayList<>();
     }
 
+    /**
+     * Create a worker for {@link #parallel(int)}, copying the loader options.
+     */
+    private LoaderImpl(Configuration configuration, LoaderImpl<R> copy) {
+        this(configuration, copy.table);
+
+        this.onDuplicate = copy.onDuplicate;
+        this.onError = copy.onError;
+        this.commit = copy.commit;
+        this.commitAfter = copy.commitAfter;
+        this.batch = copy.batch;
+        this.batchAfter = copy.batchAfter;
+        this.bulk = copy.bulk;
+        this.bulkAfter = copy.bulkAfter;
+        this.nullString = copy.nullString;
+        this.source = copy.source;
+        this.fields = copy.fields;
+        this.fieldMapper = copy.fieldMapper;
+        this.fieldsCorresponding = copy.fieldsCorresponding;
+        this.primaryKey = copy.primaryKey;
+        this.onRowStart = copy.onRowStart;
+        this.onRowEnd = copy.onRowEnd;
+    }
+
     // -------------------------------------------------------------------------
     // Configuration setup
     // -------------------------------------------------------------------------
@@ -298,6 +337,15 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> parallel(int workers) {
+        if (workers < 1)
+            throw new IllegalArgumentException("The number of workers must be positive: " + workers);
+
+        parallel = workers;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -457,15 +505,21 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final LoaderImpl<R> loadXML(InputSource s) {
-        content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        if (s.getCharacterStream() != null)
+            return loadXML(Source.of(s.getCharacterStream()));
+        else if (s.getByteStream() != null && s.getEncoding() != null)
+            return loadXML(Source.of(s.getByteStream(), s.getEncoding()));
+        else if (s.getByteStream() != null)
+            return loadXML(Source.of(s.getByteStream()));
+        else
+            throw new UnsupportedOperationException("Only InputSources with a character or byte stream are supported");
     }
 
     @Override
     public final LoaderImpl<R> loadXML(Source s) {
         content = CONTENT_XML;
         input = s;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        return this;
     }
 
     @Override
@@ -665,7 +719,7 @@ final class LoaderImpl<R extends Record> implements
         if (content == CONTENT_CSV)
             executeCSV();
         else if (content == CONTENT_XML)
-            throw new UnsupportedOperationException();
+            executeXML();
         else if (content == CONTENT_JSON)
             executeJSON();
         else if (content == CONTENT_ARRAYS)
@@ -679,20 +733,40 @@ final class LoaderImpl<R extends Record> implements
     private final void checkFlags() {
         if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
+
+        // Parallel workers must not share a single JDBC connection
+        if (parallel > 1 && configuration.connectionProvider() instanceof DefaultConnectionProvider)
+            throw new LoaderConfigurationException("Cannot load in parallel from a single JDBC connection. Use a ConnectionProvider that provides distinct connections, e.g. a DataSourceConnectionProvider.");
     }
 
     private final void executeJSON() {
-        Reader reader = null;
+        JSONLoaderReader reader = null;
 
         try {
-            reader = input.reader();
-            Result<Record> r = new JSONReader<>(configuration.dsl(), null, null, false).read(reader);
-            source = r.fields();
-
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-            executeSQL(allRecords.iterator());
+            reader = new JSONLoaderReader(input.reader());
+
+            // Records are parsed one at a time. The header is available once
+            // the first record has been read.
+            reader.hasNext();
+            source = reader.fields();
+            executeSQL(reader);
+        }
+        finally {
+            safeClose(reader);
+        }
+    }
+
+    private final void executeXML() {
+        XMLLoaderReader reader = null;
+
+        try {
+            reader = new XMLLoaderReader(input.reader());
+
+            // Records are parsed one at a time. The header is available once
+            // the first record has been read.
+            reader.hasNext();
+            source = reader.fields();
+            executeSQL(reader);
         }
         finally {
             safeClose(reader);
@@ -700,17 +774,20 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeCSV() {
-        CSVReader reader = null;
+        BufferedCSVReader reader = null;
 
         try {
             if (ignoreRows == 1) {
-                reader = new CSVReader(input.reader(), separator, quote, 0);
+                reader = new BufferedCSVReader(input.reader(), separator, quote, 0);
                 source = Tools.fieldsByName(reader.next()).toArray(EMPTY_FIELD);
             }
             else {
-                reader = new CSVReader(input.reader(), separator, quote, ignoreRows);
+                reader = new BufferedCSVReader(input.reader(), separator, quote, ignoreRows);
             }
 
+            // Rows are copied by executeSQL(), except when they're handed over to parallel workers
+            reader.reuseRows(parallel == 1);
+
             executeSQL(reader);
         }
         finally {
@@ -760,6 +837,11 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
+        if (parallel > 1) {
+            executeParallel(iterator);
+            return;
+        }
+
         configuration.dsl().connection(connection -> {
             Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
 
@@ -778,7 +860,65 @@ final class LoaderImpl<R extends Record> implements
         });
     }
 
+    /**
+     * Prepare an input row for loading, applying the configured conversions
+     * and the {@link #onRowStart} listener.
+     */
+    private final Object[] row(Object[] row) {
+        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+        if (row.getClass() != Object[].class)
+            row = Arrays.copyOf(row, row.length, Object[].class);
+
+        // [#5145][#8755] Lazy initialisation of fields from the first row
+        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+        if (fields == null)
+            fields0(row);
+
+        // [#1627] [#5858] Handle NULL values and base64 encodings
+        // [#2741]         TODO: This logic will be externalised in new SPI
+        // [#8829]         JSON binary data has already been decoded at this point
+        for (int i = 0; i < row.length; i++)
+            if (StringUtils.equals(nullString, row[i]))
+                row[i] = null;
+            else if (i < fields.length && fields[i] != null)
+                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                    row[i] = Base64.getDecoder().decode((String) row[i]);
+
+        // [#10583] Pad row to the fields length
+        if (row.length < fields.length)
+            row = Arrays.copyOf(row, fields.length);
+
+        rowCtx.row(row);
+        if (onRowStart != null) {
+            onRowStart.row(rowCtx);
+            row = rowCtx.row();
+        }
+
+        return row;
+    }
+
     private final void executeSQL(Iterator<? extends Object[]> iterator, DSLContext ctx) {
+
+        // Fields are needed to find out whether native bulk ingestion can be used
+        // Native bulk ingestion has no means of handling duplicate keys
+        if (bulk == BULK_ALL && onDuplicate == ON_DUPLICATE_KEY_ERROR && iterator.hasNext()) {
+            Object[] first = iterator.next();
+
+            if (fields == null && first != null)
+                fields0(first);
+
+            iterator = prepend(first, iterator);
+
+            if (fields != null) {
+                Iterator<? extends Object[]> rows = iterator;
+
+                // The driver API is bound to the connection, which must be held
+                // until the ingested rows are committed
+                if (ctx.connectionResult(c -> executeBulkIngest(rows, ctx, c)))
+                    return;
+            }
+        }
+
         Object[] row = null;
         BatchBindStep bind = null;
         InsertQuery<R> insert = null;
@@ -788,34 +928,7 @@ final class LoaderImpl<R extends Record> implements
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
                 try {
 
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = Base64.getDecoder().decode((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+                    row = row(row);
 
                     // TODO: In batch mode, we can probably optimise this by not creating
                     // new statements every time, just to convert bind values to their
@@ -966,6 +1079,303 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    private static final Iterator<Object[]> prepend(Object[] first, Iterator<? extends Object[]> iterator) {
+        return new Iterator<Object[]>() {
+            boolean next = true;
+
+            @Override
+            public boolean hasNext() {
+                return next || iterator.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                if (next) {
+                    next = false;
+                    return first;
+                }
+                else
+                    return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Load all rows in a single native bulk ingestion, instead of a multi-row
+     * <code>INSERT</code> statement, if that's possible.
+     *
+     * @return Whether native bulk ingestion was used.
+     */
+    private final boolean executeBulkIngest(Iterator<? extends Object[]> iterator, DSLContext ctx, Connection connection) throws SQLException {
+        int[] columns = IntStream.range(0, fields.length).filter(i -> fields[i] != null).toArray();
+        LoaderBulkIngest ingest = LoaderBulkIngest.of(ctx, connection, table, map(columns, i -> fields[i], Field[]::new));
+
+        if (ingest == null)
+            return false;
+
+        Iterator<Object[]> rows = new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                Object[] row = row(iterator.next());
+
+                try {
+                    processed++;
+                    uncommitted++;
+
+                    Object[] result = new Object[columns.length];
+                    for (int i = 0; i < columns.length; i++)
+                        result[i] = fields[columns[i]].getDataType().convert(row[columns[i]]);
+
+                    return result;
+                }
+                finally {
+                    if (onRowEnd != null)
+                        onRowEnd.row(rowCtx);
+                }
+            }
+        };
+
+        try {
+            long count = ingest.ingest(rows);
+
+            stored += (int) count;
+            ignored += processed - (int) count;
+            executed++;
+
+            if (commit != COMMIT_NONE) {
+                connection.commit();
+                uncommitted = 0;
+            }
+        }
+        catch (SQLException e) {
+            bulkIngestError(translate(ingest.toString(), e), connection);
+        }
+        catch (DataAccessException e) {
+            bulkIngestError(e, connection);
+        }
+
+        return true;
+    }
+
+    private final void bulkIngestError(DataAccessException e, Connection connection) throws SQLException {
+        errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+        ignored += processed;
+
+        if (commit == COMMIT_ALL)
+            connection.rollback();
+    }
+
+    // -------------------------------------------------------------------------
+    // Parallel execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * The approximate number of rows that are handed to a worker at once.
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * A chunk of consecutive input rows, starting at a given input row index.
+     */
+    private static final record Chunk(int start, List<Object[]> rows) {}
+
+    private static final Chunk END = new Chunk(-1, Collections.emptyList());
+
+    /**
+     * Read the input on the calling thread into a bounded queue, and load the
+     * rows on {@link #parallel} workers, each with its own connection and
+     * {@link LoaderImpl} instance, aggregating their outcome.
+     */
+    private final void executeParallel(Iterator<? extends Object[]> iterator) {
+        int unit = bulkAfter * batchAfter;
+        int size = unit * Math.max(1, CHUNK_SIZE / unit);
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(parallel * 2);
+        AtomicBoolean aborted = new AtomicBoolean();
+        Executor executor = configuration.executorProvider().provide();
+        List<Worker> workers = new ArrayList<>(parallel);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(parallel);
+
+        for (int i = 0; i < parallel; i++) {
+            Worker worker = new Worker(i, queue, aborted);
+            workers.add(worker);
+            futures.add(CompletableFuture.runAsync(worker, executor));
+        }
+
+        RuntimeException exception = null;
+
+        try {
+            int index = 0;
+            List<Object[]> rows = new ArrayList<>(size);
+
+            while (!aborted.get() && iterator.hasNext()) {
+                rows.add(iterator.next());
+
+                if (rows.size() == size) {
+                    offer(queue, new Chunk(index, rows), aborted);
+                    index += size;
+                    rows = new ArrayList<>(size);
+                }
+            }
+
+            if (!rows.isEmpty())
+                offer(queue, new Chunk(index, rows), aborted);
+        }
+        catch (RuntimeException e) {
+            exception = e;
+            aborted.set(true);
+        }
+        finally {
+            for (int i = 0; i < parallel; i++)
+                offer(queue, END, aborted);
+        }
+
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            }
+            catch (CompletionException e) {
+                if (exception == null)
+                    exception = e.getCause() instanceof RuntimeException r ? r : e;
+            }
+        }
+
+        for (Worker worker : workers) {
+            LoaderImpl<R> w = worker.loader;
+
+            if (w != null) {
+                processed += w.processed;
+                executed += w.executed;
+                ignored += w.ignored;
+                stored += w.stored;
+
+                for (LoaderError error : w.errors)
+                    errors.add(new LoaderErrorImpl(error, worker.rowIndex(error.rowIndex())));
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(LoaderError::rowIndex));
+
+        if (exception != null)
+            throw exception;
+    }
+
+    /**
+     * Offer a chunk to the workers, unless they've been aborted in the
+     * meantime.
+     */
+    private static final void offer(BlockingQueue<Chunk> queue, Chunk chunk, AtomicBoolean aborted) {
+        try {
+            while (!aborted.get() && !queue.offer(chunk, 100, TimeUnit.MILLISECONDS));
+        }
+        catch (InterruptedException e) {
+            aborted.set(true);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A worker loading rows from the queue on its own connection.
+     */
+    private final class Worker implements Runnable, Iterator<Object[]> {
+
+        final int                  id;
+        final BlockingQueue<Chunk> queue;
+        final AtomicBoolean        aborted;
+
+        /**
+         * The local start index and input start index of each chunk, in order
+         * to translate {@link LoaderError#rowIndex()}.
+         */
+        final List<int[]>          starts = new ArrayList<>();
+        volatile LoaderImpl<R>     loader;
+        Chunk                      chunk;
+        int                        row;
+        int                        local;
+        boolean                    done;
+
+        Worker(int id, BlockingQueue<Chunk> queue, AtomicBoolean aborted) {
+            this.id = id;
+            this.queue = queue;
+            this.aborted = aborted;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+
+            try {
+                configuration.dsl().connection(c -> {
+                    LoaderImpl<R> l = loader = new LoaderImpl<>(configuration.derive(new DefaultConnectionProvider(c)), LoaderImpl.this);
+                    l.executeSQL(this);
+
+                    if (onError == ON_ERROR_ABORT && !l.errors.isEmpty())
+                        aborted.set(true);
+                });
+            }
+            catch (RuntimeException e) {
+                aborted.set(true);
+                throw e;
+            }
+            finally {
+                if (log.isDebugEnabled()) {
+                    long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000L);
+                    log.debug("Loader worker " + id + " into " + table + " processed " + local + " rows in " + millis + "ms (" + (local * 1000L / millis) + " rows/s)");
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (chunk == null || row >= chunk.rows().size()) {
+                if (done || aborted.get())
+                    return false;
+
+                try {
+                    Chunk c = queue.poll(100, TimeUnit.MILLISECONDS);
+
+                    if (c == END)
+                        done = true;
+                    else if (c != null) {
+                        chunk = c;
+                        row = 0;
+                        starts.add(new int[] { local, c.start() });
+                    }
+                }
+                catch (InterruptedException e) {
+                    aborted.set(true);
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            local++;
+            return chunk.rows().get(row++);
+        }
+
+        /**
+         * Translate a worker local row index to an input row index.
+         */
+        final int rowIndex(int index) {
+            for (int i = starts.size() - 1; i >= 0; i--)
+                if (starts.get(i)[0] <= index)
+                    return starts.get(i)[1] + index - starts.get(i)[0];
+
+            return index;
+        }
+    }
+
     private final void commit() {
         configuration.dsl().connection(Connection::commit);
         uncommitted = 0;
@@ -54,17 +54,26 @@ import org.jooq.tools.jdbc.DefaultConnection;
  * when it is obtained from a data source by closing it when the
  * {@link Statement}, {@link PreparedStatement}, or {@link CallableStatement} is
  * closed.
+ * <p>
+ * If a {@link StatementCache} is provided, {@link PreparedStatement} instances
+ * without generated key flags are taken from, and returned to that cache.
  *
  * @author Lukas Eder
  */
 final class ProviderEnabledConnection extends DefaultConnection {
 
     private final ConnectionProvider connectionProvider;
+    private final StatementCache     statementCache;
 
     ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection) {
+        this(connectionProvider, connection, null);
+    }
+
+    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection, StatementCache statementCache) {
         super(connection);
 
         this.connectionProvider = connectionProvider;
+        this.statementCache = statementCache;
     }
 
     // ------------------------------------------------------------------------
@@ -106,6 +115,9 @@ final class ProviderEnabledConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
+        if (statementCache != null)
+            return statementCache.prepareStatement(this, sql, 0, 0, 0);
+
         return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql));
     }
 
@@ -117,12 +129,18 @@ final class ProviderEnabledConnection extends DefaultConnection {
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
         throws SQLException {
+        if (statementCache != null)
+            return statementCache.prepareStatement(this, sql, resultSetType, resultSetConcurrency, 0);
+
         return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
         int resultSetHoldability) throws SQLException {
+        if (statementCache != null)
+            return statementCache.prepareStatement(this, sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+
         return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
     }
 
@@ -41,7 +41,10 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.jooq.ConnectionProvider;
+import org.jooq.impl.StatementCache.Key;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.DefaultPreparedStatement;
+import org.jooq.tools.jdbc.JDBCUtils;
 
 /**
  * A {@link ConnectionProvider}-enabled statement.
@@ -50,22 +53,149 @@ import org.jooq.tools.jdbc.DefaultPreparedStatement;
  */
 final class ProviderEnabledPreparedStatement extends DefaultPreparedStatement {
 
+    private static final JooqLogger         log = JooqLogger.getLogger(ProviderEnabledPreparedStatement.class);
+
     private final ProviderEnabledConnection connection;
+    private final StatementCache            cache;
+    private final Key                       key;
+    private boolean                         closed;
+    private boolean                         batched;
+    private int[]                           defaults;
 
     ProviderEnabledPreparedStatement(ProviderEnabledConnection connection, PreparedStatement statement) {
+        this(connection, statement, null, null);
+    }
+
+    ProviderEnabledPreparedStatement(ProviderEnabledConnection connection, PreparedStatement statement, StatementCache cache, Key key) {
         super(statement);
 
         this.connection = connection;
+        this.cache = cache;
+        this.key = key;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Tracking modifications of cached Statements
+    // ------------------------------------------------------------------------
+
+    /**
+     * Remember the original values of the statement's properties before the
+     * first modification, in order to restore them when the statement is
+     * returned to the {@link StatementCache}.
+     */
+    private final void modify() throws SQLException {
+        if (cache != null && defaults == null) {
+            PreparedStatement s = getDelegate();
+
+            defaults = new int[] {
+                s.getQueryTimeout(),
+                s.getMaxRows(),
+                s.getFetchSize(),
+                s.getFetchDirection(),
+                s.getMaxFieldSize(),
+                s.isPoolable() ? 1 : 0
+            };
+        }
+    }
+
+    private final void restore() throws SQLException {
+        PreparedStatement s = getDelegate();
+
+        if (batched)
+            s.clearBatch();
+
+        if (defaults != null) {
+            s.setQueryTimeout(defaults[0]);
+            s.setMaxRows(defaults[1]);
+            s.setFetchSize(defaults[2]);
+            s.setFetchDirection(defaults[3]);
+            s.setMaxFieldSize(defaults[4]);
+            s.setPoolable(defaults[5] == 1);
+        }
+    }
+
+    @Override
+    public final void setQueryTimeout(int seconds) throws SQLException {
+        modify();
+        super.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public final void setMaxRows(int max) throws SQLException {
+        modify();
+        super.setMaxRows(max);
+    }
+
+    @Override
+    public final void setLargeMaxRows(long max) throws SQLException {
+        modify();
+        super.setLargeMaxRows(max);
+    }
+
+    @Override
+    public final void setFetchSize(int rows) throws SQLException {
+        modify();
+        super.setFetchSize(rows);
+    }
+
+    @Override
+    public final void setFetchDirection(int direction) throws SQLException {
+        modify();
+        super.setFetchDirection(direction);
+    }
+
+    @Override
+    public final void setMaxFieldSize(int max) throws SQLException {
+        modify();
+        super.setMaxFieldSize(max);
+    }
+
+    @Override
+    public final void setPoolable(boolean poolable) throws SQLException {
+        modify();
+        super.setPoolable(poolable);
+    }
+
+    @Override
+    public final void addBatch() throws SQLException {
+        batched = true;
+        super.addBatch();
+    }
+
+    @Override
+    public final void addBatch(String sql) throws SQLException {
+        batched = true;
+        super.addBatch(sql);
     }
 
     // ------------------------------------------------------------------------
     // XXX Closing the Statement
     // ------------------------------------------------------------------------
 
+    @Override
+    public final boolean isClosed() throws SQLException {
+        return closed || super.isClosed();
+    }
+
     @Override
     public final void close() throws SQLException {
         try {
-            getDelegate().close();
+            if (cache == null)
+                getDelegate().close();
+
+            // Cached statements are returned to the cache only once
+            else if (!closed) {
+                closed = true;
+
+                try {
+                    restore();
+                    cache.checkIn(key, getDelegate());
+                }
+                catch (SQLException e) {
+                    log.debug("Cannot restore statement", e);
+                    JDBCUtils.safeClose(getDelegate());
+                }
+            }
         }
         finally {
             connection.close();
@@ -0,0 +1,346 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Collections.unmodifiableList;
+import static org.jooq.ExecuteType.DDL;
+import static org.jooq.SQLDialect.H2;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_FORCE_STATIC_STATEMENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jooq.Clause;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.DataType;
+import org.jooq.ExecuteType;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.QueryTemplate;
+import org.jooq.TemplateSlots;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultRenderContext.ForceInlineSignal;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+import org.jooq.impl.QOM.UEmptyQuery;
+
+/**
+ * A {@link QueryTemplate} that renders its query only once, and then binds
+ * new values to the rendered bind value positions of its slots.
+ */
+class QueryTemplateImpl implements QueryTemplate {
+
+    final Configuration                                    configuration;
+    final Function<? super TemplateSlots, ? extends Query> f;
+    final Query                                            query;
+    final ExecuteType                                      type;
+    final List<Param<?>>                                   slots;
+    final boolean[]                                        nullShaped;
+    final String                                           sql;
+    final Param<?>[]                                       bindValues;
+    final int[][]                                          bindMapping;
+    final int                                              skipUpdateCounts;
+
+    QueryTemplateImpl(Configuration configuration, Function<? super TemplateSlots, ? extends Query> f) {
+        Slots s = new Slots();
+        Query q = f.apply(s);
+
+        // DML statements with RETURNING clauses produce their results in
+        // dialect specific ways, which can't be reproduced from a rendered
+        // SQL string alone
+        if (q instanceof AbstractDMLQueryAsResultQuery
+            || q instanceof AbstractDelegatingDMLQuery<?, ?> d && !d.getDelegate().returning.isEmpty()
+            || q instanceof AbstractDMLQuery<?> d && !d.returning.isEmpty())
+            throw new DataAccessException("Query templates do not support DML statements with a RETURNING clause: " + q);
+
+        this.configuration = configuration;
+        this.f = f;
+        this.query = q;
+        this.type = DefaultExecuteContext.type(configuration, q);
+        this.slots = unmodifiableList(s.slots);
+        this.nullShaped = new boolean[slots.size()];
+
+        for (int i = 0; i < nullShaped.length; i++)
+            nullShaped[i] = nullShaped(configuration, slots.get(i).getDataType());
+
+        DefaultRenderContext render = (DefaultRenderContext) configuration.dsl().renderContext();
+        if (type == DDL)
+            render.paramType(INLINED);
+        else
+            render.data(DATA_COUNT_BIND_VALUES, true);
+
+        try {
+            this.sql = render.visit(query).render();
+        }
+        catch (ForceInlineSignal e) {
+            throw new DataAccessException("Query templates cannot be created for queries exceeding the maximum number of bind values of dialect " + configuration.dialect() + ": " + query);
+        }
+
+        this.bindValues = render.bindValues().toArray(new Param[0]);
+        this.bindMapping = new int[slots.size()][];
+        this.skipUpdateCounts = render.skipUpdateCounts();
+
+        for (int i = 0; i < bindMapping.length; i++) {
+            List<Integer> positions = new ArrayList<>();
+
+            for (int j = 0; j < bindValues.length; j++)
+                if (slots.get(i) == bindValues[j])
+                    positions.add(j);
+
+            if (positions.isEmpty())
+                throw new DataAccessException("Slot at position " + i + " is not rendered as a bind value. Query templates require bind values, see Settings.statementType and Settings.paramType: " + sql);
+
+            bindMapping[i] = positions.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Whether a slot's bind value rendering differs between <code>null</code>
+     * and non-<code>null</code> values.
+     * <p>
+     * Slots are rendered as <code>null</code> bind values, which is safe for
+     * most types, as a <code>null</code> value produces the most general SQL
+     * for its {@link DataType}: e.g. a {@link java.math.BigDecimal} is cast
+     * using the data type's precision and scale rather than the value's, and
+     * an {@link org.jooq.EnumType} or {@link Object} value is cast where a
+     * non-<code>null</code> value might not need it. The exception are H2's
+     * <code>JSON</code> and <code>JSONB</code> bind values, which need a
+     * <code>FORMAT JSON</code> clause only when they're not <code>null</code>,
+     * as <code>NULL FORMAT JSON</code> would produce a JSON <code>null</code>
+     * value, rather than an SQL <code>NULL</code> value.
+     */
+    static final boolean nullShaped(Configuration configuration, DataType<?> type) {
+        return configuration.family() == H2 && type.isJSON();
+    }
+
+    final void checkBindValues(Object... values) {
+        if (values.length != bindMapping.length)
+            throw new IllegalArgumentException("Expected " + bindMapping.length + " bind values, but got " + values.length);
+    }
+
+    /**
+     * Whether the rendered SQL can't be reused for these bind values, because
+     * a slot that was rendered as <code>null</code> receives a
+     * non-<code>null</code> value that is rendered differently.
+     */
+    final boolean rerender(Object... values) {
+        for (int i = 0; i < values.length; i++)
+            if (nullShaped[i] && values[i] != null)
+                return true;
+
+        return false;
+    }
+
+    /**
+     * Create the template's query again, with actual values in its slots.
+     */
+    final Query query(Object... values) {
+        Query result = f.apply(new Values(values));
+        result.attach(configuration);
+        return result;
+    }
+
+    final Param<?>[] bindValues(Object... values) {
+        Param<?>[] result = bindValues.clone();
+
+        for (int i = 0; i < values.length; i++) {
+            Param<?> value = val(values[i], slots.get(i).getDataType());
+
+            for (int j : bindMapping[i])
+                result[j] = value;
+        }
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: QueryTemplate API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final String getSQL() {
+        return sql;
+    }
+
+    @Override
+    public final List<Param<?>> slots() {
+        return slots;
+    }
+
+    @Override
+    public Query bind(Object... values) {
+        checkBindValues(values);
+
+        if (rerender(values))
+            return query(values);
+        else
+            return new BoundQuery(this, bindValues(values));
+    }
+
+    @Override
+    public final int execute(Object... values) {
+        return bind(values).execute();
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Bound queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * A query produced by a template, whose SQL needn't be rendered again.
+     */
+    interface Bound {
+        QueryTemplateImpl template();
+        Param<?>[] bindValues();
+
+        default Rendered rendered(DefaultExecuteContext ctx) {
+            QueryTemplateImpl t = template();
+
+            if (t.type == DDL)
+                ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
+
+            return new Rendered(t.sql, new QueryPartList<>(bindValues()), t.skipUpdateCounts);
+        }
+
+        /**
+         * The rendered SQL isn't a {@link org.jooq.QueryPart} tree anymore, but
+         * it can be represented as plain SQL for debug logging, etc.
+         */
+        default void accept0(Context<?> ctx) {
+            ctx.visit(DSL.sql(template().sql, (Object[]) bindValues()));
+        }
+    }
+
+    static final class BoundQuery extends AbstractRowCountQuery implements Bound, UEmptyQuery {
+        private final QueryTemplateImpl template;
+        private final Param<?>[]        bindValues;
+
+        BoundQuery(QueryTemplateImpl template, Param<?>[] bindValues) {
+            super(template.configuration);
+
+            this.template = template;
+            this.bindValues = bindValues;
+        }
+
+        @Override
+        public final QueryTemplateImpl template() {
+            return template;
+        }
+
+        @Override
+        public final Param<?>[] bindValues() {
+            return bindValues;
+        }
+
+        @Override
+        public final void accept(Context<?> ctx) {
+            accept0(ctx);
+        }
+
+        @Override
+        public final Clause[] clauses(Context<?> ctx) {
+            return null;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Slots
+    // -------------------------------------------------------------------------
+
+    /**
+     * The slots of a template's query, rendered as <code>null</code> bind
+     * values, see {@link QueryTemplateImpl#nullShaped(Configuration, DataType)}.
+     */
+    private static final class Slots implements TemplateSlots {
+        final List<Param<?>> slots = new ArrayList<>();
+
+        @Override
+        public final <T> Param<T> slot(Class<T> type) {
+            return slot(DefaultDataType.getDataType(null, type));
+        }
+
+        @Override
+        public final <T> Param<T> slot(DataType<T> type) {
+            Param<T> result = val(null, type);
+            slots.add(result);
+            return result;
+        }
+
+        @Override
+        public final <T> Param<T> slot(Field<T> field) {
+            return slot(field.getDataType());
+        }
+    }
+
+    /**
+     * The slots of a template's query, filled with actual values.
+     */
+    private static final class Values implements TemplateSlots {
+        final Object[] values;
+        int            index;
+
+        Values(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public final <T> Param<T> slot(Class<T> type) {
+            return slot(DefaultDataType.getDataType(null, type));
+        }
+
+        @Override
+        public final <T> Param<T> slot(DataType<T> type) {
+            return val(values[index++], type);
+        }
+
+        @Override
+        public final <T> Param<T> slot(Field<T> field) {
+            return slot(field.getDataType());
+        }
+    }
+}
@@ -69,12 +69,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Year;
+import java.util.Iterator;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -104,6 +106,7 @@ import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.impl.CursorImpl.CursorRecordInitialiser;
 import org.jooq.impl.DefaultConnectionFactory.NonClosingConnection;
 import org.jooq.impl.DefaultRenderContext.Rendered;
 import org.jooq.impl.ThreadGuard.Guard;
@@ -202,6 +205,18 @@ final class R2DBC {
             return !completed.get() && requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1)) > 0;
         }
 
+        /**
+         * Take up to <code>max</code> of the currently requested elements, for
+         * them to be requested from upstream.
+         */
+        final long takeRequested(long max) {
+            if (completed.get() || max <= 0)
+                return 0;
+
+            long r = requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : l - Math.min(l, max));
+            return Math.min(r, max);
+        }
+
         final void complete(Runnable onComplete) {
 
             // required_spec306_afterSubscriptionIsCancelledRequestMustBeNops
@@ -218,30 +233,70 @@ final class R2DBC {
     // R2DBC implementations
     // -------------------------------------------------------------------------
 
+    /**
+     * A subscriber forwarding rows (or update counts) of a driver
+     * {@link Result} to the downstream subscriber.
+     * <p>
+     * Downstream demand is propagated to the driver in requests of at most
+     * {@link Settings#getFetchR2dbcPrefetchSize()} rows, which are refilled
+     * once the number of outstanding rows drops to
+     * {@link Settings#getFetchR2dbcLowWatermark()}. Rows are never requested
+     * ahead of downstream demand, so they don't need to be buffered.
+     */
     static final class Forwarding<T> implements Subscriber<T> {
 
         final int                           forwarderIndex;
         final AbstractResultSubscriber<T>   resultSubscriber;
         final AtomicReference<Subscription> subscription;
+        final int                           prefetch;
+        final int                           lowWatermark;
+        long                                outstanding;
 
         Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber) {
+            Settings settings = resultSubscriber.downstream.configuration.settings();
+
             this.forwarderIndex = forwarderIndex;
             this.resultSubscriber = resultSubscriber;
             this.subscription = new AtomicReference<>();
+            this.prefetch = SettingsTools.getFetchR2dbcPrefetchSize(settings);
+            this.lowWatermark = SettingsTools.getFetchR2dbcLowWatermark(settings);
         }
 
         @Override
         public final void onSubscribe(Subscription s) {
             subscription.set(s);
-            resultSubscriber.downstream.request2(s);
+            refill(s);
         }
 
         @Override
         public final void onNext(T value) {
             if (!resultSubscriber.downstream.completed.get()) {
                 resultSubscriber.downstream.subscriber.onNext(value);
-                resultSubscriber.downstream.request2(subscription.get());
+                refill(subscription.get(), true);
+            }
+        }
+
+        final void refill(Subscription s) {
+            refill(s, false);
+        }
+
+        private final void refill(Subscription s, boolean received) {
+            long n;
+
+            // The monitor must not be held while calling the driver, which may
+            // synchronously emit rows, or hold its own locks while emitting.
+            synchronized (this) {
+                if (received)
+                    outstanding--;
+
+                if (outstanding > lowWatermark)
+                    return;
+
+                outstanding += n = resultSubscriber.downstream.takeRequested(prefetch - outstanding);
             }
+
+            if (n > 0)
+                s.request(n);
         }
 
         @Override
@@ -342,33 +397,56 @@ final class R2DBC {
         @SuppressWarnings({ "unchecked", "rawtypes" })
         @Override
         public final void onNext(Result r) {
-            r.map((row, meta) -> {
+            r.map(new RowMapper()).subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
+        }
+
+        /**
+         * Maps the rows of a single {@link Result} to records.
+         * <p>
+         * The fields, the record delegate, and all contexts are resolved from
+         * the first row's metadata, and reused for all subsequent rows of the
+         * same {@link Result}, similar to <code>CursorImpl.CursorIterator</code>.
+         * Drivers map rows serially, so no synchronisation is needed.
+         */
+        private final class RowMapper implements BiFunction<Row, RowMetadata, R> {
+            R2DBCResultSet                 rs;
+            CursorRecordInitialiser        initialiser;
+            RecordDelegate<AbstractRecord> delegate;
+
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            @Override
+            public final R apply(Row row, RowMetadata meta) {
                 try {
-                    // TODO: Cache this getFields() call
-                    Field<?>[] fields = query.getFields(() -> new R2DBCResultSetMetaData(query.configuration(), meta));
-
-                    // TODO: This call is duplicated from CursorImpl and related classes.
-                    // Refactor this call to make sure code is re-used, especially when
-                    // ExecuteListener lifecycle management is implemented
-                    RecordDelegate<AbstractRecord> delegate = Tools.newRecord(true, recordFactory((Class<AbstractRecord>) query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields)), query.configuration());
-
-                    // TODO: What data to pass here?
-                    DefaultBindingGetResultSetContext<?> ctx = new DefaultBindingGetResultSetContext(
-                        new SimpleExecuteContext(query.configuration(), query.configuration().data()),
-                        new R2DBCResultSet(query.configuration(), row, meta),
-                        0
-                    );
-
-                    return (R) delegate.operate(new CursorImpl.CursorRecordInitialiser(
-                        new DefaultExecuteContext(query.configuration(), query), new DefaultExecuteListener(),
-                        ctx, Tools.row0(fields), 0, new boolean[0]
-                    ));
+                    if (rs == null) {
+                        Field<?>[] fields = query.getFields(() -> new R2DBCResultSetMetaData(query.configuration(), meta));
+
+                        // TODO: This call is duplicated from CursorImpl and related classes.
+                        // Refactor this call to make sure code is re-used, especially when
+                        // ExecuteListener lifecycle management is implemented
+                        delegate = Tools.newRecord(true, recordFactory((Class<AbstractRecord>) query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields)), query.configuration());
+                        rs = new R2DBCResultSet(query.configuration(), row, meta);
+
+                        // TODO: What data to pass here?
+                        initialiser = new CursorRecordInitialiser(
+                            new DefaultExecuteContext(query.configuration(), query), new DefaultExecuteListener(),
+                            new DefaultBindingGetResultSetContext(
+                                new SimpleExecuteContext(query.configuration(), query.configuration().data()),
+                                rs,
+                                0
+                            ),
+                            Tools.row0(fields), 0, new boolean[0]
+                        );
+                    }
+                    else
+                        rs.row(row);
+
+                    return (R) delegate.operate(initialiser.reset());
                 }
                 catch (Throwable t) {
                     onError(t);
                     return null;
                 }
-            }).subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
+            }
         }
     }
 
@@ -626,12 +704,12 @@ final class R2DBC {
         }
 
         private final void request1() {
-            forAllForwardingSubscriptions(this::request2);
-        }
+            for (Forwarding<T> f : forwarders.values()) {
+                Subscription s = f.subscription.get();
 
-        final void request2(Subscription s) {
-            if (moreRequested())
-                s.request(1);
+                if (s != null)
+                    f.refill(s);
+            }
         }
 
         @Override
@@ -1177,7 +1255,7 @@ final class R2DBC {
     static final class R2DBCResultSet extends DefaultResultSet {
 
         final Configuration c;
-        final Row           r;
+        final DefaultRow    r;
         final RowMetadata   m;
         boolean             wasNull;
 
@@ -1189,6 +1267,15 @@ final class R2DBC {
             this.m = m;
         }
 
+        /**
+         * Move this result set to the next row of the same {@link Result}.
+         */
+        final R2DBCResultSet row(Row row) {
+            r.r = row;
+            wasNull = false;
+            return this;
+        }
+
         private final <T> T wasNull(T nullable) {
             wasNull = nullable == null;
             return nullable;
@@ -1311,7 +1398,19 @@ final class R2DBC {
             return new MockArray<>(c.dialect(), (Object[]) nullable(columnIndex, Object.class), Object[].class);
         }
 
-        private static final record DefaultRow(Configuration c, Row r) implements Row {
+        /**
+         * A {@link Row} proxy, which is re-pointed at each new row of a
+         * {@link Result}.
+         */
+        private static final class DefaultRow implements Row {
+
+            final Configuration c;
+            Row                 r;
+
+            DefaultRow(Configuration c, Row r) {
+                this.c = c;
+                this.r = r;
+            }
 
             // ---------------------------------------------------------------------
             // 0.9.0.M1 API
@@ -1622,6 +1721,77 @@ final class R2DBC {
         }
     }
 
+    /**
+     * A JDBC backed batch subscription, which executes the batch chunk by chunk
+     * on the {@link Configuration#executorProvider()}, and only once there is
+     * downstream demand for the update counts of the next chunk.
+     */
+    static final class BlockingBatchSubscription extends AbstractSubscription<Integer> {
+        final AbstractBatch               batch;
+        final Executor                    executor;
+        final AtomicInteger               wip;
+        Iterator<? extends AbstractBatch> chunks;
+        int[]                             counts;
+        int                               index;
+
+        BlockingBatchSubscription(AbstractBatch batch, Subscriber<? super Integer> subscriber) {
+            super(subscriber);
+
+            this.batch = batch;
+            this.executor = batch.configuration.executorProvider().provide();
+            this.wip = new AtomicInteger();
+        }
+
+        @Override
+        final void request0() {
+
+            // Requests arriving while a chunk is being executed or emitted
+            // are picked up by the draining thread
+            if (wip.getAndIncrement() == 0)
+                executor.execute(this::drain);
+        }
+
+        private final void drain() {
+            int missed = 1;
+
+            try {
+                do {
+                    drain0();
+                }
+                while ((missed = wip.addAndGet(-missed)) != 0);
+            }
+            catch (Throwable t) {
+                completed.set(true);
+                subscriber.onError(t);
+            }
+        }
+
+        private final void drain0() {
+            while (!completed.get()) {
+                if (counts == null || index == counts.length) {
+                    if (chunks == null)
+                        chunks = batch.splitIterator();
+
+                    if (!chunks.hasNext()) {
+                        subscriber.onComplete();
+                        return;
+                    }
+
+                    // Don't execute the next chunk before its update counts are requested
+                    else if (requested.get() == 0)
+                        return;
+
+                    counts = chunks.next().execute();
+                    index = 0;
+                }
+                else if (moreRequested())
+                    subscriber.onNext(counts[index++]);
+                else
+                    return;
+            }
+        }
+    }
+
     static final class BlockingTransactionSubscription<T> extends AbstractSubscription<T> {
         final DSLContext                  ctx;
         final TransactionalPublishable<T> transactional;
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.isEmpty;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jooq.Clause;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.ResultQueryTemplate;
+import org.jooq.TemplateSlots;
+import org.jooq.impl.QOM.UEmptyQuery;
+
+/**
+ * A {@link ResultQueryTemplate} that renders its query only once.
+ */
+final class ResultQueryTemplateImpl<R extends Record> extends QueryTemplateImpl implements ResultQueryTemplate<R> {
+
+    final Field<?>[]         fields;
+    final Class<? extends R> recordType;
+
+    @SuppressWarnings("unchecked")
+    ResultQueryTemplateImpl(Configuration configuration, Function<? super TemplateSlots, ? extends ResultQuery<R>> f) {
+        super(configuration, f);
+
+        ResultQuery<R> q = (ResultQuery<R>) query;
+        this.fields = q.fields();
+        this.recordType = q.getRecordType();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ResultQueryTemplate API
+    // -------------------------------------------------------------------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final ResultQuery<R> bind(Object... values) {
+        checkBindValues(values);
+
+        if (rerender(values))
+            return (ResultQuery<R>) query(values);
+        else
+            return new BoundResultQuery<>(this, bindValues(values));
+    }
+
+    @Override
+    public final Result<R> fetch(Object... values) {
+        return bind(values).fetch();
+    }
+
+    @Override
+    public final <E> List<E> fetch(RecordMapper<? super R, E> mapper, Object... values) {
+        return bind(values).fetch(mapper);
+    }
+
+    @Override
+    public final R fetchOne(Object... values) {
+        return bind(values).fetchOne();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Bound queries
+    // -------------------------------------------------------------------------
+
+    static final class BoundResultQuery<R extends Record> extends AbstractResultQuery<R> implements Bound, UEmptyQuery {
+        private final ResultQueryTemplateImpl<R> template;
+        private final Param<?>[]                 bindValues;
+
+        BoundResultQuery(ResultQueryTemplateImpl<R> template, Param<?>[] bindValues) {
+            super(template.configuration);
+
+            this.template = template;
+            this.bindValues = bindValues;
+        }
+
+        @Override
+        public final QueryTemplateImpl template() {
+            return template;
+        }
+
+        @Override
+        public final Param<?>[] bindValues() {
+            return bindValues;
+        }
+
+        @Override
+        public final void accept(Context<?> ctx) {
+            accept0(ctx);
+        }
+
+        @Override
+        public final Clause[] clauses(Context<?> ctx) {
+            return null;
+        }
+
+        @Override
+        final Class<? extends R> getRecordType0() {
+            return template.recordType;
+        }
+
+        @Override
+        public final Field<?>[] getFields(ThrowingSupplier<? extends ResultSetMetaData, SQLException> rs) throws SQLException {
+            if (!isEmpty(template.fields))
+                return template.fields;
+            else
+                return new MetaDataFieldProvider(configuration(), rs.get()).getFields();
+        }
+
+        @Override
+        public final Field<?>[] getFields() {
+            return template.fields;
+        }
+    }
+}
@@ -51,6 +51,7 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.indexOrFail;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -72,11 +73,14 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jooq.CSVFormat;
 import org.jooq.CloseableResultQuery;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
 import org.jooq.Field;
+import org.jooq.Formattable;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.QueryPartInternal;
 import org.jooq.Record;
@@ -111,6 +115,7 @@ import org.jooq.Results;
 import org.jooq.Row;
 import org.jooq.Select;
 import org.jooq.Table;
+import org.jooq.XMLFormat;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.R2DBC.BlockingRecordSubscription;
 import org.jooq.impl.R2DBC.QuerySubscription;
@@ -362,6 +367,48 @@ extends
         }
     }
 
+    @Override
+    default void formatCSV(Writer writer) {
+        format(f -> f.formatCSV(writer));
+    }
+
+    @Override
+    default void formatCSV(Writer writer, CSVFormat format) {
+        format(f -> f.formatCSV(writer, format));
+    }
+
+    @Override
+    default void formatJSON(Writer writer) {
+        format(f -> f.formatJSON(writer));
+    }
+
+    @Override
+    default void formatJSON(Writer writer, JSONFormat format) {
+        format(f -> f.formatJSON(writer, format));
+    }
+
+    @Override
+    default void formatXML(Writer writer) {
+        format(f -> f.formatXML(writer));
+    }
+
+    @Override
+    default void formatXML(Writer writer, XMLFormat format) {
+        format(f -> f.formatXML(writer, format));
+    }
+
+    private void format(Consumer<? super Formattable> format) {
+
+        // Like collect(), records are streamed from a Cursor, unless an
+        // intermediate Result is required
+        if (fetchIntermediateResult(Tools.configuration(this)))
+            format.accept(fetch());
+        else
+            try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+                format.accept(c);
+            }
+    }
+
     @Override
     default void subscribe(Subscriber<? super R> subscriber) {
         ConnectionFactory cf = configuration().connectionFactory();
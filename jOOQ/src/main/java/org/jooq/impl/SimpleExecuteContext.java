@@ -63,10 +63,22 @@ import org.jooq.Routine;
  */
 final class SimpleExecuteContext extends AbstractScope implements ExecuteContext {
 
+    private CompiledSettings compiledSettings;
+
     SimpleExecuteContext(Configuration configuration, Map<Object, Object> data) {
         super(configuration, data);
     }
 
+    /**
+     * The {@link CompiledSettings} of this context, taken when first needed.
+     */
+    final CompiledSettings compiledSettings() {
+        if (compiledSettings == null)
+            compiledSettings = new CompiledSettings(settings());
+
+        return compiledSettings;
+    }
+
     @Override
     public final ConverterContext converterContext() {
         return Tools.converterContext(configuration);
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * An LRU cache of {@link PreparedStatement} instances of a single JDBC
+ * {@link Connection}.
+ * <p>
+ * Statements are checked out of the cache while they're in use, and checked
+ * back in when they're closed, such that no two executions can share the same
+ * statement concurrently. Statements that are evicted from the cache are
+ * closed.
+ */
+final class StatementCache {
+
+    private static final JooqLogger            log = JooqLogger.getLogger(StatementCache.class);
+
+    private final Map<Key, PreparedStatement> cache;
+    private long                              hits;
+    private long                              misses;
+    private long                              evictions;
+
+    StatementCache(int size) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+                if (size() > size) {
+                    evict(eldest.getValue());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Prepare a statement on a connection, or check out an equivalent cached
+     * statement.
+     * <p>
+     * A <code>0</code> value for any of the result set flags means that the
+     * flag hasn't been specified.
+     */
+    final PreparedStatement prepareStatement(
+        ProviderEnabledConnection connection,
+        String sql,
+        int resultSetType,
+        int resultSetConcurrency,
+        int resultSetHoldability
+    ) throws SQLException {
+        Key key = new Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        PreparedStatement statement = checkOut(key);
+
+        if (statement == null) {
+            Connection c = connection.getDelegate();
+
+            if (resultSetHoldability != 0)
+                statement = c.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+            else if (resultSetType != 0)
+                statement = c.prepareStatement(sql, resultSetType, resultSetConcurrency);
+            else
+                statement = c.prepareStatement(sql);
+        }
+
+        return new ProviderEnabledPreparedStatement(connection, statement, this, key);
+    }
+
+    private final synchronized PreparedStatement checkOut(Key key) throws SQLException {
+        PreparedStatement result = cache.remove(key);
+
+        // The statement may have been closed externally, e.g. by a pool
+        if (result != null && result.isClosed())
+            result = null;
+
+        if (result != null)
+            hits++;
+        else
+            misses++;
+
+        return result;
+    }
+
+    /**
+     * Return a statement to the cache, after resetting its state.
+     * <p>
+     * The statement is closed if it can't be reset, or if an equivalent
+     * statement is already in the cache.
+     */
+    final void checkIn(Key key, PreparedStatement statement) {
+        PreparedStatement previous;
+
+        try {
+            statement.clearParameters();
+            statement.clearWarnings();
+        }
+        catch (SQLException e) {
+            log.debug("Cannot reset statement", e);
+            JDBCUtils.safeClose(statement);
+            return;
+        }
+
+        synchronized (this) {
+            previous = cache.put(key, statement);
+        }
+
+        if (previous != null && previous != statement)
+            JDBCUtils.safeClose(previous);
+    }
+
+    private final void evict(PreparedStatement statement) {
+        evictions++;
+        JDBCUtils.safeClose(statement);
+    }
+
+    /**
+     * Close all cached statements.
+     */
+    final void clear() {
+        List<PreparedStatement> statements;
+
+        synchronized (this) {
+            statements = new ArrayList<>(cache.values());
+            cache.clear();
+        }
+
+        for (PreparedStatement statement : statements)
+            JDBCUtils.safeClose(statement);
+    }
+
+    final synchronized long hits() {
+        return hits;
+    }
+
+    final synchronized long misses() {
+        return misses;
+    }
+
+    final synchronized long evictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "StatementCache [size=" + cache.size() + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+
+    static final record Key(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) {}
+}
@@ -2712,7 +2712,7 @@ final class Tools {
     static final void setFetchSize(ExecuteContext ctx, int fetchSize) throws SQLException {
         // [#1263] [#4753] Allow for negative fetch sizes to support some non-standard
         // MySQL feature, where Integer.MIN_VALUE is used
-        int f = SettingsTools.getFetchSize(fetchSize, ctx.settings());
+        int f = CompiledSettings.of(ctx).fetchSize(fetchSize);
         if (f != 0) {
             if (log.isDebugEnabled())
                 log.debug("Setting fetch size", f);
@@ -4738,7 +4738,7 @@ final class Tools {
 
         // [#3558] In some databases (e.g. MySQL), the call to PreparedStatement.getWarnings() issues
         // a separate SHOW WARNINGS query. Users may want to avoid this query, explicitly
-        if (!Boolean.FALSE.equals(ctx.settings().isFetchWarnings())) {
+        if (CompiledSettings.of(ctx).fetchWarnings()) {
             try {
                 ctx.sqlWarning(ctx.statement().getWarnings());
             }
@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import org.jooq.Configuration;
+import org.jooq.ExecutorProvider;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * An {@link ExecutorProvider} that runs each asynchronous task on its own
+ * virtual thread.
+ * <p>
+ * Unlike the {@link DefaultExecutorProvider}, which runs blocking JDBC calls on
+ * the {@link ForkJoinPool#commonPool()}, this provider doesn't compete with
+ * other users of the common pool, such as parallel streams. Use it via
+ * {@link Configuration#set(ExecutorProvider)} or
+ * {@link Configuration#derive(ExecutorProvider)}. The provider (and thus its
+ * concurrency limit) is shared by all configurations derived from the one it
+ * was set on.
+ * <p>
+ * An optional <code>maxConcurrency</code> limits the number of tasks that run
+ * at the same time. It should usually match the maximum size of the
+ * connection pool, such that excess tasks wait in a queue, rather than
+ * blocking in the pool. Queued tasks don't occupy any thread. They are taken
+ * from the queue in submission order whenever a running task completes.
+ * <p>
+ * Virtual threads are available from Java 21 onwards. On older JVMs, this
+ * provider falls back to starting a new platform thread per task.
+ */
+public class VirtualThreadExecutorProvider implements ExecutorProvider {
+
+    private static final JooqLogger    log     = JooqLogger.getLogger(VirtualThreadExecutorProvider.class, "fallback", 1);
+    private static final ThreadFactory FACTORY = virtualThreadFactory();
+
+    private final Executor             executor;
+    private final int                  maxConcurrency;
+
+    /**
+     * Create a provider without any concurrency limit.
+     */
+    public VirtualThreadExecutorProvider() {
+        this(0);
+    }
+
+    /**
+     * Create a provider that runs at most <code>maxConcurrency</code> tasks at
+     * the same time, or any number of tasks if <code>maxConcurrency &lt;= 0</code>.
+     */
+    public VirtualThreadExecutorProvider(int maxConcurrency) {
+        this.maxConcurrency = Math.max(0, maxConcurrency);
+
+        if (FACTORY == null)
+            log.info("Virtual threads are not supported by this JVM. Falling back to a new platform thread per task.");
+
+        if (this.maxConcurrency == 0) {
+            this.executor = command -> newThread(command).start();
+        }
+        else {
+            Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+            Semaphore permits = new Semaphore(this.maxConcurrency);
+
+            this.executor = command -> {
+                queue.offer(command);
+                drain(queue, permits);
+            };
+        }
+    }
+
+    /**
+     * Whether this JVM supports virtual threads.
+     */
+    public static final boolean isSupported() {
+        return FACTORY != null;
+    }
+
+    /**
+     * The concurrency limit of this provider, or <code>0</code> if there is no
+     * limit.
+     */
+    public final int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public final Executor provide() {
+        return executor;
+    }
+
+    /**
+     * Start queued tasks for as long as there are permits.
+     * <p>
+     * A permit is acquired before a task's thread is started, and released
+     * (followed by another drain) when the task completes. Checking the queue
+     * again after releasing a permit guarantees that a task offered
+     * concurrently isn't left in the queue with no one to start it.
+     */
+    private static final void drain(Queue<Runnable> queue, Semaphore permits) {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Runnable command = queue.poll();
+
+            if (command == null) {
+                permits.release();
+                continue;
+            }
+
+            try {
+                newThread(() -> {
+                    try {
+                        command.run();
+                    }
+                    finally {
+                        permits.release();
+                        drain(queue, permits);
+                    }
+                }).start();
+            }
+            catch (RuntimeException | Error e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+
+    private static final Thread newThread(Runnable command) {
+        return FACTORY != null ? FACTORY.newThread(command) : new Thread(command);
+    }
+
+    private static final ThreadFactory virtualThreadFactory() {
+
+        // Thread.ofVirtual() is a Java 21 API, while jOOQ is built for Java 17
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> type = Class.forName("java.lang.Thread$Builder");
+            Method name = type.getMethod("name", String.class, long.class);
+            Method factory = type.getMethod("factory");
+
+            return (ThreadFactory) factory.invoke(name.invoke(builder, "jooq-virtual-", 0L));
+        }
+        catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
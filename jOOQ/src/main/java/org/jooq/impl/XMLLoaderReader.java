@@ -0,0 +1,314 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.jooq.Field;
+import org.jooq.Result;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A streaming StAX reader for the XML format produced by
+ * {@link Result#formatXML()}, for use by the {@link LoaderImpl}.
+ * <p>
+ * Unlike {@link XMLHandler}, this doesn't build a {@link Result}. The
+ * <code>&lt;fields/&gt;</code> header is collected, and then each
+ * <code>&lt;record/&gt;</code> is produced as a row when it is requested. All
+ * record formats are supported: values are matched to fields by their
+ * <code>field</code> attribute or element name, if available, or by position,
+ * otherwise.
+ */
+final class XMLLoaderReader implements Iterator<Object[]>, Closeable {
+
+    private final Reader               reader;
+    private final XMLStreamReader      xml;
+    private final List<Field<?>>       header;
+    private Field<?>[]                 fields;
+    private Map<String, Integer>       indexes;
+    private boolean                    finished;
+    private List<String>               names;
+    private List<Object>               values;
+
+    XMLLoaderReader(Reader reader) {
+        this.reader = reader;
+        this.header = new ArrayList<>();
+
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+
+            // Prevent OWASP attack vectors
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+            this.xml = factory.createXMLStreamReader(reader);
+        }
+        catch (XMLStreamException e) {
+            throw new DataAccessException("Could not read the XML", e);
+        }
+    }
+
+    /**
+     * The fields of the header, or of the first record, if there is no header.
+     * <p>
+     * This is available after the first call to {@link #hasNext()}.
+     */
+    final Field<?>[] fields() {
+        return fields;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (values != null)
+            return true;
+        if (finished)
+            return false;
+
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() == START_ELEMENT) {
+                    switch (xml.getLocalName()) {
+                        case "field":
+                            Map<String, String> attributes = new LinkedHashMap<>();
+
+                            for (int i = 0; i < xml.getAttributeCount(); i++)
+                                attributes.put(xml.getAttributeLocalName(i), xml.getAttributeValue(i));
+
+                            header.add(JSONReader.headerField(attributes));
+                            break;
+
+                        case "record":
+                            record();
+
+                            if (fields == null)
+                                initFields();
+
+                            return true;
+                    }
+                }
+            }
+
+            finished = true;
+
+            if (fields == null && !header.isEmpty())
+                fields = header.toArray(Tools.EMPTY_FIELD);
+
+            return false;
+        }
+        catch (XMLStreamException e) {
+            throw new DataAccessException("Could not read the XML", e);
+        }
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = new Object[Math.max(fields.length, values.size())];
+
+        for (int i = 0; i < values.size(); i++) {
+            Integer index = names.get(i) == null ? null : indexes.get(names.get(i));
+            int j = index == null ? i : index;
+
+            result[j] = j < fields.length ? value(fields[j], values.get(i)) : values.get(i);
+        }
+
+        values = null;
+        names = null;
+        return result;
+    }
+
+    /**
+     * Read the values of a <code>&lt;record/&gt;</code>, positioned on its
+     * start element, up to its end element.
+     */
+    private final void record() throws XMLStreamException {
+        names = new ArrayList<>();
+        values = new ArrayList<>();
+
+        while (xml.nextTag() == START_ELEMENT) {
+            String field = xml.getAttributeValue(null, "field");
+            String local = xml.getLocalName();
+
+            names.add(field != null ? field : "value".equals(local) ? null : local);
+            values.add(content());
+        }
+    }
+
+    /**
+     * Read the content of a value element, positioned on its start element, up
+     * to its end element.
+     * <p>
+     * [#13181] Empty elements are <code>null</code>, unless they are strings,
+     * which cannot be distinguished from <code>''</code> without
+     * <code>xsi:nil</code>. Nested elements are kept as XML text.
+     */
+    private final Object content() throws XMLStreamException {
+        boolean nil = nil();
+        StringBuilder sb = null;
+        XMLStreamWriter w = null;
+        StringWriter nested = null;
+        int depth = 0;
+
+        for (;;) {
+            switch (xml.next()) {
+                case START_ELEMENT:
+                    if (w == null) {
+                        nested = new StringWriter();
+                        w = XMLOutputFactory.newInstance().createXMLStreamWriter(nested);
+
+                        if (sb != null)
+                            w.writeCharacters(sb.toString());
+                    }
+
+                    depth++;
+                    w.writeStartElement(xml.getLocalName());
+                    for (int i = 0; i < xml.getAttributeCount(); i++)
+                        w.writeAttribute(xml.getAttributeLocalName(i), xml.getAttributeValue(i));
+
+                    break;
+
+                case END_ELEMENT:
+                    if (depth-- == 0) {
+                        if (w != null) {
+                            w.close();
+                            return nested.toString();
+                        }
+                        else if (sb != null)
+                            return sb.toString();
+                        else
+                            return nil ? null : "";
+                    }
+
+                    w.writeEndElement();
+                    break;
+
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    if (w != null)
+                        w.writeCharacters(xml.getText());
+                    else if (sb == null)
+                        sb = new StringBuilder(xml.getText());
+                    else
+                        sb.append(xml.getText());
+
+                    break;
+            }
+        }
+    }
+
+    private final boolean nil() {
+        for (int i = 0; i < xml.getAttributeCount(); i++)
+            if ("nil".equals(xml.getAttributeLocalName(i)))
+                return "true".equals(xml.getAttributeValue(i));
+
+        return false;
+    }
+
+    /**
+     * Initialise the fields from the header, or from the first record, if
+     * there is no header.
+     */
+    private final void initFields() {
+        if (!header.isEmpty())
+            fields = header.toArray(Tools.EMPTY_FIELD);
+        else if (!names.isEmpty() && !names.contains(null))
+            fields = Tools.map(names, n -> field(name(n), VARCHAR), Field[]::new);
+        else
+            fields = Tools.fields(values.size());
+
+        indexes = new HashMap<>();
+        for (int i = 0; i < fields.length; i++)
+            indexes.putIfAbsent(fields[i].getName(), i);
+    }
+
+    private static final Object value(Field<?> field, Object value) {
+
+        // [#13181] Empty elements are NULL, unless they are strings
+        if ("".equals(value) && !field.getDataType().isString())
+            return null;
+
+        // [#12134] LoaderImpl expects binary data to be encoded in base64
+        else if (field.getType() == byte[].class && value instanceof String s)
+            return Base64.getDecoder().decode(s);
+        else
+            return field.getDataType().convert(value);
+    }
+
+    @Override
+    public final void close() throws IOException {
+        try {
+            xml.close();
+        }
+        catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+        finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,512 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.csv;
+
+import static org.jooq.tools.csv.CSVParser.DEFAULT_ESCAPE_CHARACTER;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_IGNORE_LEADING_WHITESPACE;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_STRICT_QUOTES;
+import static org.jooq.tools.csv.CSVParser.NULL_CHARACTER;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A high throughput alternative to {@link CSVReader}, with the same quoting
+ * and escaping semantics as {@link CSVParser}.
+ * <p>
+ * Rather than reading lines into {@link String} objects and splitting them
+ * with a {@link StringBuilder} per line, this reader scans a large
+ * <code>char[]</code> buffer in place, and reuses its field and token
+ * buffers across rows. Input can be read from a {@link Reader}, or from a
+ * memory mapped file, decoded directly into the buffer by a
+ * {@link CharsetDecoder}.
+ * <p>
+ * If {@link #reuseRows(boolean)} is set, the same <code>String[]</code> row
+ * is returned for consecutive rows of the same length. This is only safe for
+ * consumers that copy each row before requesting the next one.
+ */
+public class BufferedCSVReader implements Closeable, Iterator<String[]> {
+
+    private static final int    BUFFER_SIZE = 1 << 16;
+    private static final int    WINDOW_SIZE = 1 << 26;
+
+    private final char          separator;
+    private final char          quotechar;
+    private final char          escape;
+    private final boolean       strictQuotes;
+    private final boolean       ignoreLeadingWhiteSpace;
+    private int                 skipLines;
+    private boolean             reuseRows;
+
+    // Input
+    private final Reader        reader;
+    private final FileChannel   channel;
+    private final CharsetDecoder decoder;
+    private long                size;
+    private long                position;
+    private MappedByteBuffer    mapped;
+    private boolean             flushed;
+    private char[]              buf         = new char[BUFFER_SIZE];
+    private int                 pos;
+    private int                 limit;
+    private int                 lineNext;
+    private boolean             eof;
+    private boolean             skipLF;
+
+    // Parser state, see CSVParser
+    private boolean             inField;
+    private boolean             pending;
+    private char[]              field       = new char[128];
+    private int                 fieldLength;
+    private String[]            tokens      = new String[16];
+    private int                 tokenCount;
+    private String[]            row;
+    private String[]            next;
+    private boolean             done;
+
+    /**
+     * Constructs a reader with supplied separator and quote char, skipping a
+     * number of lines.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param line the line number to skip for start reading
+     */
+    public BufferedCSVReader(Reader reader, char separator, char quotechar, int line) {
+        this(reader, null, null, separator, quotechar, DEFAULT_ESCAPE_CHARACTER, line, DEFAULT_STRICT_QUOTES, DEFAULT_IGNORE_LEADING_WHITESPACE);
+    }
+
+    /**
+     * Constructs a reader with all {@link CSVParser} options.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param escape the character to use for escaping a separator or quote
+     * @param line the line number to skip for start reading
+     * @param strictQuotes sets if characters outside the quotes are ignored
+     * @param ignoreLeadingWhiteSpace it true, parser should ignore white space
+     *            before a quote in a field
+     */
+    public BufferedCSVReader(Reader reader, char separator, char quotechar, char escape, int line, boolean strictQuotes, boolean ignoreLeadingWhiteSpace) {
+        this(reader, null, null, separator, quotechar, escape, line, strictQuotes, ignoreLeadingWhiteSpace);
+    }
+
+    /**
+     * Constructs a reader on a memory mapped file, decoding its contents with
+     * a {@link CharsetDecoder}.
+     *
+     * @param path the CSV file.
+     * @param decoder the decoder of the file's character set.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param line the line number to skip for start reading
+     * @throws IOException if the file cannot be opened.
+     */
+    public BufferedCSVReader(Path path, CharsetDecoder decoder, char separator, char quotechar, int line) throws IOException {
+        this(null, FileChannel.open(path, StandardOpenOption.READ), decoder, separator, quotechar, DEFAULT_ESCAPE_CHARACTER, line, DEFAULT_STRICT_QUOTES, DEFAULT_IGNORE_LEADING_WHITESPACE);
+    }
+
+    private BufferedCSVReader(
+        Reader reader,
+        FileChannel channel,
+        CharsetDecoder decoder,
+        char separator,
+        char quotechar,
+        char escape,
+        int line,
+        boolean strictQuotes,
+        boolean ignoreLeadingWhiteSpace
+    ) {
+
+        // Validate the characters like CSVParser
+        new CSVParser(separator, quotechar, escape, strictQuotes, ignoreLeadingWhiteSpace);
+
+        this.reader = reader;
+        this.channel = channel;
+        this.decoder = decoder == null ? null : decoder.reset();
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escape = escape;
+        this.skipLines = line;
+        this.strictQuotes = strictQuotes;
+        this.ignoreLeadingWhiteSpace = ignoreLeadingWhiteSpace;
+    }
+
+    /**
+     * Whether to return the same <code>String[]</code> instance for
+     * consecutive rows of the same length.
+     */
+    public BufferedCSVReader reuseRows(boolean reuse) {
+        this.reuseRows = reuse;
+        return this;
+    }
+
+    // ------------------------------------------------------------------------
+    // Iterator implementation
+    // ------------------------------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = readNext();
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+
+            if (next == null)
+                done = true;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        String[] result = next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Reads the next record, which may span several lines if it contains
+     * quoted line breaks.
+     *
+     * @return the record's fields, or <code>null</code> at the end of the
+     *         input.
+     * @throws IOException if bad things happen during the read
+     */
+    public String[] readNext() throws IOException {
+        while (skipLines > 0) {
+            skipLines--;
+
+            if (nextLine() < 0)
+                return null;
+
+            pos = lineNext;
+        }
+
+        tokenCount = 0;
+
+        do {
+            int end = nextLine();
+
+            // A pending multi line field at the end of the input is discarded, like in CSVReader
+            if (end < 0)
+                return tokenCount > 0 ? row() : null;
+
+            parseLine(end);
+        }
+        while (pending);
+
+        return row();
+    }
+
+    private final String[] row() {
+        if (reuseRows && row != null && row.length == tokenCount) {
+            System.arraycopy(tokens, 0, row, 0, tokenCount);
+            return row;
+        }
+
+        String[] result = Arrays.copyOf(tokens, tokenCount);
+
+        if (reuseRows)
+            row = result;
+
+        return result;
+    }
+
+    // ------------------------------------------------------------------------
+    // Parsing
+    // ------------------------------------------------------------------------
+
+    /**
+     * Parse the line between {@link #pos} and <code>end</code> like
+     * {@link CSVParser#parseLineMulti(String)}, and move past it.
+     */
+    private final void parseLine(int end) {
+        final char[] line = buf;
+        final int start = pos;
+        boolean inQuotes = false;
+
+        if (pending) {
+            pending = false;
+            inQuotes = true;
+        }
+        else
+            fieldLength = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = line[i];
+
+            if (c == escape) {
+                if ((inQuotes || inField) && end > i + 1 && (line[i + 1] == quotechar || line[i + 1] == escape)) {
+                    append(line[i + 1]);
+                    i++;
+                }
+            }
+            else if (c == quotechar) {
+                if ((inQuotes || inField) && end > i + 1 && line[i + 1] == quotechar) {
+                    append(line[i + 1]);
+                    i++;
+                }
+                else {
+
+                    // The tricky case of an embedded quote in the middle: a,bc"d"ef,g
+                    if (!strictQuotes) {
+                        if (i - start > 2
+                            && line[i - 1] != separator
+                            && end > i + 1 && line[i + 1] != separator
+                        ) {
+
+                            // Discard white space leading up to quote
+                            if (ignoreLeadingWhiteSpace && fieldLength > 0 && isAllWhiteSpace())
+                                fieldLength = 0;
+                            else
+                                append(c);
+                        }
+                    }
+
+                    inQuotes = !inQuotes;
+                }
+
+                inField = !inField;
+            }
+            else if (c == separator && !inQuotes) {
+                token();
+                inField = false;
+            }
+            else {
+                if (!strictQuotes || inQuotes) {
+                    append(c);
+                    inField = true;
+                }
+            }
+        }
+
+        pos = lineNext;
+
+        // Continuing a quoted section on the next line
+        if (inQuotes) {
+            append('\n');
+            pending = true;
+        }
+        else
+            token();
+    }
+
+    private final void append(char c) {
+        if (fieldLength == field.length)
+            field = Arrays.copyOf(field, field.length * 2);
+
+        field[fieldLength++] = c;
+    }
+
+    private final void token() {
+        if (tokenCount == tokens.length)
+            tokens = Arrays.copyOf(tokens, tokens.length * 2);
+
+        tokens[tokenCount++] = new String(field, 0, fieldLength);
+        fieldLength = 0;
+    }
+
+    private final boolean isAllWhiteSpace() {
+        for (int i = 0; i < fieldLength; i++)
+            if (!Character.isWhitespace(field[i]))
+                return false;
+
+        return true;
+    }
+
+    // ------------------------------------------------------------------------
+    // Line scanning, see BufferedReader.readLine()
+    // ------------------------------------------------------------------------
+
+    /**
+     * Find the end of the next line, starting at {@link #pos}, making sure the
+     * whole line is contained in the buffer. The following line starts at
+     * {@link #lineNext}.
+     *
+     * @return the (exclusive) end of the line in the buffer, or
+     *         <code>-1</code> at the end of the input.
+     */
+    private final int nextLine() throws IOException {
+        int i = pos;
+
+        for (;;) {
+            if (i >= limit) {
+                if (eof) {
+                    if (pos == limit)
+                        return -1;
+
+                    // The last line without terminator
+                    lineNext = limit;
+                    return limit;
+                }
+
+                int offset = fill();
+                i -= offset;
+                continue;
+            }
+
+            char c = buf[i];
+
+            if (skipLF) {
+                skipLF = false;
+
+                if (c == '\n' && i == pos) {
+                    pos++;
+                    i++;
+                    continue;
+                }
+            }
+
+            if (c == '\n' || c == '\r') {
+                if (c == '\r')
+                    skipLF = true;
+
+                lineNext = i + 1;
+                return i;
+            }
+
+            i++;
+        }
+    }
+
+    /**
+     * Compact the buffer and read more input.
+     *
+     * @return the number of characters by which the buffer was shifted.
+     */
+    private final int fill() throws IOException {
+        int offset = pos;
+
+        // Move a partial line to the start of the buffer, growing it if needed
+        if (pos > 0) {
+            System.arraycopy(buf, pos, buf, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        else if (limit == buf.length)
+            buf = Arrays.copyOf(buf, buf.length * 2);
+
+        int n = read(buf, limit, buf.length - limit);
+
+        if (n < 0)
+            eof = true;
+        else
+            limit += n;
+
+        return offset;
+    }
+
+    private final int read(char[] b, int off, int len) throws IOException {
+        if (reader != null)
+            return reader.read(b, off, len);
+
+        if (mapped == null) {
+            size = channel.size();
+            map(0);
+        }
+
+        CharBuffer out = CharBuffer.wrap(b, off, len);
+
+        for (;;) {
+            boolean last = position + mapped.limit() >= size;
+            CoderResult result = decoder.decode(mapped, out, last);
+
+            if (result.isError())
+                result.throwException();
+
+            if (out.position() > off)
+                return out.position() - off;
+
+            if (last) {
+                if (!flushed) {
+                    flushed = true;
+                    decoder.flush(out);
+
+                    if (out.position() > off)
+                        return out.position() - off;
+                }
+
+                return -1;
+            }
+
+            // Continue with the next window, including any partially decoded character
+            map(position + mapped.position());
+        }
+    }
+
+    private final void map(long p) throws IOException {
+        position = p;
+        mapped = channel.map(MapMode.READ_ONLY, p, Math.min(WINDOW_SIZE, size - p));
+    }
+
+    /**
+     * Closes the underlying reader or file.
+     *
+     * @throws IOException if the close fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (reader != null)
+            reader.close();
+
+        if (channel != null)
+            channel.close();
+    }
+}
@@ -0,0 +1,768 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.json;
+
+import static org.jooq.tools.json.ParseException.ERROR_UNEXPECTED_CHAR;
+import static org.jooq.tools.json.ParseException.ERROR_UNEXPECTED_EXCEPTION;
+import static org.jooq.tools.json.ParseException.ERROR_UNEXPECTED_TOKEN;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+/**
+ * A buffer based pull tokenizer for JSON text, accepting the same input as
+ * {@link JSONParser}.
+ * <p>
+ * Tokens are scanned in place from a <code>char[]</code> buffer, rather than
+ * lexed character by character through a {@link Reader}. Strings without
+ * escape sequences are copied only once, object keys are shared between
+ * occurrences, and numbers are not parsed until they are requested through
+ * {@link #longValue()}, {@link #doubleValue()}, {@link #decimalValue()}, or
+ * {@link #value()}. Token contents are valid only until the next call to
+ * {@link #next()}.
+ * <p>
+ * Like {@link JSONParser}, this tokenizer doesn't require any
+ * <code>','</code> and <code>':'</code> separators, but it validates the
+ * nesting of objects and arrays, and the placement of object keys.
+ * <p>
+ * Besides the pull API, the tokenizer can drive a {@link ContentHandler},
+ * through {@link #parse(ContentHandler)}, or produce a tree of containers,
+ * through {@link #read(ContainerFactory)}, with the same value types as
+ * {@link JSONParser}: {@link String}, {@link Long}, {@link Double},
+ * {@link Boolean}, <code>null</code>, {@link Map}, and {@link List}.
+ * Integers that exceed the range of {@link Long} are produced as
+ * {@link BigInteger}.
+ * <p>
+ * This class is NOT thread-safe.
+ */
+@Internal
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class JSONTokenizer {
+
+    /**
+     * The tokens produced by {@link JSONTokenizer#next()}.
+     */
+    public enum Token {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        KEY,
+        STRING,
+        NUMBER,
+        TRUE,
+        FALSE,
+        NULL,
+        EOF
+    }
+
+    private static final int    BUFFER_SIZE = 8192;
+    private static final int    KEY_CACHE   = 64;
+
+    // The states of an open container
+    private static final byte   OBJECT      = 1;
+    private static final byte   OBJECT_KEY  = 2;
+    private static final byte   ARRAY       = 3;
+
+    private final Reader        reader;
+    private char[]              buf;
+    private int                 pos;
+    private int                 limit;
+    private int                 mark;
+    private int                 offset;
+    private byte[]              stack;
+    private int                 depth;
+    private boolean             finished;
+    private Token               token;
+    private String              string;
+    private int                 start;
+    private int                 end;
+    private boolean             integral;
+    private StringBuilder       sb;
+    private final String[]      keys;
+
+    // The ContentHandler state
+    private boolean             started;
+    private boolean             endObjectEntry;
+
+    /**
+     * Tokenize a string.
+     */
+    public JSONTokenizer(String json) {
+        this(null, json.toCharArray(), json.length());
+    }
+
+    /**
+     * Tokenize the contents of a {@link Reader}, which is read in chunks.
+     */
+    public JSONTokenizer(Reader reader) {
+        this(reader, new char[BUFFER_SIZE], 0);
+    }
+
+    private JSONTokenizer(Reader reader, char[] buf, int limit) {
+        this.reader = reader;
+        this.buf = buf;
+        this.limit = limit;
+        this.stack = new byte[16];
+        this.keys = new String[KEY_CACHE];
+    }
+
+    // -------------------------------------------------------------------------
+    // The pull API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Advance to the next token.
+     *
+     * @throws ParseException If the input isn't valid JSON, or if the
+     *             {@link Reader} fails.
+     */
+    public final Token next() throws ParseException {
+        for (;;) {
+            int c = skipWhitespace();
+
+            if (c == -1)
+                if (finished && depth == 0)
+                    return token = Token.EOF;
+                else
+                    throw new ParseException(position(), ERROR_UNEXPECTED_TOKEN, "END OF FILE");
+
+            byte state = depth == 0 ? 0 : stack[depth - 1];
+            if (depth == 0 && finished)
+                throw unexpectedToken(c);
+
+            switch (c) {
+                case ',':
+                    if (state != OBJECT && state != ARRAY)
+                        throw unexpectedToken(c);
+
+                    pos++;
+                    continue;
+
+                case ':':
+                    if (state != OBJECT_KEY)
+                        throw unexpectedToken(c);
+
+                    pos++;
+                    continue;
+
+                case '{':
+                case '[':
+                    if (state == OBJECT)
+                        throw unexpectedToken(c);
+
+                    pos++;
+                    value(state);
+                    push(c == '{' ? OBJECT : ARRAY);
+                    return token = c == '{' ? Token.START_OBJECT : Token.START_ARRAY;
+
+                case '}':
+                    if (state != OBJECT)
+                        throw unexpectedToken(c);
+
+                    pos++;
+                    depth--;
+                    return token = Token.END_OBJECT;
+
+                case ']':
+                    if (state != ARRAY)
+                        throw unexpectedToken(c);
+
+                    pos++;
+                    depth--;
+                    return token = Token.END_ARRAY;
+
+                case '"':
+                    string = string(state == OBJECT);
+
+                    if (state == OBJECT) {
+                        stack[depth - 1] = OBJECT_KEY;
+                        return token = Token.KEY;
+                    }
+
+                    value(state);
+                    return token = Token.STRING;
+
+                case 't':
+                    literal("true");
+                    return token = primitive(state, Token.TRUE);
+
+                case 'f':
+                    literal("false");
+                    return token = primitive(state, Token.FALSE);
+
+                case 'n':
+                    literal("null");
+                    return token = primitive(state, Token.NULL);
+
+                default:
+                    number();
+                    return token = primitive(state, Token.NUMBER);
+            }
+        }
+    }
+
+    /**
+     * The current token.
+     */
+    public final Token token() {
+        return token;
+    }
+
+    /**
+     * The position of the tokenizer in the input.
+     */
+    public final int position() {
+        return offset + pos;
+    }
+
+    /**
+     * The contents of the current {@link Token#KEY} or {@link Token#STRING}
+     * token.
+     */
+    public final String string() {
+        return string;
+    }
+
+    /**
+     * Whether the current {@link Token#NUMBER} token has neither a fraction
+     * nor an exponent.
+     */
+    public final boolean integral() {
+        return integral;
+    }
+
+    /**
+     * The current {@link Token#NUMBER} token as a <code>long</code>.
+     *
+     * @throws NumberFormatException If the number isn't integral, or if it
+     *             doesn't fit in a <code>long</code>.
+     */
+    public final long longValue() {
+        if (!integral)
+            throw new NumberFormatException("Not an integral number: " + text());
+
+        // Up to 18 digits always fit in a long
+        boolean negative = buf[start] == '-';
+        int i = negative ? start + 1 : start;
+        if (end - i > 18)
+            return Long.parseLong(text());
+
+        long result = 0;
+        for (; i < end; i++)
+            result = result * 10 + (buf[i] - '0');
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * The current {@link Token#NUMBER} token as a <code>double</code>.
+     */
+    public final double doubleValue() {
+        return Double.parseDouble(text());
+    }
+
+    /**
+     * The current {@link Token#NUMBER} token as a {@link BigDecimal}.
+     */
+    public final BigDecimal decimalValue() {
+        return new BigDecimal(buf, start, end - start);
+    }
+
+    /**
+     * The value of the current token, using the same types as
+     * {@link JSONParser}, or <code>null</code> if the current token isn't a
+     * primitive value.
+     */
+    public final Object value() {
+        switch (token) {
+            case KEY:
+            case STRING:
+                return string;
+
+            case NUMBER:
+                if (!integral)
+                    return Double.valueOf(text());
+
+                try {
+                    return longValue();
+                }
+                catch (NumberFormatException e) {
+                    return new BigInteger(text());
+                }
+
+            case TRUE:
+                return Boolean.TRUE;
+
+            case FALSE:
+                return Boolean.FALSE;
+
+            default:
+                return null;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // The ContentHandler API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Stream the remaining input to a {@link ContentHandler}, like
+     * {@link JSONParser#parse(Reader, ContentHandler, boolean)}.
+     * <p>
+     * If the handler pauses by returning <code>false</code>, this method
+     * returns, and a subsequent call resumes where it left off.
+     */
+    public final void parse(ContentHandler handler) throws ParseException, IOException {
+        if (token == Token.EOF)
+            return;
+
+        if (!started) {
+            started = true;
+            handler.startJSON();
+        }
+
+        if (endObjectEntry) {
+            endObjectEntry = false;
+
+            if (!handler.endObjectEntry())
+                return;
+        }
+
+        for (;;) {
+            boolean proceed;
+
+            switch (next()) {
+                case START_OBJECT:
+                    if (!handler.startObject())
+                        return;
+                    else
+                        continue;
+
+                case START_ARRAY:
+                    if (!handler.startArray())
+                        return;
+                    else
+                        continue;
+
+                case KEY:
+                    if (!handler.startObjectEntry(string))
+                        return;
+                    else
+                        continue;
+
+                case EOF:
+                    handler.endJSON();
+                    return;
+
+                case END_OBJECT:
+                    proceed = handler.endObject();
+                    break;
+
+                case END_ARRAY:
+                    proceed = handler.endArray();
+                    break;
+
+                default:
+                    proceed = handler.primitive(value());
+                    break;
+            }
+
+            // A value has been completed. If it is the value of an object entry, end the entry, too
+            if (depth > 0 && stack[depth - 1] == OBJECT) {
+                if (!proceed) {
+                    endObjectEntry = true;
+                    return;
+                }
+                else if (!handler.endObjectEntry())
+                    return;
+            }
+            else if (!proceed)
+                return;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // The tree API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Read the input into a tree of containers, like
+     * {@link JSONParser#parse(Reader, ContainerFactory)}.
+     *
+     * @param containerFactory The factory for objects and arrays, or
+     *            <code>null</code> to produce {@link JSONObject} and
+     *            {@link JSONArray}.
+     */
+    public final Object read(ContainerFactory containerFactory) throws ParseException {
+        Object result = null;
+        Object[] containers = new Object[16];
+        String[] names = new String[16];
+        int d = 0;
+
+        for (;;) {
+            Token t = next();
+            Object value;
+
+            switch (t) {
+                case EOF:
+                    return result;
+
+                case KEY:
+                    names[d - 1] = string;
+                    continue;
+
+                case END_OBJECT:
+                case END_ARRAY:
+                    containers[--d] = null;
+                    continue;
+
+                case START_OBJECT:
+                    value = createObjectContainer(containerFactory);
+                    break;
+
+                case START_ARRAY:
+                    value = createArrayContainer(containerFactory);
+                    break;
+
+                default:
+                    value = value();
+                    break;
+            }
+
+            if (d == 0)
+                result = value;
+            else if (containers[d - 1] instanceof Map m)
+                m.put(names[d - 1], value);
+            else
+                ((List) containers[d - 1]).add(value);
+
+            if (t == Token.START_OBJECT || t == Token.START_ARRAY) {
+                if (d == containers.length) {
+                    containers = Arrays.copyOf(containers, d * 2);
+                    names = Arrays.copyOf(names, d * 2);
+                }
+
+                containers[d++] = value;
+            }
+        }
+    }
+
+    private static final Map createObjectContainer(ContainerFactory containerFactory) {
+        Map m = containerFactory == null ? null : containerFactory.createObjectContainer();
+        return m == null ? new JSONObject() : m;
+    }
+
+    private static final List createArrayContainer(ContainerFactory containerFactory) {
+        List l = containerFactory == null ? null : containerFactory.createArrayContainer();
+        return l == null ? new JSONArray() : l;
+    }
+
+    // -------------------------------------------------------------------------
+    // The scanner
+    // -------------------------------------------------------------------------
+
+    private final void push(byte state) {
+        if (depth == stack.length)
+            stack = Arrays.copyOf(stack, depth * 2);
+
+        stack[depth++] = state;
+    }
+
+    /**
+     * A value starts in the current container.
+     */
+    private final void value(byte state) {
+        if (depth == 0)
+            finished = true;
+        else if (state == OBJECT_KEY)
+            stack[depth - 1] = OBJECT;
+    }
+
+    private final Token primitive(byte state, Token t) throws ParseException {
+        if (state == OBJECT)
+            throw new ParseException(offset + start, ERROR_UNEXPECTED_TOKEN, t);
+
+        value(state);
+        return t;
+    }
+
+    private final int skipWhitespace() throws ParseException {
+        for (;;) {
+            if (pos == limit) {
+                mark = pos;
+
+                if (!fill())
+                    return -1;
+            }
+
+            char c = buf[pos];
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t')
+                pos++;
+            else
+                return c;
+        }
+    }
+
+    /**
+     * The character at <code>pos + ahead</code>, or <code>-1</code> at the
+     * end of the input, keeping all characters from <code>mark</code> in the
+     * buffer.
+     */
+    private final int peek(int ahead) throws ParseException {
+        while (pos + ahead >= limit)
+            if (!fill())
+                return -1;
+
+        return buf[pos + ahead];
+    }
+
+    /**
+     * Read more input, discarding all characters before <code>mark</code>.
+     */
+    private final boolean fill() throws ParseException {
+        if (reader == null)
+            return false;
+
+        if (mark > 0) {
+            System.arraycopy(buf, mark, buf, 0, limit - mark);
+            limit -= mark;
+            pos -= mark;
+            offset += mark;
+            mark = 0;
+        }
+
+        if (limit == buf.length)
+            buf = Arrays.copyOf(buf, buf.length * 2);
+
+        try {
+            int read = reader.read(buf, limit, buf.length - limit);
+
+            if (read <= 0)
+                return false;
+
+            limit += read;
+            return true;
+        }
+        catch (IOException e) {
+            throw new ParseException(position(), ERROR_UNEXPECTED_EXCEPTION, e);
+        }
+    }
+
+    private final String string(boolean key) throws ParseException {
+        mark = ++pos;
+
+        // Strings without escape sequences are copied from the buffer directly
+        for (;;) {
+            if (peek(0) == -1)
+                throw new ParseException(position(), ERROR_UNEXPECTED_TOKEN, "END OF FILE");
+
+            char c = buf[pos];
+
+            if (c == '"') {
+                String result = key ? key(mark, pos) : new String(buf, mark, pos - mark);
+                pos++;
+                return result;
+            }
+            else if (c == '\\')
+                break;
+
+            pos++;
+        }
+
+        if (sb == null)
+            sb = new StringBuilder();
+
+        sb.setLength(0);
+        sb.append(buf, mark, pos - mark);
+
+        for (;;) {
+            mark = pos;
+            int c = peek(0);
+
+            if (c == -1)
+                throw new ParseException(position(), ERROR_UNEXPECTED_TOKEN, "END OF FILE");
+
+            pos++;
+            if (c == '"')
+                return sb.toString();
+            else if (c != '\\') {
+                sb.append((char) c);
+                continue;
+            }
+
+            int e = peek(0);
+            switch (e) {
+                case '"':
+                case '\\':
+                case '/':  sb.append((char) e); break;
+                case 'b':  sb.append('\b'); break;
+                case 'f':  sb.append('\f'); break;
+                case 'n':  sb.append('\n'); break;
+                case 'r':  sb.append('\r'); break;
+                case 't':  sb.append('\t'); break;
+                case 'u': {
+                    int u = 0;
+
+                    for (int i = 1; i <= 4 && u >= 0; i++) {
+                        int h = Character.digit(peek(i), 16);
+                        u = h < 0 ? -1 : u * 16 + h;
+                    }
+
+                    if (u >= 0) {
+                        sb.append((char) u);
+                        pos += 4;
+                        break;
+                    }
+
+                    // Fall through
+                }
+
+                // Like JSONParser, keep backslashes that don't start an escape sequence
+                default:
+                    sb.append('\\');
+                    continue;
+            }
+
+            pos++;
+        }
+    }
+
+    /**
+     * Share object keys between occurrences, as the same keys tend to be
+     * repeated in each object of an array.
+     */
+    private final String key(int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++)
+            h = 31 * h + buf[i];
+
+        int slot = (h ^ (h >>> 16)) & (KEY_CACHE - 1);
+        String k = keys[slot];
+
+        if (k != null && k.length() == to - from) {
+            for (int i = from; i < to; i++)
+                if (k.charAt(i - from) != buf[i])
+                    return keys[slot] = new String(buf, from, to - from);
+
+            return k;
+        }
+
+        return keys[slot] = new String(buf, from, to - from);
+    }
+
+    private final void literal(String literal) throws ParseException {
+        mark = pos;
+
+        for (int i = 1; i < literal.length(); i++)
+            if (peek(i) != literal.charAt(i))
+                throw new ParseException(position(), ERROR_UNEXPECTED_CHAR, buf[pos]);
+
+        start = pos;
+        pos += literal.length();
+    }
+
+    /**
+     * Scan a number of the form <code>-?[0-9]+(\.[0-9]+)?([eE][-+]?[0-9]+)?</code>.
+     */
+    private final void number() throws ParseException {
+        mark = pos;
+        int i = 0;
+
+        if (peek(i) == '-')
+            i++;
+
+        if (!digit(peek(i)))
+            throw new ParseException(position(), ERROR_UNEXPECTED_CHAR, buf[pos]);
+
+        while (digit(peek(i)))
+            i++;
+
+        integral = true;
+
+        if (peek(i) == '.' && digit(peek(i + 1))) {
+            i += 2;
+
+            while (digit(peek(i)))
+                i++;
+
+            integral = false;
+        }
+
+        int c = peek(i);
+        if (c == 'e' || c == 'E') {
+            int j = i + 1;
+            int s = peek(j);
+
+            if (s == '+' || s == '-')
+                j++;
+
+            if (digit(peek(j))) {
+                i = j + 1;
+
+                while (digit(peek(i)))
+                    i++;
+
+                integral = false;
+            }
+        }
+
+        start = pos;
+        end = pos + i;
+        pos = end;
+    }
+
+    private static final boolean digit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private final String text() {
+        return new String(buf, start, end - start);
+    }
+
+    private final ParseException unexpectedToken(int c) {
+        return new ParseException(position(), ERROR_UNEXPECTED_TOKEN, (char) c);
+    }
+}
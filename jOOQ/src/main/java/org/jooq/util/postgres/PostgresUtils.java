@@ -55,7 +55,6 @@ import org.jooq.ContextConverter;
 import org.jooq.EnumType;
 import org.jooq.Record;
 import org.jooq.exception.DataTypeException;
-import org.jooq.tools.StringUtils;
 import org.jooq.types.DayToSecond;
 import org.jooq.types.YearToMonth;
 import org.jooq.types.YearToSecond;
@@ -336,13 +335,14 @@ public class PostgresUtils {
     /**
      * Tokenize a PGObject input string.
      */
-    @SuppressWarnings("null")
     private static List<String> toPGObjectOrArray(String input, char open, char close) {
         List<String> values = new ArrayList<String>();
         int i = 0;
         PGState state = PG_OBJECT_INIT;
         int nestLevel = 0;
-        StringBuilder sb = null;
+
+        // The buffer is shared by all values of the input
+        StringBuilder sb = new StringBuilder();
 
         while (i < input.length()) {
             char c = input.charAt(i);
@@ -356,7 +356,7 @@ public class PostgresUtils {
                     break;
 
                 case PG_OBJECT_BEFORE_VALUE:
-                    sb = new StringBuilder();
+                    sb.setLength(0);
 
                     if (c == ',') {
                         values.add(null);
@@ -372,7 +372,7 @@ public class PostgresUtils {
 
                     // [#13169] Consume "null", if this is an array literal
                     else if ((c == 'n' || c == 'N') && (i + 4 < input.length() && open == '{')
-                        && input.substring(i, i + 4).equalsIgnoreCase("null")) {
+                        && input.regionMatches(true, i, "null", 0, 4)) {
                         values.add(null);
                         i += 3;
                         state = PG_OBJECT_AFTER_VALUE;
@@ -539,9 +539,7 @@ public class PostgresUtils {
                     toPGArrayString0(a, sb);
             }
             else
-                sb.append("\"")
-                  .append(StringUtils.replace(StringUtils.replace(toPGString(o), "\\", "\\\\"), "\"", "\\\""))
-                  .append("\"");
+                toPGQuoted(toPGString(o), sb);
 
             separator = ",";
         }
@@ -550,6 +548,24 @@ public class PostgresUtils {
         return sb;
     }
 
+    /**
+     * Append a double quoted string, escaping quotes and backslashes.
+     */
+    private static StringBuilder toPGQuoted(String s, StringBuilder sb) {
+        sb.append('"');
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '"' || c == '\\')
+                sb.append('\\');
+
+            sb.append(c);
+        }
+
+        return sb.append('"');
+    }
+
     private static boolean isDeepEmpty(Object[] a) {
         if (a.length == 0)
             return true;
@@ -596,9 +612,7 @@ public class PostgresUtils {
                 if (a instanceof byte[])
                     toPGString0((byte[]) a, sb);
                 else
-                    sb.append("\"")
-                      .append(StringUtils.replace(StringUtils.replace(toPGString(a), "\\", "\\\\"), "\"", "\\\""))
-                      .append("\"");
+                    toPGQuoted(toPGString(a), sb);
             }
 
             separator = ",";
@@ -0,0 +1,269 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Converter;
+import org.jooq.Converters;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BatchCRUD}, which renders the SQL of records with the same
+ * {@link BatchCRUD.Signature} only once, if that's possible.
+ */
+public class BatchCRUDTest {
+
+    Connection connection;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        connection.createStatement().execute("create table book (id int primary key, title varchar(100))");
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testStoreIndexed() {
+        testStore(new Settings());
+    }
+
+    @Test
+    public void testStoreInlined() {
+        testStore(new Settings().withParamType(ParamType.INLINED));
+    }
+
+    @Test
+    public void testStoreNamedOrInlined() {
+        testStore(new Settings().withParamType(ParamType.NAMED_OR_INLINED));
+    }
+
+    @Test
+    public void testUpdateInlined() {
+        DSLContext ctx = DSL.using(connection, SQLDialect.H2, new Settings().withParamType(ParamType.INLINED));
+        List<BookRecord> books = books(ctx, 3);
+        ctx.batchStore(books).execute();
+
+        for (BookRecord book : books)
+            book.set(BOOK.TITLE, book.get(BOOK.TITLE) + " (2nd edition)");
+
+        assertArrayEquals(new int[] { 1, 1, 1 }, ctx.batchUpdate(books).execute());
+        assertEquals(
+            List.of("Title 1 (2nd edition)", "Title 2 (2nd edition)", "Title 3 (2nd edition)"),
+            ctx.select(BOOK.TITLE).from(BOOK).orderBy(BOOK.ID).fetch(BOOK.TITLE)
+        );
+    }
+
+    @Test
+    public void testStoreCustomBinding() {
+        DSLContext ctx = DSL.using(connection, SQLDialect.H2);
+        List<TrimmedBookRecord> books = new ArrayList<>();
+
+        for (String title : List.of("Title 1", " Title 2 ", "Title 3")) {
+            TrimmedBookRecord book = ctx.newRecord(TRIMMED_BOOK);
+            book.set(TRIMMED_BOOK.ID, books.size() + 1);
+            book.set(TRIMMED_BOOK.TITLE, title);
+            books.add(book);
+        }
+
+        assertArrayEquals(new int[] { 1, 1, 1 }, ctx.batchStore(books).execute());
+        assertEquals(
+            List.of("Title 1", "Title 2", "Title 3"),
+            ctx.select(TRIMMED_BOOK.TITLE).from(TRIMMED_BOOK).orderBy(TRIMMED_BOOK.ID).fetch(TRIMMED_BOOK.TITLE)
+        );
+    }
+
+    private void testStore(Settings settings) {
+        DSLContext ctx = DSL.using(connection, SQLDialect.H2, settings);
+
+        assertArrayEquals(new int[] { 1, 1, 1 }, ctx.batchStore(books(ctx, 3)).execute());
+        assertEquals(
+            List.of("Title 1", "Title 2", "Title 3"),
+            ctx.select(BOOK.TITLE).from(BOOK).orderBy(BOOK.ID).fetch(BOOK.TITLE)
+        );
+    }
+
+    private static List<BookRecord> books(DSLContext ctx, int count) {
+        List<BookRecord> result = new ArrayList<>();
+
+        for (int i = 1; i <= count; i++) {
+            BookRecord book = ctx.newRecord(BOOK);
+            book.set(BOOK.ID, i);
+            book.set(BOOK.TITLE, "Title " + i);
+            result.add(book);
+        }
+
+        return result;
+    }
+
+    static final Book        BOOK         = new Book();
+    static final TrimmedBook TRIMMED_BOOK = new TrimmedBook();
+
+    static class Book extends TableImpl<BookRecord> {
+        final TableField<BookRecord, Integer> ID    = createField(name("ID"), INTEGER.nullable(false), this);
+        final TableField<BookRecord, String>  TITLE = createField(name("TITLE"), VARCHAR(100), this);
+
+        Book() {
+            super(name("BOOK"));
+        }
+
+        @Override
+        public Class<BookRecord> getRecordType() {
+            return BookRecord.class;
+        }
+
+        @Override
+        public UniqueKey<BookRecord> getPrimaryKey() {
+            return Internal.createUniqueKey(this, ID);
+        }
+    }
+
+    public static class BookRecord extends UpdatableRecordImpl<BookRecord> {
+        public BookRecord() {
+            super(BOOK);
+        }
+    }
+
+    static class TrimmedBook extends TableImpl<TrimmedBookRecord> {
+        final TableField<TrimmedBookRecord, Integer> ID    = createField(name("ID"), INTEGER.nullable(false), this);
+        final TableField<TrimmedBookRecord, String>  TITLE = createField(name("TITLE"), VARCHAR(100), this, "", new TrimBinding());
+
+        TrimmedBook() {
+            super(name("BOOK"));
+        }
+
+        @Override
+        public Class<TrimmedBookRecord> getRecordType() {
+            return TrimmedBookRecord.class;
+        }
+
+        @Override
+        public UniqueKey<TrimmedBookRecord> getPrimaryKey() {
+            return Internal.createUniqueKey(this, ID);
+        }
+    }
+
+    public static class TrimmedBookRecord extends UpdatableRecordImpl<TrimmedBookRecord> {
+        public TrimmedBookRecord() {
+            super(TRIMMED_BOOK);
+        }
+    }
+
+    /**
+     * A binding whose SQL depends on the bind value.
+     */
+    static class TrimBinding implements Binding<String, String> {
+
+        @Override
+        public Converter<String, String> converter() {
+            return Converters.identity(String.class);
+        }
+
+        @Override
+        public void sql(BindingSQLContext<String> ctx) {
+            String value = ctx.value();
+
+            if (value != null && !value.equals(value.strip()))
+                ctx.render().sql("trim(").sql(ctx.variable()).sql(')');
+            else
+                ctx.render().sql(ctx.variable());
+        }
+
+        @Override
+        public void register(BindingRegisterContext<String> ctx) throws SQLException {
+            ctx.statement().registerOutParameter(ctx.index(), Types.VARCHAR);
+        }
+
+        @Override
+        public void set(BindingSetStatementContext<String> ctx) throws SQLException {
+            ctx.statement().setString(ctx.index(), ctx.value());
+        }
+
+        @Override
+        public void set(BindingSetSQLOutputContext<String> ctx) throws SQLException {
+            ctx.output().writeString(ctx.value());
+        }
+
+        @Override
+        public void get(BindingGetResultSetContext<String> ctx) throws SQLException {
+            ctx.value(ctx.resultSet().getString(ctx.index()));
+        }
+
+        @Override
+        public void get(BindingGetStatementContext<String> ctx) throws SQLException {
+            ctx.value(ctx.statement().getString(ctx.index()));
+        }
+
+        @Override
+        public void get(BindingGetSQLInputContext<String> ctx) throws SQLException {
+            ctx.value(ctx.input().readString());
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.sql.Statement.EXECUTE_FAILED;
+import static java.sql.Statement.SUCCESS_NO_INFO;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.DSL.upper;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jooq.BatchBindStep;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BatchMultiRowInsert}, which rewrites batches of single row
+ * <code>INSERT</code> statements to batches of multi row
+ * <code>INSERT</code> statements if {@link Settings#isRewriteBatchedInserts()}
+ * is set.
+ */
+public class BatchMultiRowInsertTest {
+
+    static final Table<Record>  T  = table(name("t"));
+    static final Field<Integer> ID = field(name("t", "id"), INTEGER);
+    static final Field<String>  V  = field(name("t", "v"), VARCHAR);
+
+    Connection                  connection;
+    List<String>                prepared;
+    AtomicInteger               executions;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        connection.createStatement().execute("create table \"t\" (\"id\" int primary key, \"v\" varchar(100))");
+        prepared = new ArrayList<>();
+        executions = new AtomicInteger();
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testFullGroupsAndRemainder() {
+
+        // 6 bind values per statement are 3 rows of 2 bind values
+        DSLContext ctx = ctx(new Settings().withInlineThreshold(6));
+
+        assertArrayEquals(ones(7), bind(batch(ctx), 1, 7).execute());
+        assertEquals(List.of(3, 1), rowsPerStatement());
+        assertRows(ctx, 1, 7);
+    }
+
+    @Test
+    public void testFullGroupsOnly() {
+        DSLContext ctx = ctx(new Settings().withInlineThreshold(6));
+
+        assertArrayEquals(ones(6), bind(batch(ctx), 1, 6).execute());
+        assertEquals(List.of(3), rowsPerStatement());
+        assertRows(ctx, 1, 6);
+    }
+
+    @Test
+    public void testRemainderOnly() {
+        DSLContext ctx = ctx(new Settings().withInlineThreshold(6));
+
+        assertArrayEquals(ones(2), bind(batch(ctx), 1, 2).execute());
+        assertEquals(List.of(2), rowsPerStatement());
+        assertRows(ctx, 1, 2);
+    }
+
+    @Test
+    public void testInlineThresholdLimitsRowsPerStatement() {
+
+        // An incomplete row's worth of bind values is rounded down
+        DSLContext ctx = ctx(new Settings().withInlineThreshold(5));
+
+        assertArrayEquals(ones(5), bind(batch(ctx), 1, 5).execute());
+        assertEquals(List.of(2, 1), rowsPerStatement());
+        assertRows(ctx, 1, 5);
+    }
+
+    @Test
+    public void testInlineThresholdBelowRowSize() {
+
+        // At least one row is inserted per statement
+        DSLContext ctx = ctx(new Settings().withInlineThreshold(1));
+
+        assertArrayEquals(ones(3), bind(batch(ctx), 1, 3).execute());
+        assertEquals(List.of(1), rowsPerStatement());
+        assertEquals(1, executions.get());
+        assertRows(ctx, 1, 3);
+    }
+
+    @Test
+    public void testDefaultMaxBindValues() {
+        assertEquals(32767, BatchMultiRowInsert.maxBindValues(new DefaultConfiguration().set(SQLDialect.H2)));
+        assertEquals(999, BatchMultiRowInsert.maxBindValues(new DefaultConfiguration().set(SQLDialect.SQLITE)));
+        assertEquals(10, BatchMultiRowInsert.maxBindValues(new DefaultConfiguration().set(SQLDialect.SQLITE).set(new Settings().withInlineThreshold(10))));
+    }
+
+    @Test
+    public void testOnChunk() {
+
+        // A batch size of 6 rows executes 2 statements of 3 rows per JDBC batch
+        DSLContext ctx = ctx(new Settings().withInlineThreshold(6).withBatchSize(6));
+        List<int[]> chunks = new ArrayList<>();
+
+        assertEquals(14L, batch(ctx).bind(values(1, 14)).onChunk(chunks::add).executeStreaming());
+        assertEquals(List.of(3, 2), rowsPerStatement());
+        assertEquals(3, executions.get());
+        assertEquals(3, chunks.size());
+        assertArrayEquals(ones(6), chunks.get(0));
+        assertArrayEquals(ones(6), chunks.get(1));
+        assertArrayEquals(ones(2), chunks.get(2));
+        assertRows(ctx, 1, 14);
+    }
+
+    @Test
+    public void testRowCounts() {
+        assertArrayEquals(new int[] { 1, 1, 1, 1, 1, 1 }, BatchMultiRowInsert.rowCounts(new int[] { 3, 3 }, 3));
+        assertArrayEquals(
+            new int[] { 1, 1, SUCCESS_NO_INFO, SUCCESS_NO_INFO, EXECUTE_FAILED, EXECUTE_FAILED },
+            BatchMultiRowInsert.rowCounts(new int[] { 2, 1, EXECUTE_FAILED }, 2)
+        );
+        assertArrayEquals(
+            new int[] { SUCCESS_NO_INFO, SUCCESS_NO_INFO },
+            BatchMultiRowInsert.rowCounts(new int[] { SUCCESS_NO_INFO }, 2)
+        );
+    }
+
+    @Test
+    public void testRewrite() {
+        DSLContext ctx = ctx(new Settings());
+
+        assertNotNull(of(ctx, ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null)));
+        assertNotNull(of(ctx, ctx.insertInto(T).columns(ID, V).values(val(null, ID), val(null, V))));
+        assertNotNull(of(ctx, ctx.insertInto(T).columns(ID, V).values(1, "x")));
+    }
+
+    @Test
+    public void testNoRewrite() {
+        DSLContext ctx = ctx(new Settings());
+
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null).returning(ID)));
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null).onConflict(ID).doNothing()));
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null).onConflictDoNothing()));
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null).onDuplicateKeyIgnore()));
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null).onDuplicateKeyUpdate().set(V, (String) null)));
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).select(select(val((Integer) null), val((String) null)))));
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).values(val((Integer) null), upper((String) null))));
+        assertNull(of(ctx, ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null).values((Integer) null, (String) null)));
+        assertNull(of(ctx, ctx.insertInto(T).defaultValues()));
+        assertNull(of(ctx, ctx.update(T).set(V, (String) null).where(ID.eq((Integer) null))));
+    }
+
+    @Test
+    public void testNoRewriteFallback() {
+        DSLContext ctx = ctx(new Settings());
+
+        assertArrayEquals(
+            ones(3),
+            bind(ctx.batch(ctx.insertInto(T).columns(ID, V).values(val((Integer) null), upper((String) null))), 1, 3).execute()
+        );
+        assertEquals(1, prepared.size());
+        assertEquals(1, executions.get());
+        assertRows(ctx, 1, 3);
+        assertEquals(List.of("V1", "V2", "V3"), ctx.select(V).from(T).orderBy(ID).fetch(V));
+    }
+
+    private DSLContext ctx(Settings settings) {
+        return DSL.using(connection, SQLDialect.H2, settings.withRewriteBatchedInserts(true))
+                  .configuration()
+                  .derive(
+                      ExecuteListener.onPrepareStart(c -> prepared.add(c.sql())),
+                      ExecuteListener.onExecuteStart(c -> executions.incrementAndGet())
+                  )
+                  .dsl();
+    }
+
+    private static BatchMultiRowInsert of(DSLContext ctx, Query query) {
+        return BatchMultiRowInsert.of(new BatchSingle(ctx.configuration(), query));
+    }
+
+    private static BatchBindStep batch(DSLContext ctx) {
+        return ctx.batch(ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null));
+    }
+
+    private static BatchBindStep bind(BatchBindStep batch, int from, int count) {
+        values(from, count).forEach(batch::bind);
+        return batch;
+    }
+
+    private static Stream<Object[]> values(int from, int count) {
+        return IntStream.range(from, from + count).mapToObj(i -> new Object[] { i, "v" + i });
+    }
+
+    private List<Integer> rowsPerStatement() {
+        return prepared.stream().map(sql -> sql.split("\\(\\?, \\?\\)", -1).length - 1).toList();
+    }
+
+    private static int[] ones(int count) {
+        int[] result = new int[count];
+        Arrays.fill(result, 1);
+        return result;
+    }
+
+    private static void assertRows(DSLContext ctx, int from, int count) {
+        assertEquals(
+            IntStream.range(from, from + count).boxed().toList(),
+            ctx.select(ID).from(T).orderBy(ID).fetch(ID)
+        );
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jooq.BatchBindStep;
+import org.jooq.BatchStreamStep;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.conf.StatementType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BatchSingle} and {@link BatchSingleStream}, which execute
+ * bind values one chunk of {@link Settings#getBatchSize()} sets at a time.
+ */
+public class BatchSingleTest {
+
+    static final Table<Record>  T  = table(name("t"));
+    static final Field<Integer> ID = field(name("t", "id"), INTEGER);
+    static final Field<String>  V  = field(name("t", "v"), VARCHAR);
+
+    Connection                  connection;
+    AtomicInteger               executions;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        connection.createStatement().execute("create table \"t\" (\"id\" int primary key, \"v\" varchar(100))");
+        executions = new AtomicInteger();
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testMaterialisedExactMultiple() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(2));
+
+        assertArrayEquals(ones(4), bind(batch(ctx), 1, 4).execute());
+        assertEquals(2, executions.get());
+        assertRows(ctx, 1, 4);
+    }
+
+    @Test
+    public void testMaterialisedRemainder() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(2));
+
+        assertArrayEquals(ones(5), bind(batch(ctx), 1, 5).execute());
+        assertEquals(3, executions.get());
+        assertRows(ctx, 1, 5);
+    }
+
+    @Test
+    public void testMaterialisedUnbounded() {
+        DSLContext ctx = ctx(new Settings());
+
+        assertArrayEquals(ones(5), bind(batch(ctx), 1, 5).execute());
+        assertEquals(1, executions.get());
+        assertRows(ctx, 1, 5);
+    }
+
+    @Test
+    public void testStreamExactMultiple() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(3));
+        List<Integer> chunks = new ArrayList<>();
+        BatchStreamStep batch = batch(ctx).bind(values(1, 6)).onChunk(c -> chunks.add(c.length));
+
+        assertArrayEquals(ones(6), batch.execute());
+        assertEquals(List.of(3, 3), chunks);
+        assertEquals(2, executions.get());
+        assertEquals(6, batch.size());
+        assertRows(ctx, 1, 6);
+    }
+
+    @Test
+    public void testStreamRemainder() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(3));
+        List<Integer> chunks = new ArrayList<>();
+        BatchStreamStep batch = batch(ctx).bind(values(1, 7)).onChunk(c -> chunks.add(c.length));
+
+        assertArrayEquals(ones(7), batch.execute());
+        assertEquals(List.of(3, 3, 1), chunks);
+        assertEquals(3, executions.get());
+        assertEquals(7, batch.size());
+        assertRows(ctx, 1, 7);
+    }
+
+    @Test
+    public void testStreamEmpty() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(3));
+        List<Integer> chunks = new ArrayList<>();
+
+        assertArrayEquals(new int[0], batch(ctx).bind(Stream.<Object[]>empty()).onChunk(c -> chunks.add(c.length)).execute());
+        assertEquals(0L, batch(ctx).bind(Stream.<Object[]>empty()).onChunk(c -> chunks.add(c.length)).executeStreaming());
+        assertEquals(List.of(), chunks);
+        assertEquals(0, executions.get());
+        assertRows(ctx, 1, 0);
+    }
+
+    @Test
+    public void testStreamUnbounded() {
+        DSLContext ctx = ctx(new Settings());
+        List<Integer> chunks = new ArrayList<>();
+
+        assertEquals(
+            BatchStreamStep.DEFAULT_BATCH_SIZE + 1L,
+            batch(ctx).bind(values(1, BatchStreamStep.DEFAULT_BATCH_SIZE + 1)).onChunk(c -> chunks.add(c.length)).executeStreaming()
+        );
+        assertEquals(List.of(BatchStreamStep.DEFAULT_BATCH_SIZE, 1), chunks);
+    }
+
+    @Test
+    public void testExecuteStreaming() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(2));
+        List<int[]> chunks = new ArrayList<>();
+        BatchStreamStep batch = batch(ctx).bind(values(1, 5)).onChunk(chunks::add);
+
+        assertEquals(5L, batch.executeStreaming());
+        assertEquals(5, batch.size());
+        assertEquals(3, chunks.size());
+        assertArrayEquals(ones(2), chunks.get(0));
+        assertArrayEquals(ones(2), chunks.get(1));
+        assertArrayEquals(ones(1), chunks.get(2));
+        assertRows(ctx, 1, 5);
+    }
+
+    @Test
+    public void testStreamIsConsumedOneChunkAtATime() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(2));
+        AtomicInteger consumed = new AtomicInteger();
+        List<Integer> consumedPerChunk = new ArrayList<>();
+        Iterator<Object[]> it = values(1, 5).peek(v -> consumed.incrementAndGet()).iterator();
+
+        batch(ctx).bind(it).onChunk(c -> consumedPerChunk.add(consumed.get())).executeStreaming();
+        assertEquals(List.of(2, 4, 5), consumedPerChunk);
+    }
+
+    @Test
+    public void testBindBeforeStream() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(3));
+        List<Integer> chunks = new ArrayList<>();
+
+        assertArrayEquals(
+            ones(5),
+            bind(batch(ctx), 1, 2).bind(values(3, 3)).onChunk(c -> chunks.add(c.length)).execute()
+        );
+        assertEquals(List.of(3, 2), chunks);
+        assertRows(ctx, 1, 5);
+    }
+
+    @Test
+    public void testStaticStatementsMaterialised() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(2).withStatementType(StatementType.STATIC_STATEMENT));
+
+        assertArrayEquals(ones(3), bind(batch(ctx), 1, 3).execute());
+        assertRows(ctx, 1, 3);
+    }
+
+    @Test
+    public void testStaticStatementsStreamed() {
+        DSLContext ctx = ctx(new Settings().withBatchSize(2).withStatementType(StatementType.STATIC_STATEMENT));
+        List<Integer> chunks = new ArrayList<>();
+        BatchStreamStep batch = batch(ctx).bind(values(1, 5)).onChunk(c -> chunks.add(c.length));
+
+        assertArrayEquals(ones(5), batch.execute());
+        assertEquals(List.of(2, 2, 1), chunks);
+        assertEquals(5, batch.size());
+        assertRows(ctx, 1, 5);
+    }
+
+    private DSLContext ctx(Settings settings) {
+        return DSL.using(connection, SQLDialect.H2, settings)
+                  .configuration()
+                  .derive(ExecuteListener.onExecuteStart(c -> executions.incrementAndGet()))
+                  .dsl();
+    }
+
+    private static BatchBindStep batch(DSLContext ctx) {
+        return ctx.batch(ctx.insertInto(T).columns(ID, V).values((Integer) null, (String) null));
+    }
+
+    private static BatchBindStep bind(BatchBindStep batch, int from, int count) {
+        values(from, count).forEach(batch::bind);
+        return batch;
+    }
+
+    private static Stream<Object[]> values(int from, int count) {
+        return IntStream.range(from, from + count).mapToObj(i -> new Object[] { i, "v" + i });
+    }
+
+    private static int[] ones(int count) {
+        int[] result = new int[count];
+        Arrays.fill(result, 1);
+        return result;
+    }
+
+    private static void assertRows(DSLContext ctx, int from, int count) {
+        assertEquals(
+            IntStream.range(from, from + count).boxed().toList(),
+            ctx.select(ID).from(T).orderBy(ID).fetch(ID)
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.jooq.impl.LoaderBulkIngest.CSVRowReader;
+
+import org.junit.Test;
+
+/**
+ * Tests for the text representation of values ingested by
+ * {@link LoaderBulkIngest}.
+ */
+public class LoaderBulkIngestTest {
+
+    @Test
+    public void testCSVScalars() throws IOException {
+        assertEquals(
+            "\"1\",,\"a \"\"quoted\"\" string\",\"100000000000000000000\"\n"
+          + "\"true\",\"\",\"\\xCAFE\",\"2020-01-01\"\n",
+            csv(
+                new Object[] { 1, null, "a \"quoted\" string", new BigDecimal("1E+20") },
+                new Object[] { true, "", new byte[] { (byte) 0xCA, (byte) 0xFE }, java.sql.Date.valueOf("2020-01-01") }
+            )
+        );
+    }
+
+    @Test
+    public void testCSVArrays() throws IOException {
+        assertEquals(
+            "\"{1,2,null}\",\"{\"\"a,b\"\",\"\"c\\\"\"d\"\"}\"\n",
+            csv(new Object[] { new Integer[] { 1, 2, null }, new String[] { "a,b", "c\"d" } })
+        );
+    }
+
+    private static String csv(Object[]... rows) throws IOException {
+        StringWriter result = new StringWriter();
+
+        // A small buffer makes sure lines are read across several calls
+        try (Reader reader = new CSVRowReader(List.of(rows).iterator())) {
+            char[] buffer = new char[3];
+
+            for (int n; (n = reader.read(buffer, 0, buffer.length)) != -1;)
+                result.write(buffer, 0, n);
+        }
+
+        return result.toString();
+    }
+}
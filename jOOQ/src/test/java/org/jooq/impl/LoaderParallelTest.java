@@ -0,0 +1,195 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Loader;
+import org.jooq.LoaderError;
+import org.jooq.LoaderOptionsStep;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.exception.LoaderConfigurationException;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LoaderOptionsStep#parallel(int)}, which loads rows on
+ * several workers, each with its own connection.
+ */
+public class LoaderParallelTest {
+
+    static final AtomicInteger  DATABASES = new AtomicInteger();
+    static final Table<Record>  T         = table(name("t"));
+    static final Field<Integer> ID        = field(name("t", "id"), INTEGER);
+    static final Field<String>  V         = field(name("t", "v"), VARCHAR);
+    static final int            ROWS      = 10_000;
+
+    JdbcConnectionPool          pool;
+    Set<Connection>             connections;
+    DSLContext                  ctx;
+
+    @Before
+    public void setup() throws SQLException {
+        pool = JdbcConnectionPool.create("jdbc:h2:mem:loader" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        connections = ConcurrentHashMap.newKeySet();
+
+        try (Connection c = pool.getConnection()) {
+            c.createStatement().execute("create table \"t\" (\"id\" int primary key, \"v\" varchar(100))");
+        }
+
+        ctx = DSL.using(pool, SQLDialect.H2)
+                 .configuration()
+                 .derive(ExecuteListener.onExecuteStart(c -> connections.add(c.connection())))
+                 .dsl();
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        try (Connection c = pool.getConnection()) {
+            c.createStatement().execute("shutdown");
+        }
+
+        pool.dispose();
+    }
+
+    @Test
+    public void testParallel() {
+        Loader<Record> loader = load(ctx.loadInto(T).parallel(4).batchAfter(100), i -> i);
+
+        assertEquals(ROWS, loader.processed());
+        assertEquals(ROWS, loader.stored());
+        assertEquals(ROWS / 100, loader.executed());
+        assertEquals(0, loader.ignored());
+        assertEquals(List.of(), loader.errors());
+        assertEquals(ROWS, ctx.fetchCount(T));
+        assertTrue("Expected several connections, got " + connections.size(), connections.size() > 1);
+    }
+
+    @Test
+    public void testParallelBulk() {
+        Loader<Record> loader = load(ctx.loadInto(T).parallel(3).bulkAfter(10).batchAfter(5).commitAfter(2), i -> i);
+
+        assertEquals(ROWS, loader.processed());
+        assertEquals(ROWS, loader.stored());
+        assertEquals(ROWS, ctx.fetchCount(T));
+    }
+
+    @Test
+    public void testErrorRowIndex() {
+
+        // Rows 1500 and 7000 are duplicates of rows 0 and 1, on other workers
+        Loader<Record> loader = load(ctx.loadInto(T).parallel(4).onErrorIgnore(), i -> i == 1500 ? 0 : i == 7000 ? 1 : i);
+
+        assertEquals(ROWS, loader.processed());
+        assertEquals(ROWS - 2, loader.stored());
+        assertEquals(2, loader.ignored());
+        assertEquals(List.of(1500, 7000), loader.errors().stream().map(LoaderError::rowIndex).toList());
+        assertEquals(List.of("v1500", "v7000"), loader.errors().stream().map(e -> e.row()[1]).toList());
+        assertEquals(ROWS - 2, ctx.fetchCount(T));
+    }
+
+    @Test
+    public void testErrorAbort() {
+        int rows = 100_000;
+        Loader<Record> loader = load(ctx.loadInto(T).parallel(4).onErrorAbort(), rows, i -> i == 100 ? 0 : i);
+
+        assertEquals(1, loader.errors().size());
+        assertEquals(100, loader.errors().get(0).rowIndex());
+
+        // Other workers finish their current chunk, but don't take new ones
+        assertTrue("Expected fewer than " + rows + " rows, got " + loader.processed(), loader.processed() < rows / 2);
+        assertEquals(loader.stored(), ctx.fetchCount(T));
+    }
+
+    @Test
+    public void testDefaultConnectionProvider() throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:h2:mem:")) {
+            c.createStatement().execute("create table \"t\" (\"id\" int primary key, \"v\" varchar(100))");
+            DSLContext single = DSL.using(c, SQLDialect.H2);
+
+            try {
+                load(single.loadInto(T).parallel(2), i -> i);
+                fail();
+            }
+            catch (LoaderConfigurationException expected) {}
+
+            assertEquals(ROWS, load(single.loadInto(T).parallel(1), i -> i).stored());
+        }
+    }
+
+    private static Loader<Record> load(LoaderOptionsStep<Record> step, IntUnaryOperator id) {
+        return load(step, ROWS, id);
+    }
+
+    private static Loader<Record> load(LoaderOptionsStep<Record> step, int rows, IntUnaryOperator id) {
+        try {
+            return step.loadArrays(IntStream.range(0, rows).mapToObj(i -> new Object[] { id.applyAsInt(i), "v" + i }).iterator())
+                       .fields(ID, V)
+                       .execute();
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
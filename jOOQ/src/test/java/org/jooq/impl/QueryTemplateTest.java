@@ -0,0 +1,234 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.DECIMAL;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.Query;
+import org.jooq.QueryTemplate;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.ResultQueryTemplate;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TemplateSlots;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.Settings;
+import org.jooq.conf.StatementType;
+import org.jooq.exception.DataAccessException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link QueryTemplate} and {@link ResultQueryTemplate}, which render
+ * a query once, and bind new values to its slots on each execution.
+ */
+public class QueryTemplateTest {
+
+    static final Table<Record>     T  = table(name("t"));
+    static final Field<Integer>    ID = field(name("t", "id"), INTEGER);
+    static final Field<String>     V  = field(name("t", "v"), VARCHAR);
+    static final Field<BigDecimal> D  = field(name("t", "d"), DECIMAL(20, 5));
+    static final Field<JSON>       J  = field(name("t", "j"), SQLDataType.JSON);
+
+    Connection                     connection;
+    DSLContext                     ctx;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        connection.createStatement().execute("create table \"t\" (\"id\" int primary key, \"v\" varchar(100), \"d\" decimal(20, 5), \"j\" json)");
+        ctx = DSL.using(connection, SQLDialect.H2);
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testBind() {
+        QueryTemplate insert = ctx.queryTemplate(s -> ctx.insertInto(T).columns(ID, V).values(s.slot(ID), s.slot(V)));
+
+        assertEquals(2, insert.slots().size());
+        assertEquals(1, insert.execute(1, "a"));
+        assertEquals(1, insert.execute(2, "b"));
+        assertEquals(1, insert.bind(3, null).execute());
+        assertEquals(List.of("a", "b"), ctx.select(V).from(T).where(V.isNotNull()).orderBy(ID).fetch(V));
+    }
+
+    @Test
+    public void testBindResultQuery() {
+        ctx.insertInto(T).columns(ID, V).values(1, "a").values(2, "b").values(3, "c").execute();
+        ResultQueryTemplate<Record1<String>> select = ctx.resultQueryTemplate(s ->
+            ctx.select(V).from(T).where(ID.ge(s.slot(ID))).and(ID.le(s.slot(Integer.class))).orderBy(ID)
+        );
+
+        assertEquals(List.of("a", "b"), select.bind(1, 2).fetch(V));
+        assertEquals(List.of("b", "c"), select.bind(2, 5).fetch(V));
+    }
+
+    @Test
+    public void testSlotUsedTwice() {
+        ctx.insertInto(T).columns(ID, V).values(1, "a").values(2, "b").execute();
+        QueryTemplate update = ctx.queryTemplate(s -> {
+            Field<Integer> id = s.slot(ID);
+            return ctx.update(T).set(V, DSL.concat(V, id.cast(VARCHAR))).where(ID.eq(id));
+        });
+
+        assertEquals(1, update.execute(2));
+        assertEquals(List.of("a", "b2"), ctx.select(V).from(T).orderBy(ID).fetch(V));
+    }
+
+    @Test
+    public void testBindValueCount() {
+        QueryTemplate delete = ctx.queryTemplate(s -> ctx.deleteFrom(T).where(ID.eq(s.slot(ID))));
+
+        try {
+            delete.bind(1, 2);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+    }
+
+    @Test
+    public void testDecimalSlot() {
+        QueryTemplate insert = ctx.queryTemplate(s -> ctx.insertInto(T).columns(ID, D).values(s.slot(ID), s.slot(D)));
+
+        // Slots aren't rendered with the precision and scale of a sample value
+        insert.execute(1, new BigDecimal("1.5"));
+        insert.execute(2, new BigDecimal("123456.12345"));
+        assertEquals(
+            List.of(new BigDecimal("1.50000"), new BigDecimal("123456.12345")),
+            ctx.select(D).from(T).orderBy(ID).fetch(D)
+        );
+    }
+
+    @Test
+    public void testJSONSlot() {
+        QueryTemplate insert = ctx.queryTemplate(s -> ctx.insertInto(T).columns(ID, J).values(s.slot(ID), s.slot(J)));
+
+        // H2 renders JSON bind values differently depending on whether they're null
+        insert.execute(1, JSON.json("{\"a\":1}"));
+        insert.execute(2, null);
+        assertEquals(
+            List.of(JSON.json("{\"a\":1}")),
+            ctx.select(J).from(T).where(DSL.field("{0} is json object", Boolean.class, J)).fetch(J)
+        );
+        assertEquals(List.of(2), ctx.select(ID).from(T).where(J.isNull()).fetch(ID));
+        assertTrue(insert.bind(3, null) instanceof QueryTemplateImpl.Bound);
+        assertFalse(insert.bind(3, JSON.json("{}")) instanceof QueryTemplateImpl.Bound);
+    }
+
+    @Test
+    public void testInlinedSlot() {
+        DSLContext inlined = DSL.using(connection, SQLDialect.H2, new Settings().withParamType(ParamType.INLINED));
+
+        // Like any other query, a template executed as a prepared statement
+        // binds its values, irrespective of Settings.paramType
+        QueryTemplate delete = inlined.queryTemplate(s -> inlined.deleteFrom(T).where(ID.eq(s.slot(ID))));
+        assertEquals("delete from \"t\" where \"t\".\"id\" = cast(? as int)", delete.getSQL());
+
+        ctx.insertInto(T).columns(ID, V).values(1, "a").values(2, "b").execute();
+        assertEquals(1, delete.execute(1));
+        assertEquals(List.of(2), ctx.select(ID).from(T).fetch(ID));
+    }
+
+    @Test
+    public void testStaticStatementSlot() {
+        DSLContext inlined = DSL.using(connection, SQLDialect.H2, new Settings().withStatementType(StatementType.STATIC_STATEMENT));
+
+        try {
+            inlined.queryTemplate(s -> inlined.deleteFrom(T).where(ID.eq(s.slot(ID))));
+            fail();
+        }
+        catch (DataAccessException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("is not rendered as a bind value"));
+        }
+    }
+
+    @Test
+    public void testExplicitlyInlinedSlot() {
+        try {
+            ctx.queryTemplate(s -> ctx.deleteFrom(T).where(ID.eq(DSL.inline(1))).and(ID.eq(s.slot(ID).$inline(true))));
+            fail();
+        }
+        catch (DataAccessException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("is not rendered as a bind value"));
+        }
+    }
+
+    @Test
+    public void testReturning() {
+        assertRejected(s -> ctx.insertInto(T).columns(ID, V).values(s.slot(ID), s.slot(V)).returning(ID));
+        assertRejected(s -> ctx.insertInto(T).columns(ID, V).values(s.slot(ID), s.slot(V)).returningResult(ID));
+        assertRejected(s -> ctx.update(T).set(V, s.slot(V)).where(ID.eq(s.slot(ID))).returning());
+        assertRejected(s -> ctx.deleteFrom(T).where(ID.eq(s.slot(ID))).returningResult(V));
+    }
+
+    private void assertRejected(Function<TemplateSlots, Query> f) {
+        try {
+            ctx.queryTemplate(f);
+            fail();
+        }
+        catch (DataAccessException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("RETURNING"));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Query;
+import org.jooq.QueryTemplate;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TemplateSlots;
+import org.jooq.conf.Settings;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Settings#isCacheRenderedSQL()}, which caches query
+ * templates by the identity of the function that creates them.
+ */
+public class RenderedSQLCacheTest {
+
+    static final Table<?>       T = table(name("t"));
+    static final Field<Integer> A = field(name("t", "a"), INTEGER);
+    static final Field<String>  B = field(name("t", "b"), VARCHAR);
+
+    static final Function<TemplateSlots, Query> UPDATE = s ->
+        DSL.update(T).set(B, s.slot(B)).where(A.eq(s.slot(A)));
+
+    @Test
+    public void testSameFunctionHitsCache() {
+        Executions cached = new Executions(new Settings().withCacheRenderedSQL(true));
+
+        for (int i = 1; i <= 3; i++)
+            cached.ctx.queryTemplate(UPDATE).execute("b" + i, i);
+
+        assertSame(cached.ctx.queryTemplate(UPDATE), cached.ctx.queryTemplate(UPDATE));
+        assertEquals(1, cache(cached.ctx).size());
+        assertEquals(3, cached.sql.size());
+        assertEquals("update \"t\" set \"t\".\"b\" = ? where \"t\".\"a\" = cast(? as int)", cached.sql.get(2));
+        assertEquals("[[b1, 1], [b2, 2], [b3, 3]]", cached.bindings.toString());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        Executions uncached = new Executions(new Settings());
+
+        assertNotSame(uncached.ctx.queryTemplate(UPDATE), uncached.ctx.queryTemplate(UPDATE));
+        assertEquals(0, cache(uncached.ctx).size());
+    }
+
+    @Test
+    public void testCapturingFunctionsMissCache() {
+        Executions cached = new Executions(new Settings().withCacheRenderedSQL(true));
+
+        // Captured variables may change the query's structure
+        for (String column : Arrays.asList("x", "y"))
+            cached.ctx.resultQueryTemplate(s -> select(field(name(column))).from(T).where(A.eq(s.slot(A)))).fetch(1);
+
+        assertEquals(2, cache(cached.ctx).size());
+        assertEquals(List.of(
+            "select \"x\" from \"t\" where \"t\".\"a\" = cast(? as int)",
+            "select \"y\" from \"t\" where \"t\".\"a\" = cast(? as int)"
+        ), cached.sql);
+    }
+
+    @Test
+    public void testSettingsAndDialectAreKeys() {
+        Executions cached = new Executions(new Settings().withCacheRenderedSQL(true));
+        QueryTemplate t1 = cached.ctx.queryTemplate(UPDATE);
+
+        cached.ctx.configuration().set(SQLDialect.MYSQL);
+        QueryTemplate t2 = cached.ctx.queryTemplate(UPDATE);
+
+        cached.ctx.configuration().set(new Settings().withCacheRenderedSQL(true));
+        QueryTemplate t3 = cached.ctx.queryTemplate(UPDATE);
+
+        assertNotSame(t1, t2);
+        assertNotSame(t2, t3);
+        assertEquals("update `t` set `t`.`b` = ? where `t`.`a` = ?", t2.getSQL());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> cache(DSLContext ctx) {
+        Object cache = ctx.configuration().data(CacheType.CACHE_RENDERED_SQL);
+        return cache == null ? Collections.emptyMap() : (Map<Object, Object>) cache;
+    }
+
+    /**
+     * The SQL strings and bind values of all executions on a mock connection.
+     */
+    static class Executions {
+        final List<String>       sql      = new ArrayList<>();
+        final List<List<Object>> bindings = new ArrayList<>();
+        final DSLContext         ctx;
+
+        Executions(Settings settings) {
+            ctx = DSL.using(new MockConnection(c -> {
+                sql.add(c.sql());
+                bindings.add(Arrays.asList(c.bindings()));
+                return new MockResult[] { new MockResult(0, DSL.using(SQLDialect.DEFAULT).newResult(field(name("x")))) };
+            }), SQLDialect.H2, settings);
+        }
+    }
+}
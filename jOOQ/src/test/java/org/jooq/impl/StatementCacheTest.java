@@ -0,0 +1,269 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.tools.jdbc.DefaultConnection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StatementCache}, which caches {@link PreparedStatement}
+ * instances per connection of a {@link DefaultConnectionProvider}, if
+ * {@link Settings#isCachePreparedStatementInConnection()} is set.
+ */
+public class StatementCacheTest {
+
+    static final Table<?>       T  = table(name("t"));
+    static final Field<Integer> ID = field(name("t", "id"), INTEGER);
+
+    Connection                  connection;
+    List<PreparedStatement>     prepared;
+
+    @Before
+    public void setup() throws SQLException {
+        Connection h2 = DriverManager.getConnection("jdbc:h2:mem:");
+        h2.createStatement().execute("create table \"t\" (\"id\" int primary key)");
+        h2.createStatement().execute("insert into \"t\" values (1), (2), (3), (4), (5)");
+
+        prepared = new ArrayList<>();
+        connection = new DefaultConnection(h2) {
+            @Override
+            public PreparedStatement prepareStatement(String sql) throws SQLException {
+                return record(super.prepareStatement(sql));
+            }
+
+            @Override
+            public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+                return record(super.prepareStatement(sql, resultSetType, resultSetConcurrency));
+            }
+
+            @Override
+            public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+                return record(super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+            }
+
+            private PreparedStatement record(PreparedStatement statement) {
+                prepared.add(statement);
+                return statement;
+            }
+        };
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        DSLContext ctx = ctx(new Settings());
+
+        assertEquals(List.of(3, 4, 5), query(ctx, 2).fetch(ID));
+        assertEquals(List.of(3, 4, 5), query(ctx, 2).fetch(ID));
+        assertEquals(List.of(4, 5), query(ctx, 3).fetch(ID));
+        assertEquals(1, prepared.size());
+        assertCounters(ctx, 2, 1, 0);
+
+        assertEquals(List.of(1, 2, 3, 4, 5), ctx.select(ID).from(T).orderBy(ID).fetch(ID));
+        assertEquals(2, prepared.size());
+        assertCounters(ctx, 2, 2, 0);
+    }
+
+    @Test
+    public void testDisabled() {
+        DSLContext ctx = DSL.using(connection, SQLDialect.H2);
+
+        query(ctx, 2).fetch();
+        query(ctx, 2).fetch();
+        assertEquals(2, prepared.size());
+        assertCounters(ctx, 0, 0, 0);
+    }
+
+    @Test
+    public void testStatementsAreKeptOpen() throws SQLException {
+        DSLContext ctx = ctx(new Settings());
+
+        query(ctx, 2).fetch();
+        assertFalse(prepared.get(0).isClosed());
+    }
+
+    @Test
+    public void testEviction() throws SQLException {
+        DSLContext ctx = ctx(new Settings().withCachePreparedStatementInConnectionLRUCacheSize(2));
+
+        ctx.fetch("select 1");
+        ctx.fetch("select 2");
+        ctx.fetch("select 1");
+        assertCounters(ctx, 1, 2, 0);
+
+        // "select 2" is the least recently used statement
+        ctx.fetch("select 3");
+        assertCounters(ctx, 1, 3, 1);
+        assertFalse(prepared.get(0).isClosed());
+        assertTrue(prepared.get(1).isClosed());
+        assertFalse(prepared.get(2).isClosed());
+
+        ctx.fetch("select 1");
+        ctx.fetch("select 2");
+        assertCounters(ctx, 2, 4, 2);
+        assertEquals(4, prepared.size());
+        assertTrue(prepared.get(2).isClosed());
+    }
+
+    @Test
+    public void testPropertiesAreReset() throws SQLException {
+        DSLContext ctx = ctx(new Settings());
+        int fetchSize;
+
+        try (PreparedStatement s = ((DefaultConnection) connection).getDelegate().prepareStatement("select 1")) {
+            fetchSize = s.getFetchSize();
+        }
+
+        assertEquals(List.of(3), query(ctx, 2).maxRows(1).fetchSize(fetchSize + 1).queryTimeout(5).fetch(ID));
+        PreparedStatement statement = prepared.get(0);
+        assertEquals(0, statement.getMaxRows());
+        assertEquals(0, statement.getQueryTimeout());
+        assertEquals(fetchSize, statement.getFetchSize());
+
+        // A cache hit doesn't inherit the previous execution's properties
+        assertEquals(List.of(3, 4, 5), query(ctx, 2).fetch(ID));
+        assertCounters(ctx, 1, 1, 0);
+        assertSame(statement, prepared.get(0));
+    }
+
+    @Test
+    public void testConcurrentCursors() throws SQLException {
+        DSLContext ctx = ctx(new Settings());
+
+        try (Cursor<Record1<Integer>> c1 = query(ctx, 2).fetchLazy()) {
+            assertEquals(3, (int) c1.fetchNext().value1());
+
+            // The first statement is checked out, so another one is prepared
+            try (Cursor<Record1<Integer>> c2 = query(ctx, 2).fetchLazy()) {
+                assertEquals(3, (int) c2.fetchNext().value1());
+                assertEquals(4, (int) c1.fetchNext().value1());
+                assertEquals(4, (int) c2.fetchNext().value1());
+            }
+        }
+
+        assertEquals(2, prepared.size());
+        assertNotSame(prepared.get(0), prepared.get(1));
+        assertCounters(ctx, 0, 2, 0);
+
+        // Only one of the two equivalent statements is kept
+        assertTrue(prepared.get(0).isClosed() ^ prepared.get(1).isClosed());
+        query(ctx, 2).fetch();
+        assertCounters(ctx, 1, 2, 0);
+    }
+
+    @Test
+    public void testBatch() {
+        DSLContext ctx = ctx(new Settings());
+
+        assertEquals(2, ctx.batch(ctx.insertInto(T).columns(ID).values((Integer) null)).bind(6).bind(7).execute().length);
+        assertEquals(1, ctx.batch(ctx.insertInto(T).columns(ID).values((Integer) null)).bind(8).execute().length);
+        assertCounters(ctx, 1, 1, 0);
+        assertEquals(List.of(6, 7, 8), query(ctx, 5).fetch(ID));
+    }
+
+    @Test
+    public void testClearStatementCache() throws SQLException {
+        DSLContext ctx = ctx(new Settings());
+        DefaultConnectionProvider provider = (DefaultConnectionProvider) ctx.configuration().connectionProvider();
+
+        query(ctx, 2).fetch();
+        query(ctx, 2).fetch();
+        assertCounters(ctx, 1, 1, 0);
+
+        provider.clearStatementCache();
+        assertTrue(prepared.get(0).isClosed());
+        assertCounters(ctx, 0, 0, 0);
+
+        query(ctx, 2).fetch();
+        assertEquals(2, prepared.size());
+        assertCounters(ctx, 0, 1, 0);
+
+        // Replacing the connection also clears the cache
+        provider.setConnection(connection);
+        assertTrue(prepared.get(1).isClosed());
+        assertCounters(ctx, 0, 0, 0);
+    }
+
+    private DSLContext ctx(Settings settings) {
+        return DSL.using(connection, SQLDialect.H2, settings.withCachePreparedStatementInConnection(true));
+    }
+
+    private static ResultQuery<Record1<Integer>> query(DSLContext ctx, int greaterThan) {
+        return ctx.select(ID).from(T).where(ID.gt(greaterThan)).orderBy(ID);
+    }
+
+    private static void assertCounters(DSLContext ctx, long hits, long misses, long evictions) {
+        DefaultConnectionProvider provider = (DefaultConnectionProvider) ctx.configuration().connectionProvider();
+
+        assertEquals("hits", hits, provider.getStatementCacheHits());
+        assertEquals("misses", misses, provider.getStatementCacheMisses());
+        assertEquals("evictions", evictions, provider.getStatementCacheEvictions());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link VirtualThreadExecutorProvider}.
+ */
+public class VirtualThreadExecutorProviderTest {
+
+    @Test
+    public void testUnlimited() throws Exception {
+        VirtualThreadExecutorProvider provider = new VirtualThreadExecutorProvider();
+        CountDownLatch started = new CountDownLatch(10);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertEquals(0, provider.maxConcurrency());
+
+        for (int i = 0; i < 10; i++)
+            provider.provide().execute(() -> {
+                started.countDown();
+                await(release);
+            });
+
+        // All tasks run at the same time
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        int max = 3;
+        int tasks = 20;
+        VirtualThreadExecutorProvider provider = new VirtualThreadExecutorProvider(max);
+        Executor executor = provider.provide();
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        assertEquals(max, provider.maxConcurrency());
+
+        for (int i = 0; i < tasks; i++)
+            executor.execute(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                threads.add(Thread.currentThread());
+
+                await(release);
+                running.decrementAndGet();
+                done.countDown();
+            });
+
+        // Queued tasks don't occupy a thread before a permit is available
+        Thread.sleep(100);
+        assertEquals(max, running.get());
+        assertEquals(max, threads.size());
+
+        release.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(max, peak.get());
+    }
+
+    @Test
+    public void testSubmissionOrder() throws Exception {
+        Executor executor = new VirtualThreadExecutorProvider(1).provide();
+        List<Integer> order = new ArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            int id = i;
+
+            executor.execute(() -> {
+                await(release);
+
+                synchronized (order) {
+                    order.add(id);
+                }
+
+                done.countDown();
+            });
+        }
+
+        release.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        synchronized (order) {
+            assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Differential tests comparing {@link JSONTokenizer} with {@link JSONParser},
+ * for trees read from a {@link String} and from a {@link Reader} that returns
+ * only a few characters at a time, as well as for {@link ContentHandler}
+ * events.
+ * <p>
+ * Both implementations must accept and reject the same input, and produce the
+ * same values, except for these documented divergences:
+ * <ol>
+ * <li>Integers that exceed the range of {@link Long} are produced as
+ * {@link BigInteger} by {@link JSONTokenizer}, whereas {@link JSONParser}
+ * throws a {@link NumberFormatException}.</li>
+ * <li>A complete document followed by an unterminated string is rejected by
+ * {@link JSONTokenizer}, whereas {@link JSONParser} ignores the string.</li>
+ * </ol>
+ * Error messages and positions are not compared.
+ */
+public class JSONTokenizerTest {
+
+    static final String[] DOCUMENTS = {
+        "[]",
+        "{}",
+        "null",
+        "1",
+        "\"x\"",
+        "",
+        " ",
+        "[1, -2, 3.5, -4.25e3, 5E-1, 007, true, false, null]",
+        "[\"\", \"a\\\"b\", \"\\\\ \\/ \\b \\f \\n \\r \\t \\u00e9\", \"\\x \\u12\"]",
+        "{\"a\": {\"b\": [{\"c\": []}, {}]}, \"d\": [[[]]]}",
+        "[1 2 \"a\"\"b\" truefalse]",
+        "{\"a\" 1 \"b\"::2,,}",
+        "[,1,,2,]",
+        "[1 2]",
+        "[1]x",
+        "[1] [2]",
+        "1 2",
+        "{\"a\":}",
+        "{1:2}",
+        "[1:2]",
+        "{\"a\":1]",
+        "[1-2]",
+        "[1.5.5]",
+        "[-]",
+        "[1.]",
+        "[.5]",
+        "[1e]",
+        "[tru]",
+        "[\"unterminated"
+    };
+
+    static final String[] ATOMS = {
+        "0", "-0", "12", "-345", "007", "1.5", "-2.25e3", "1E5", "3e-2", "1.", ".5", "1e", "1e+", "-",
+        "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+        "true", "false", "null", "tru", "nul",
+        "\"\"", "\"abc\"", "\"a\\\"b\"", "\"\\u00e9\\n\\t\\\\\\/\"", "\"\\x\"", "\"\\u12\"", "\"unterminated", "\"\u00e9\u20ac\"",
+        "{", "}", "[", "]", ",", ":", " ", "\n", "\t", "\r", "\f", "x", "\"v0\"", "\"v1\""
+    };
+
+    @Test
+    public void testDocuments() {
+        Random random = new Random(0);
+
+        for (String document : DOCUMENTS)
+            assertConforms(document, random);
+    }
+
+    @Test
+    public void testFuzzedDocuments() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50000; i++) {
+            StringBuilder sb = new StringBuilder();
+
+            if (random.nextBoolean())
+                sb.append(random.nextBoolean() ? "[" : "{");
+
+            for (int j = random.nextInt(12); j > 0; j--)
+                sb.append(ATOMS[random.nextInt(ATOMS.length)]);
+
+            assertConforms(sb.toString(), random);
+        }
+    }
+
+    @Test
+    public void testValidDocuments() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++)
+            assertConforms(valid(random, 0), random);
+    }
+
+    @Test
+    public void testLongOverflow() throws ParseException {
+        assertEquals(new BigInteger("9223372036854775808"), new JSONTokenizer("9223372036854775808").read(null));
+        assertEquals(List.of(new BigInteger("-9223372036854775809")), new JSONTokenizer("[-9223372036854775809]").read(null));
+        assertEquals(Long.MAX_VALUE, new JSONTokenizer("9223372036854775807").read(null));
+
+        try {
+            new JSONParser().parse("9223372036854775808");
+            fail();
+        }
+        catch (NumberFormatException expected) {}
+    }
+
+    @Test
+    public void testUnterminatedStringAfterDocument() throws ParseException {
+        assertEquals(List.of(1L), new JSONParser().parse("[1]\"abc"));
+
+        try {
+            new JSONTokenizer("[1]\"abc").read(null);
+            fail();
+        }
+        catch (ParseException expected) {
+            assertEquals(3, expected.getPosition());
+        }
+    }
+
+    private static void assertConforms(String document, Random random) {
+        Object expected = tree(() -> new JSONParser().parse(document));
+        Object actual = tree(() -> new JSONTokenizer(document).read(null));
+
+        if (expected instanceof NumberFormatException) {
+            assertLongOverflow(document, actual);
+            return;
+        }
+        else if (!(expected instanceof Exception) && actual instanceof ParseException e) {
+            assertUnterminatedStringAfterDocument(document, expected, e);
+            return;
+        }
+
+        assertEquals(document, outcome(expected), outcome(actual));
+        assertEquals(document, outcome(expected), outcome(tree(() -> new JSONTokenizer(trickle(document, random)).read(null))));
+        assertEquals(document,
+            events(h -> new JSONParser().parse(document, h)),
+            events(h -> new JSONTokenizer(document).parse(h))
+        );
+    }
+
+    /**
+     * Divergence 1: Only integers that exceed the range of {@link Long} may be
+     * read where {@link JSONParser} fails with a {@link NumberFormatException}.
+     */
+    private static void assertLongOverflow(String document, Object actual) {
+        if (!(actual instanceof ParseException))
+            assertTrue(document, containsBigInteger(actual));
+    }
+
+    /**
+     * Divergence 2: {@link JSONTokenizer} may only reject a document that
+     * {@link JSONParser} accepts because of a trailing unterminated string.
+     */
+    private static void assertUnterminatedStringAfterDocument(String document, Object expected, ParseException e) {
+        int position = e.getPosition();
+
+        assertEquals(document, '"', document.charAt(position));
+        assertTrue(document, tree(() -> new JSONTokenizer(document.substring(position)).read(null)) instanceof ParseException);
+        assertEquals(document, expected, tree(() -> new JSONTokenizer(document.substring(0, position)).read(null)));
+    }
+
+    private static boolean containsBigInteger(Object value) {
+        if (value instanceof BigInteger)
+            return true;
+        else if (value instanceof Map<?, ?> m)
+            return m.values().stream().anyMatch(JSONTokenizerTest::containsBigInteger);
+        else if (value instanceof List<?> l)
+            return l.stream().anyMatch(JSONTokenizerTest::containsBigInteger);
+        else
+            return false;
+    }
+
+    private static String valid(Random random, int depth) {
+        switch (random.nextInt(depth > 3 ? 3 : 6)) {
+            case 0:
+                return String.valueOf(random.nextLong() >> random.nextInt(60));
+            case 1:
+                return String.valueOf(random.nextDouble() * 1000);
+            case 2:
+                return "\"s" + random.nextInt(100) + (random.nextBoolean() ? "\\\"x\\u0041" : "") + "\"";
+            case 3: {
+                StringBuilder sb = new StringBuilder("[");
+
+                for (int i = 0, n = random.nextInt(5); i < n; i++)
+                    sb.append(i > 0 ? ", " : "").append(valid(random, depth + 1));
+
+                return sb.append("]").toString();
+            }
+            case 4: {
+                StringBuilder sb = new StringBuilder("{");
+
+                for (int i = 0, n = random.nextInt(5); i < n; i++)
+                    sb.append(i > 0 ? ",\n" : "").append("\"v" + i + "\" : ").append(valid(random, depth + 1));
+
+                return sb.append("}").toString();
+            }
+            default:
+                return random.nextBoolean() ? "null" : "true";
+        }
+    }
+
+    /**
+     * A {@link Reader} that returns only 1 to 3 characters per call.
+     */
+    private static Reader trickle(String document, Random random) {
+        return new Reader() {
+            int position;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                if (position >= document.length())
+                    return -1;
+
+                int n = Math.min(Math.min(len, 1 + random.nextInt(3)), document.length() - position);
+                document.getChars(position, position + n, cbuf, off);
+                position += n;
+                return n;
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+
+    @FunctionalInterface
+    interface Parse {
+        Object parse() throws Exception;
+    }
+
+    @FunctionalInterface
+    interface Events {
+        void parse(ContentHandler handler) throws Exception;
+    }
+
+    /**
+     * The parsed tree, or the exception that was thrown.
+     */
+    private static Object tree(Parse parse) {
+        try {
+            return parse.parse();
+        }
+        catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static Object outcome(Object tree) {
+        return tree instanceof Exception ? "error" : tree;
+    }
+
+    /**
+     * The events of a {@link ContentHandler}, or <code>"error"</code>.
+     */
+    private static List<String> events(Events parse) {
+        List<String> result = new ArrayList<>();
+
+        try {
+            parse.parse(new ContentHandler() {
+                @Override
+                public void startJSON() {
+                    result.add("startJSON");
+                }
+
+                @Override
+                public void endJSON() {
+                    result.add("endJSON");
+                }
+
+                @Override
+                public boolean startObject() {
+                    result.add("{");
+                    return true;
+                }
+
+                @Override
+                public boolean endObject() {
+                    result.add("}");
+                    return true;
+                }
+
+                @Override
+                public boolean startObjectEntry(String key) {
+                    result.add(key + ":");
+                    return true;
+                }
+
+                @Override
+                public boolean endObjectEntry() {
+                    result.add(";");
+                    return true;
+                }
+
+                @Override
+                public boolean startArray() {
+                    result.add("[");
+                    return true;
+                }
+
+                @Override
+                public boolean endArray() {
+                    result.add("]");
+                    return true;
+                }
+
+                @Override
+                public boolean primitive(Object value) {
+                    result.add(value == null ? "null" : value + " (" + value.getClass().getSimpleName() + ")");
+                    return true;
+                }
+            });
+
+            return result;
+        }
+        catch (Exception e) {
+            return List.of("error");
+        }
+    }
+}